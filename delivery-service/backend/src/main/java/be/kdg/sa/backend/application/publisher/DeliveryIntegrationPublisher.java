@@ -15,7 +15,7 @@ public class DeliveryIntegrationPublisher {
         this.deliveryPublisher = deliveryPublisher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void onDeliveryCompleted(DeliveryStatusChangedDomainEvent evt) {
         DeliveryStatusChangedEvent event = new DeliveryStatusChangedEvent(evt.orderId(), evt.status());
         deliveryPublisher.publishDeliveryStatusChanged(event);
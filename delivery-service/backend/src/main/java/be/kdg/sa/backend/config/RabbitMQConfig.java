@@ -1,12 +1,17 @@
 package be.kdg.sa.backend.config;
 
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
+@EnableConfigurationProperties(ListenerTuningProperties.class)
 public class RabbitMQConfig {
     @Bean
     SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
@@ -20,5 +25,22 @@ public class RabbitMQConfig {
     Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
-}
 
+    @Bean
+    ContainerCustomizer<SimpleMessageListenerContainer> listenerTuningCustomizer(ListenerTuningProperties properties) {
+        return container -> {
+            String queue = container.getQueueNames()[0];
+            ListenerTuningProperties.Profile profile = properties.forQueue(queue);
+
+            container.setMaxConcurrentConsumers(profile.effectiveMaxConcurrency());
+            container.setConcurrentConsumers(profile.concurrency());
+            container.setPrefetchCount(profile.prefetch());
+            container.setBatchSize(profile.batchSize());
+            if (profile.virtualThreads()) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(queue + "-");
+                executor.setVirtualThreads(true);
+                container.setTaskExecutor(executor);
+            }
+        };
+    }
+}
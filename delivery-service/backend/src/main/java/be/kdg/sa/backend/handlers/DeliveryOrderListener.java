@@ -5,8 +5,12 @@ import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.domain.Address;
 import be.kdg.sa.backend.domain.delivery.Delivery;
 import be.kdg.sa.backend.events.DeliveryOrderEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,13 +18,22 @@ import org.springframework.stereotype.Component;
 public class DeliveryOrderListener {
 
     private final DeliveryService deliveryService;
+    private final Inbox inbox;
 
-    public DeliveryOrderListener(DeliveryService deliveryService) {
+    public DeliveryOrderListener(DeliveryService deliveryService, Inbox inbox) {
         this.deliveryService = deliveryService;
+        this.inbox = inbox;
     }
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_DELIVERY_NEW_DELIVERY)
-    public void handleNewDelivery(DeliveryOrderEvent event) {
+    @Transactional
+    public void handleNewDelivery(DeliveryOrderEvent event,
+                                  @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_DELIVERY_NEW_DELIVERY, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         log.info("Received DeliveryOrderEvent for orderId={}", event.orderId());
 
         String restaurantBus = event.restaurantAddress().busNumber();
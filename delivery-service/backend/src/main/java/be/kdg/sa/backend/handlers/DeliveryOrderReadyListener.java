@@ -3,8 +3,12 @@ package be.kdg.sa.backend.handlers;
 import be.kdg.sa.backend.application.services.delivery.DeliveryService;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.events.OrderReadyForDeliveryEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
@@ -14,13 +18,22 @@ import java.util.Objects;
 public class DeliveryOrderReadyListener {
 
     private final DeliveryService deliveryService;
+    private final Inbox inbox;
 
-    public DeliveryOrderReadyListener(DeliveryService deliveryService) {
+    public DeliveryOrderReadyListener(DeliveryService deliveryService, Inbox inbox) {
         this.deliveryService = Objects.requireNonNull(deliveryService, "deliveryService must not be null");
+        this.inbox = inbox;
     }
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_DELIVERY_ORDER_READY)
-    public void handleOrderReady(OrderReadyForDeliveryEvent event) {
+    @Transactional
+    public void handleOrderReady(OrderReadyForDeliveryEvent event,
+                                 @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_DELIVERY_ORDER_READY, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         log.info("Order ready for delivery received: orderId={}, restaurantId={}",
                 event.orderId(), event.restaurantId());
 
@@ -0,0 +1,108 @@
+package be.kdg.sa.backend.infrastructure.messaging;
+
+import be.kdg.sa.backend.config.ListenerTuningProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes each listener container for the backlog it currently sees: by Little's law a queue of {@code depth}
+ * messages at {@code latency} seconds each needs {@code depth * latency / targetDrainTime} consumers to be
+ * drained in time. The result is clamped to the queue's profile and applied as the container's consumer floor;
+ * the container's own idle detection still trims consumers above it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "messaging.listeners.autoscaling.enabled", havingValue = "true")
+public class ListenerAutoscaler {
+    private static final String LISTENER_TIMER = "spring.rabbitmq.listener";
+
+    private final RabbitListenerEndpointRegistry registry;
+    private final AmqpAdmin admin;
+    private final MeterRegistry meterRegistry;
+    private final ListenerTuningProperties properties;
+    private final Map<String, Sample> lastSamples = new ConcurrentHashMap<>();
+    private final Map<String, Integer> consumers = new ConcurrentHashMap<>();
+
+    public ListenerAutoscaler(RabbitListenerEndpointRegistry registry,
+                              AmqpAdmin admin,
+                              MeterRegistry meterRegistry,
+                              ListenerTuningProperties properties) {
+        this.registry = registry;
+        this.admin = admin;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.listeners.autoscaling.interval:PT10S}")
+    public void rescale() {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            if (container instanceof SimpleMessageListenerContainer simple && simple.isRunning()) {
+                try {
+                    rescale(simple);
+                } catch (RuntimeException e) {
+                    log.warn("Could not rescale listener {}: {}", simple.getListenerId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void rescale(SimpleMessageListenerContainer container) {
+        String queue = container.getQueueNames()[0];
+        ListenerTuningProperties.Profile profile = properties.forQueue(queue);
+        if (profile.effectiveMaxConcurrency() <= profile.concurrency()) return;
+
+        QueueInformation info = admin.getQueueInfo(queue);
+        Double latency = windowedLatencySeconds(container.getListenerId());
+        if (info == null || (latency == null && info.getMessageCount() > 0)) return;
+
+        int wanted = 0;
+        if (info.getMessageCount() > 0) {
+            double drainSeconds = properties.autoscaling().targetDrainTime().toMillis() / 1000.0;
+            wanted = (int) Math.ceil(info.getMessageCount() * latency / drainSeconds);
+        }
+        int target = Math.clamp(wanted, profile.concurrency(), profile.effectiveMaxConcurrency());
+
+        Integer current = consumers.getOrDefault(queue, profile.concurrency());
+        if (target != current) {
+            log.info("Scaling consumers of {} from {} to {} (depth={}, latency={}s)",
+                    queue, current, target, info.getMessageCount(), latency);
+            container.setConcurrentConsumers(target);
+            consumers.put(queue, target);
+        }
+    }
+
+    /**
+     * Mean handler latency since the previous tick, or {@code null} when nothing was processed in between.
+     */
+    private Double windowedLatencySeconds(String listenerId) {
+        long count = 0;
+        double totalSeconds = 0;
+        for (Timer timer : meterRegistry.find(LISTENER_TIMER).tag("listener.id", listenerId).timers()) {
+            count += timer.count();
+            totalSeconds += timer.totalTime(TimeUnit.SECONDS);
+        }
+
+        Sample current = new Sample(count, totalSeconds);
+        Sample previous = lastSamples.put(listenerId, current);
+        long processed = previous != null ? current.count() - previous.count() : current.count();
+        if (processed <= 0) return null;
+
+        double spent = previous != null ? current.totalSeconds() - previous.totalSeconds() : current.totalSeconds();
+        return spent / processed;
+    }
+
+    private record Sample(long count, double totalSeconds) {}
+}
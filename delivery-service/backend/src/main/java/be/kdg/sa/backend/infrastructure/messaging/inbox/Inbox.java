@@ -0,0 +1,83 @@
+package be.kdg.sa.backend.infrastructure.messaging.inbox;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Idempotent-consumer inbox keyed on the AMQP message id. The id is recorded in the handler's transaction,
+ * so it only counts as processed when the handler's work commits. Committed ids are also kept in a bounded
+ * in-memory cache, so a redelivery is normally rejected without touching the database.
+ */
+@Slf4j
+@Component
+public class Inbox {
+    private final JpaInboxMessageRepository inbox;
+    private final Cache<String, Boolean> processed;
+    private final Duration retention;
+    private final Counter cacheDuplicates;
+    private final Counter storeDuplicates;
+
+    public Inbox(JpaInboxMessageRepository inbox,
+                 MeterRegistry meterRegistry,
+                 @Value("${inbox.cache.maximum-size:100000}") long maximumSize,
+                 @Value("${inbox.retention:7d}") Duration retention) {
+        this.inbox = inbox;
+        this.retention = retention;
+        this.processed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(retention)
+                .build();
+        this.cacheDuplicates = Counter.builder("inbox.duplicates").tag("source", "cache").register(meterRegistry);
+        this.storeDuplicates = Counter.builder("inbox.duplicates").tag("source", "store").register(meterRegistry);
+    }
+
+    /**
+     * Claims {@code messageId} for {@code consumer}. Returns {@code false} when the message was already processed,
+     * in which case the handler should acknowledge it without doing any work.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public boolean tryProcess(String consumer, String messageId) {
+        if (messageId == null) return true;
+
+        String key = consumer + ":" + messageId;
+        if (processed.getIfPresent(key) != null) {
+            cacheDuplicates.increment();
+            return false;
+        }
+
+        if (inbox.insertIfAbsent(consumer, messageId, Instant.now()) == 0) {
+            storeDuplicates.increment();
+            processed.put(key, Boolean.TRUE);
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                processed.put(key, Boolean.TRUE);
+            }
+        });
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${inbox.purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        int removed = inbox.deleteProcessedBefore(Instant.now().minus(retention));
+        if (removed > 0) {
+            log.info("Purged {} inbox entries older than {}", removed, retention);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package be.kdg.sa.backend.infrastructure.messaging.inbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Entity
+@Table(name = "inbox_messages", indexes = {
+        @Index(name = "idx_inbox_messages_processed_at", columnList = "processed_at")
+})
+public class JpaInboxMessageEntity {
+    @EmbeddedId
+    private JpaInboxMessageId id;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    protected JpaInboxMessageEntity() {}
+
+    public JpaInboxMessageEntity(JpaInboxMessageId id, Instant processedAt) {
+        this.id = id;
+        this.processedAt = processedAt;
+    }
+}
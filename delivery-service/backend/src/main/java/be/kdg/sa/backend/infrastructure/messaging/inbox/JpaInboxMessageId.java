@@ -0,0 +1,35 @@
+package be.kdg.sa.backend.infrastructure.messaging.inbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+
+import java.util.Objects;
+
+@Embeddable
+@Getter
+public class JpaInboxMessageId {
+    @Column(name = "consumer")
+    private String consumer;
+    @Column(name = "message_id")
+    private String messageId;
+
+    protected JpaInboxMessageId() {}
+
+    public JpaInboxMessageId(String consumer, String messageId) {
+        this.consumer = consumer;
+        this.messageId = messageId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        JpaInboxMessageId that = (JpaInboxMessageId) o;
+        return Objects.equals(consumer, that.consumer) && Objects.equals(messageId, that.messageId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(consumer, messageId);
+    }
+}
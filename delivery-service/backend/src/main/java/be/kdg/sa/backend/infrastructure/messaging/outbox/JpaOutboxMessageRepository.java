@@ -0,0 +1,51 @@
+package be.kdg.sa.backend.infrastructure.messaging.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JpaOutboxMessageRepository extends JpaRepository<JpaOutboxMessageEntity, UUID> {
+    @Query(value = """
+                    select *
+                    from outbox_messages
+                    where parked_at is null
+                      and (claimed_until is null or claimed_until < :now)
+                    order by created_at
+                    limit :limit
+                    for update skip locked
+            """, nativeQuery = true)
+    List<JpaOutboxMessageEntity> lockNextBatch(Instant now, int limit);
+
+    @Modifying
+    @Query(value = """
+                    update JpaOutboxMessageEntity m
+                    set m.claimedUntil = null
+                    where m.id in :ids
+            """)
+    int release(Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = """
+                    update JpaOutboxMessageEntity m
+                    set m.claimedUntil = null, m.parkedAt = :parkedAt
+                    where m.id in :ids
+            """)
+    int park(Collection<UUID> ids, Instant parkedAt);
+
+    long countByParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+
+    @Query(value = """
+                    select min(m.createdAt)
+                    from JpaOutboxMessageEntity m
+                    where m.parkedAt is null
+            """)
+    Optional<Instant> findOldestCreatedAt();
+}
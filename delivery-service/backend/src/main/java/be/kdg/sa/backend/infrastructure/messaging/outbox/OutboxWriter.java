@@ -0,0 +1,43 @@
+package be.kdg.sa.backend.infrastructure.messaging.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Stores an integration event in the outbox as part of the caller's transaction; {@link OutboxRelay} publishes it after commit.
+ */
+@Component
+public class OutboxWriter {
+    private final EntityManager entityManager;
+    private final Jackson2JsonMessageConverter messageConverter;
+
+    public OutboxWriter(EntityManager entityManager, Jackson2JsonMessageConverter messageConverter) {
+        this.entityManager = entityManager;
+        this.messageConverter = messageConverter;
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(String exchange, String routingKey, String correlationId, Object event) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        String typeId = message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+        entityManager.persist(new JpaOutboxMessageEntity(
+                UUID.randomUUID(),
+                exchange,
+                routingKey,
+                correlationId,
+                typeId,
+                new String(message.getBody(), StandardCharsets.UTF_8),
+                Instant.now()
+        ));
+    }
+}
@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "be.kdg.sa"
@@ -34,6 +35,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
     implementation("org.springframework.boot:spring-boot-starter-amqp")
     implementation("com.mollie:mollie:0.21.6")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
     testImplementation("org.springframework.security:spring-security-test")
     testImplementation("org.springframework.amqp:spring-rabbit-test")
     compileOnly("org.projectlombok:lombok")
@@ -41,6 +46,7 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     runtimeOnly("org.postgresql:postgresql")
+    testRuntimeOnly("com.h2database:h2")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     implementation("org.jmolecules.integrations:jmolecules-starter-ddd:0.29.0")
 }
@@ -49,5 +55,69 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    profilers = listOf("gc")
+    // benchmarks that need a live broker or a running service stay out of the default (baseline) run, as does the
+    // Mollie request mapping, whose cost moves with SDK upgrades rather than with our code; run them by naming them
+    // in -PjmhIncludes
+    val selected = (findProperty("jmhIncludes") as String?)?.split(",")
+    if (selected != null) includes = selected
+    else excludes = listOf("RabbitMqPublishBenchmark", "CheckoutPipelineBenchmark", "OrderBenchmark\\.toPaymentRequestLines")
+}
+
+// Benchmark baselines live in jmh-baselines/ next to this file. Record one with
+// `./gradlew jmh jmhSaveBaseline` and check a change against it with `./gradlew jmh jmhCompareBaseline`.
+// A result without a baseline entry fails the comparison, so a new benchmark has to be recorded before it counts.
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("jmh-baselines/${findProperty("jmhBaseline") ?: "baseline"}.json")
+
+tasks.register<Copy>("jmhSaveBaseline") {
+    group = "benchmark"
+    description = "Stores the last JMH results as the baseline."
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+    rename { jmhBaseline.asFile.name }
+}
+
+tasks.register("jmhCompareBaseline") {
+    group = "benchmark"
+    description = "Fails when a benchmark is slower than the baseline by more than -PjmhTolerance percent (default 10)."
+    doLast {
+        val tolerance = (findProperty("jmhTolerance") as String?)?.toDouble() ?: 10.0
+
+        @Suppress("UNCHECKED_CAST")
+        fun scores(file: File): Map<String, Pair<String, Double>> =
+            (groovy.json.JsonSlurper().parse(file) as List<Map<String, Any?>>).associate { result ->
+                val params = (result["params"] as Map<String, Any?>?).orEmpty().entries.joinToString(",") { "${it.key}=${it.value}" }
+                val metric = result["primaryMetric"] as Map<String, Any?>
+                "${result["benchmark"]}($params)" to (result["mode"] as String to (metric["score"] as Number).toDouble())
+            }
+
+        val baseline = scores(jmhBaseline.asFile)
+        val current = scores(jmhResults.get().asFile)
+        val regressions = current.mapNotNull { (name, result) ->
+            val (mode, score) = result
+            val reference = baseline[name]?.second ?: return@mapNotNull null
+            // throughput gets worse when it drops, every other mode measures time and gets worse when it rises
+            val change = if (mode == "thrpt") (reference - score) / reference * 100 else (score - reference) / reference * 100
+            logger.lifecycle(String.format("%-90s %12.3f -> %12.3f (%+.1f%%)", name, reference, score, change))
+            if (change > tolerance) name else null
+        }
+
+        val missing = current.keys - baseline.keys
+        missing.forEach { logger.error("$it has no entry in ${jmhBaseline.asFile.name}") }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("${regressions.size} benchmark(s) regressed by more than $tolerance%: ${regressions.joinToString()}")
+        }
+        if (missing.isNotEmpty()) {
+            throw GradleException("${missing.size} benchmark(s) have no baseline to compare with; record them with jmhSaveBaseline")
+        }
+    }
+}
+
 
 val webAppDir="./src/main/resources/static"
\ No newline at end of file
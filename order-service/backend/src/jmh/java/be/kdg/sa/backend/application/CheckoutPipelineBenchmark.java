@@ -0,0 +1,108 @@
+package be.kdg.sa.backend.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load driver for the payment pipeline. Drives complete checkouts (cart, dish, customer details, payment) against
+ * a running order-service started with {@code payment.provider=stub}, so nothing reaches Mollie.
+ * {@code checkout} reports orders per minute up to the created payment; {@code checkoutUntilPlaced} also waits
+ * for the stub's webhook to place the order. Point {@code restaurantId} and {@code dishId} at a replicated dish.
+ * <p>
+ * Start the service with {@code --spring.profiles.active=loadtest}, which pins the stub latencies and the pool
+ * sizes, and record a run with
+ * {@code ./gradlew jmh jmhSaveBaseline -PjmhIncludes=CheckoutPipelineBenchmark -PjmhBaseline=checkout-pipeline}.
+ * The baseline is only comparable between runs made with the same profile, client thread count and hardware.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 1, time = 30)
+@Measurement(iterations = 3, time = 60)
+@Fork(1)
+@Threads(64)
+public class CheckoutPipelineBenchmark {
+
+    private static final Duration PLACED_TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"http://localhost:8081/api/orders"})
+    public String baseUrl;
+
+    @Param({"00000000-0000-0000-0000-000000000001"})
+    public String restaurantId;
+
+    @Param({"00000000-0000-0000-0000-000000000001"})
+    public String dishId;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient http;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        http.close();
+    }
+
+    @Benchmark
+    public String checkout() throws IOException, InterruptedException {
+        return pay();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String checkoutUntilPlaced() throws IOException, InterruptedException {
+        String orderId = pay();
+        long deadline = System.nanoTime() + PLACED_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            String status = send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + orderId)).GET()).get("status").asText();
+            if (!"PAYMENT_IN_PROGRESS".equals(status)) return status;
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Order " + orderId + " was not placed within " + PLACED_TIMEOUT);
+    }
+
+    private String pay() throws IOException, InterruptedException {
+        String orderId = send(json("", Map.of())).get("id").asText();
+        send(json("/" + orderId + "/dishes", Map.of("dishId", dishId, "restaurantId", restaurantId, "quantity", 1)));
+        send(json("/" + orderId + "/customer-details", Map.of(
+                "name", "Load Test",
+                "email", "load@test.local",
+                "addressDto", Map.of("street", "Nationalestraat", "houseNumber", "5", "city", "Antwerpen",
+                        "country", "Belgium", "postalCode", "2000"))));
+        send(json("/" + orderId + "/create-payment", Map.of()));
+        return orderId;
+    }
+
+    private HttpRequest.Builder json(String path, Map<String, ?> body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(response.request().uri() + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
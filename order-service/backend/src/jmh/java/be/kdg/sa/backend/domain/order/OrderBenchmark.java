@@ -0,0 +1,74 @@
+package be.kdg.sa.backend.domain.order;
+
+import be.kdg.sa.backend.domain.restaurant.Dish;
+import com.mollie.mollie.models.components.PaymentRequestLines;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the in-memory cart operations as the cart grows: finding the line for a dish is a linear search and every
+ * change recomputes the total over all lines, so building a cart of {@code lines} dishes is quadratic.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=OrderBenchmark}; the gc profiler reports bytes allocated per operation.
+ * {@link #toPaymentRequestLines()} is left out of the default baseline run and only runs when named that way.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    public int lines;
+
+    private List<Dish> dishes;
+    private Dish lastDish;
+    private Order cart;
+    private Order checkout;
+    private Order paid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dishes = OrderFixtures.dishes(lines);
+        lastDish = dishes.getLast();
+        paid = OrderFixtures.paid(dishes);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCarts() {
+        // addDish keeps growing the quantity of the last line, so start every iteration from a fresh cart
+        cart = OrderFixtures.cart(dishes);
+        checkout = OrderFixtures.cart(dishes);
+    }
+
+    @Benchmark
+    public Order buildCart() {
+        return OrderFixtures.cart(dishes);
+    }
+
+    @Benchmark
+    public Order addDishToLastLine() {
+        cart.addDish(lastDish.dishId(), OrderFixtures.RESTAURANT, lastDish, 1, null);
+        return cart;
+    }
+
+    @Benchmark
+    public Order setCustomerDetails() {
+        // recalculates the total price of every line
+        checkout.setCustomerDetails("Bench Mark", "bench@example.com", OrderFixtures.ADDRESS);
+        return checkout;
+    }
+
+    @Benchmark
+    public List<PaymentRequestLines> toPaymentRequestLines() {
+        return paid.toPaymentRequestLines();
+    }
+
+    @Benchmark
+    public String totalPriceString() {
+        return paid.getTotalPriceString();
+    }
+}
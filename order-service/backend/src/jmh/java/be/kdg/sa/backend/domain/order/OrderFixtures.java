@@ -0,0 +1,47 @@
+package be.kdg.sa.backend.domain.order;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.payment.MolliePaymentId;
+import be.kdg.sa.backend.domain.payment.Payment;
+import be.kdg.sa.backend.domain.restaurant.Address;
+import be.kdg.sa.backend.domain.restaurant.Dish;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic orders for the benchmarks: the same seed always yields the same dishes and prices.
+ */
+public final class OrderFixtures {
+    public static final RestaurantId RESTAURANT = new RestaurantId(new UUID(0, 1));
+    public static final Address ADDRESS = new Address("Nationalestraat", "5", null, "Belgium", "Antwerpen", "2000");
+
+    private OrderFixtures() {
+    }
+
+    public static List<Dish> dishes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Dish(new DishId(new UUID(1, i)), "Dish " + i, "Benchmark dish " + i,
+                        Money.ofCents(450 + (i * 37L) % 2000), i % 2 == 0, i % 4 == 0, i % 3 == 0,
+                        "MAIN", "AVAILABLE"))
+                .toList();
+    }
+
+    public static Order cart(List<Dish> dishes) {
+        Order order = Order.createCart();
+        for (Dish dish : dishes) {
+            order.addDish(dish.dishId(), RESTAURANT, dish, 1 + dish.name().length() % 3, null);
+        }
+        return order;
+    }
+
+    public static Order paid(List<Dish> dishes) {
+        Order order = cart(dishes);
+        order.setCustomerDetails("Bench Mark", "bench@example.com", ADDRESS);
+        order.assignPayment(new Payment(new MolliePaymentId("tr_benchmark"), "https://example.com/checkout/tr_benchmark"));
+        return order;
+    }
+}
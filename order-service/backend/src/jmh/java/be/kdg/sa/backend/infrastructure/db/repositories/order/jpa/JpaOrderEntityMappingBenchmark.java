@@ -0,0 +1,48 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping between the order aggregate and its JPA entity, without Hibernate in the way: {@code fromDomain} runs on
+ * every insert, {@code toDomain} on every load and {@code updateFromDomain} diffs the lines on every save.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpaOrderEntityMappingBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    public int lines;
+
+    private Order order;
+    private JpaOrderEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = OrderFixtures.paid(OrderFixtures.dishes(lines));
+        entity = JpaOrderEntity.fromDomain(order);
+    }
+
+    @Benchmark
+    public JpaOrderEntity fromDomain() {
+        return JpaOrderEntity.fromDomain(order);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public JpaOrderEntity updateFromDomain() {
+        entity.updateFromDomain(order);
+        return entity;
+    }
+}
@@ -0,0 +1,110 @@
+package be.kdg.sa.backend.infrastructure.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Throughput of a dish lookup against a local stub of restaurant-service, comparing the default
+ * RestClient with the pooled and HTTP/2 factories. Run with {@code ./gradlew jmh}.
+ * The stub speaks HTTP/1.1 only, so the http2 variant measures the JDK client after its h2c fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(32)
+public class ServiceHttpClientBenchmark {
+
+    @Param({"default", "pooled", "http2"})
+    public String client;
+
+    @Param({"12"})
+    public int dishes;
+
+    private HttpServer server;
+    private ServiceHttpClientFactory factory;
+    private RestClient restClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] json = dishesJson(dishes).getBytes(StandardCharsets.UTF_8);
+        byte[] gzipped = gzip(json);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/restaurants/", exchange -> {
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean compress = acceptEncoding != null && acceptEncoding.contains("gzip");
+            byte[] body = compress ? gzipped : json;
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (compress) exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/";
+        factory = new ServiceHttpClientFactory(new SimpleMeterRegistry(), client, 64, 256,
+                Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5), true);
+
+        RestClient.Builder builder = RestClient.builder().baseUrl(baseUrl);
+        if (!"default".equals(client)) {
+            builder.requestFactory(factory.create("benchmark", Duration.ofSeconds(1), Duration.ofSeconds(2)));
+        }
+        if (factory.isHttp2()) {
+            builder.requestInterceptor(new GzipClientHttpRequestInterceptor());
+        }
+        restClient = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.destroy();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String lookupDishes() {
+        return restClient.get()
+                .uri("restaurants/{id}/dishes/lookup?ids={ids}", UUID.randomUUID(), UUID.randomUUID())
+                .retrieve()
+                .body(String.class);
+    }
+
+    private static String dishesJson(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> """
+                        {"id":"%s","name":"Dish %d","description":"A reasonably long description of dish %d","price":12.5,\
+                        "vegetarian":false,"vegan":false,"glutenFree":true,"category":"MAIN","status":"AVAILABLE"}"""
+                        .formatted(UUID.randomUUID(), i, i))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,99 @@
+package be.kdg.sa.backend.infrastructure.messaging;
+
+import be.kdg.sa.backend.config.MoneyJsonModule;
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.events.OrderCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Messages per second published with confirms against a local broker (the docker-compose RabbitMQ on
+ * localhost:5672), one confirm round trip per message versus one per batch. Record its numbers with
+ * {@code ./gradlew jmh jmhSaveBaseline -PjmhIncludes=RabbitMqPublishBenchmark -PjmhBaseline=rabbitmq-publish}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+public class RabbitMqPublishBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String QUEUE = "benchmark.publish";
+
+    @Param({"SINGLE", "BATCHED"})
+    public RabbitMqBatchPublisher.Mode mode;
+
+    private CachingConnectionFactory connectionFactory;
+    private RabbitAdmin admin;
+    private RabbitMqBatchPublisher publisher;
+    private byte[] body;
+    private MessageProperties properties;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new CachingConnectionFactory("localhost", 5672);
+        connectionFactory.setUsername("user");
+        connectionFactory.setPassword("password");
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+        connectionFactory.setPublisherReturns(true);
+        connectionFactory.setChannelCacheSize(25);
+
+        admin = new RabbitAdmin(connectionFactory);
+        admin.declareQueue(QueueBuilder.nonDurable(QUEUE).autoDelete().maxLength(10_000).build());
+
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMandatory(true);
+        publisher = new RabbitMqBatchPublisher(rabbitTemplate, new SimpleMeterRegistry(), mode, Duration.ofSeconds(5));
+
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter(new ObjectMapper().registerModule(new MoneyJsonModule()));
+        Message sample = converter.toMessage(sampleEvent(), new MessageProperties());
+        body = sample.getBody();
+        properties = sample.getMessageProperties();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        admin.deleteQueue(QUEUE);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void publishBatch() {
+        publisher.publish(IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new RabbitMqBatchPublisher.Outgoing("", QUEUE, MessageBuilder.withBody(body)
+                        .andProperties(MessagePropertiesBuilder.fromClonedProperties(properties).build())
+                        .setMessageId(UUID.randomUUID().toString())
+                        .build()))
+                .toList());
+    }
+
+    private static OrderCreatedEvent sampleEvent() {
+        OrderCreatedEvent.Address address = new OrderCreatedEvent.Address("Nationalestraat", "5", "Belgium", "Antwerpen", "2000");
+        OrderCreatedEvent.Customer customer = new OrderCreatedEvent.Customer("Jane Doe", "jane@example.com", address);
+        List<OrderCreatedEvent.OrderLine> lines = IntStream.range(0, 3)
+                .mapToObj(i -> new OrderCreatedEvent.OrderLine(UUID.randomUUID(), "Dish " + i, 2, Money.ofCents(1250), Money.ofCents(2500)))
+                .toList();
+        return new OrderCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), customer, lines, LocalDateTime.now().toString(), Money.ofCents(7500));
+    }
+}
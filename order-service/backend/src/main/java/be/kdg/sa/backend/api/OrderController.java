@@ -1,22 +1,35 @@
 package be.kdg.sa.backend.api;
 
 import be.kdg.sa.backend.api.dto.order.AddDishDto;
+import be.kdg.sa.backend.api.dto.order.DishOrderSummaryDto;
 import be.kdg.sa.backend.api.dto.order.OrderDto;
+import be.kdg.sa.backend.api.dto.order.OrderPageDto;
 import be.kdg.sa.backend.api.dto.order.PlaceOrderDto;
 import be.kdg.sa.backend.application.OrderService;
 import be.kdg.sa.backend.application.PaymentService;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderSummarySlice;
+import be.kdg.sa.backend.domain.order.OrderStatus;
 import be.kdg.sa.backend.domain.restaurant.Address;
 import be.kdg.sa.backend.domain.restaurant.DishId;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.annotation.Nullable;
 import jakarta.annotation.security.PermitAll;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -25,43 +38,99 @@ import java.util.UUID;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final OrderService orders;
     private final PaymentService payments;
+    private final OrderStatusStream statusStream;
+    private final ObjectMapper objectMapper;
 
-    public OrderController(final OrderService orders, final PaymentService payments) {
+    public OrderController(final OrderService orders, final PaymentService payments, final OrderStatusStream statusStream, final ObjectMapper objectMapper) {
         this.orders = orders;
         this.payments = payments;
+        this.statusStream = statusStream;
+        this.objectMapper = objectMapper;
     }
 
-    @GetMapping({"/", ""})
+    @GetMapping(value = {"/", ""}, params = "dishId")
     @PreAuthorize("permitAll()")
-    public ResponseEntity<List<OrderDto>> findAll(
-            @RequestParam(name = "dishId", required = false) @Nullable UUID dishId
-    ) {
-        boolean hasDishId = (dishId != null);
-
-        List<Order> orders;
-        if (hasDishId) {
-            orders = this.orders.findByDishId(new DishId(dishId));
-        } else {
-            orders = this.orders.findAll();
-        }
-
-        List<OrderDto> orderDtos = orders.stream()
+    public ResponseEntity<List<OrderDto>> findByDish(@RequestParam(name = "dishId") final UUID dishId) {
+        List<OrderDto> orderDtos = orders.findByDishId(new DishId(dishId)).stream()
                 .map(OrderDto::from)
                 .toList();
 
         return ResponseEntity.ok(orderDtos);
     }
 
+    @GetMapping(value = {"/", ""}, params = {"dishId", "view=summary"})
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<DishOrderSummaryDto>> findSummariesByDish(@RequestParam(name = "dishId") final UUID dishId) {
+        List<DishOrderSummaryDto> summaries = orders.findSummariesByDishId(new DishId(dishId)).stream()
+                .map(DishOrderSummaryDto::from)
+                .toList();
+
+        return ResponseEntity.ok(summaries);
+    }
+
+    @GetMapping({"/", ""})
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<OrderPageDto> findPlaced(
+            @RequestParam(name = "status", required = false) @Nullable OrderStatus status,
+            @RequestParam(name = "restaurantId", required = false) @Nullable UUID restaurantId,
+            @RequestParam(name = "cursor", required = false) @Nullable String cursor,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit
+    ) {
+        final OrderSummarySlice slice = orders.findPlaced(
+                status,
+                restaurantId != null ? new RestaurantId(restaurantId) : null,
+                OrderPageDto.decode(cursor),
+                Math.clamp(limit, 1, MAX_PAGE_SIZE)
+        );
+        return ResponseEntity.ok(OrderPageDto.from(slice));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(name = "status", required = false) @Nullable OrderStatus status,
+            @RequestParam(name = "restaurantId", required = false) @Nullable UUID restaurantId
+    ) {
+        final RestaurantId restaurant = restaurantId != null ? new RestaurantId(restaurantId) : null;
+        final ObjectWriter writer = objectMapper.writerFor(OrderDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                orders.streamPlaced(status, restaurant, order -> {
+                    try {
+                        writer.writeValue(generator, OrderDto.from(order));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("permitAll()")
     public ResponseEntity<OrderDto> find(@PathVariable("id") final UUID id) {
-        final Order order = orders.findById(new OrderId(id));
-        final OrderDto orderDto = OrderDto.from(order);
+        final OrderDto orderDto = OrderDto.from(orders.findSummary(new OrderId(id)));
         return ResponseEntity.ok(orderDto);
     }
 
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("permitAll()")
+    public SseEmitter events(@PathVariable("id") final UUID id,
+                             @RequestHeader(name = "Last-Event-ID", required = false) @Nullable Long lastEventId) {
+        return statusStream.subscribe(new OrderId(id), lastEventId);
+    }
+
     @PostMapping({"/", ""})
     @PreAuthorize("permitAll()")
     public ResponseEntity<OrderDto> create() {
@@ -120,9 +189,9 @@ public class OrderController {
             @RequestParam(value = "order-id", required = false) UUID orderId) {
 
         if (paymentId != null) {
-            payments.handleWebhook(paymentId);
+            payments.acceptWebhook(paymentId);
         } else if (orderId != null) {
-            payments.handleWebhook(new OrderId(orderId));
+            payments.acceptWebhook(new OrderId(orderId));
         } else {
             return ResponseEntity.badRequest().build();
         }
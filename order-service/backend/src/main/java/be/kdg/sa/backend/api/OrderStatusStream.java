@@ -0,0 +1,190 @@
+package be.kdg.sa.backend.api;
+
+import be.kdg.sa.backend.api.dto.order.OrderStatusEventDto;
+import be.kdg.sa.backend.application.OrderService;
+import be.kdg.sa.backend.application.events.OrderSavedDomainEvent;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes order status changes to Server-Sent Event subscribers, keyed by order.
+ * <p>
+ * The event id is the order version, so a client reconnecting with {@code Last-Event-ID} only receives the current
+ * status when it changed while it was away. Changes committed by this instance are pushed right after commit; the
+ * heartbeat also re-reads the summaries of every watched order, which picks up changes made by other instances.
+ * Writes happen on virtual threads, so a slow client never holds up the committing thread or the other subscribers.
+ */
+@Slf4j
+@Component
+public class OrderStatusStream {
+    private static final Set<OrderStatus> FINAL = Set.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED, OrderStatus.REJECTED);
+    private static final int SWEEP_CHUNK_SIZE = 500;
+
+    private final OrderService orders;
+    private final Duration timeout;
+    private final Duration reconnect;
+    private final Map<OrderId, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OrderStatusStream(OrderService orders,
+                             @Value("${order-events.timeout:30m}") Duration timeout,
+                             @Value("${order-events.reconnect:3s}") Duration reconnect,
+                             MeterRegistry meterRegistry) {
+        this.orders = orders;
+        this.timeout = timeout;
+        this.reconnect = reconnect;
+
+        Gauge.builder("order.events.subscribers", open, AtomicInteger::get)
+                .description("Open order status streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(OrderId orderId, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(orderId, new SseEmitter(timeout.toMillis()), lastEventId != null ? lastEventId : -1);
+        subscriber.emitter.onCompletion(() -> unregister(subscriber));
+        subscriber.emitter.onTimeout(() -> unregister(subscriber));
+        subscriber.emitter.onError(e -> unregister(subscriber));
+
+        // Register before reading, so a change committed in between is pushed rather than missed.
+        register(subscriber);
+        try {
+            subscriber.send(OrderStatusEventDto.from(orders.findSummary(orderId)));
+        } catch (RuntimeException e) {
+            unregister(subscriber);
+            throw e;
+        }
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderSavedDomainEvent event) {
+        if (!event.statusChanged()) return;
+
+        Set<Subscriber> watching = subscribers.get(event.order().getId());
+        if (watching == null) return;
+
+        OrderStatusEventDto status = OrderStatusEventDto.from(event.order(), event.version());
+        watching.forEach(subscriber -> senders.execute(() -> subscriber.send(status)));
+    }
+
+    @Scheduled(fixedDelayString = "${order-events.heartbeat:PT15S}")
+    void heartbeat() {
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> senders.execute(subscriber::ping)));
+
+        List<OrderId> watched = new ArrayList<>(subscribers.keySet());
+        for (int from = 0; from < watched.size(); from += SWEEP_CHUNK_SIZE) {
+            orders.findSummaries(watched.subList(from, Math.min(from + SWEEP_CHUNK_SIZE, watched.size())))
+                    .forEach(summary -> {
+                        Set<Subscriber> watching = subscribers.get(summary.id());
+                        if (watching == null) return;
+                        OrderStatusEventDto status = OrderStatusEventDto.from(summary);
+                        watching.forEach(subscriber -> senders.execute(() -> subscriber.send(status)));
+                    });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void register(Subscriber subscriber) {
+        subscribers.compute(subscriber.orderId, (id, watching) -> {
+            if (watching == null) watching = ConcurrentHashMap.newKeySet();
+            watching.add(subscriber);
+            return watching;
+        });
+        open.incrementAndGet();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        boolean[] removed = {false};
+        subscribers.computeIfPresent(subscriber.orderId, (id, watching) -> {
+            removed[0] = watching.remove(subscriber);
+            return watching.isEmpty() ? null : watching;
+        });
+        if (removed[0]) open.decrementAndGet();
+    }
+
+    private final class Subscriber {
+        private final OrderId orderId;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long lastVersion;
+        private boolean closed;
+
+        private Subscriber(OrderId orderId, SseEmitter emitter, long lastVersion) {
+            this.orderId = orderId;
+            this.emitter = emitter;
+            this.lastVersion = lastVersion;
+        }
+
+        void send(OrderStatusEventDto status) {
+            lock.lock();
+            try {
+                // A final status is always repeated, so a client that reconnects after the end sees it and stops.
+                boolean last = FINAL.contains(status.status());
+                if (closed || (status.version() <= lastVersion && !last)) return;
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(status.version()))
+                        .name("status")
+                        .reconnectTime(reconnect.toMillis())
+                        .data(status));
+                lastVersion = status.version();
+                if (last) close();
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void ping() {
+            lock.lock();
+            try {
+                if (closed) return;
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            emitter.complete();
+        }
+
+        private void fail(Exception e) {
+            log.debug("Dropping status stream for order {}: {}", orderId.value(), e.getMessage());
+            closed = true;
+            unregister(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
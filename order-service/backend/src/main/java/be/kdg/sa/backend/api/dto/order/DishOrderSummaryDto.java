@@ -0,0 +1,12 @@
+package be.kdg.sa.backend.api.dto.order;
+
+import be.kdg.sa.backend.domain.order.DishOrderSummary;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+
+import java.util.UUID;
+
+public record DishOrderSummaryDto(UUID orderId, OrderStatus status, int quantity) {
+    public static DishOrderSummaryDto from(final DishOrderSummary summary) {
+        return new DishOrderSummaryDto(summary.orderId().value(), summary.status(), summary.quantity());
+    }
+}
@@ -1,22 +1,31 @@
 package be.kdg.sa.backend.api.dto.order;
 
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderLine;
 import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.order.OrderSummary;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
-public record OrderDto(UUID id, UUID restaurantId, OrderStatus status, List<OrderLineDto> lines, BigDecimal totalPrice, String paymentUrl) {
+public record OrderDto(UUID id, UUID restaurantId, OrderStatus status, List<OrderLineDto> lines, Money totalPrice, String paymentUrl) {
     public static OrderDto from(final Order order) {
         return new OrderDto(order.getId().value(), order.getRestaurantId() != null ? order.getRestaurantId().value() : null, order.getStatus(), order.getLines().stream().map(OrderLineDto::from).toList(), order.getTotalPrice(), order.getPayment() != null ? order.getPayment().getCheckoutUrl() : null);
     }
 
-    public record OrderLineDto(UUID dishId, String dishName, BigDecimal unitPrice, BigDecimal totalPrice, int quantity, String notes) {
+    public static OrderDto from(final OrderSummary summary) {
+        return new OrderDto(summary.id().value(), summary.restaurantId() != null ? summary.restaurantId().value() : null, summary.status(), summary.lines().stream().map(OrderLineDto::from).toList(), summary.totalPrice(), summary.paymentUrl());
+    }
+
+    public record OrderLineDto(UUID dishId, String dishName, Money unitPrice, Money totalPrice, int quantity, String notes) {
         public static OrderLineDto from(final OrderLine orderLine) {
             return new OrderLineDto(orderLine.getDishId().value(), orderLine.getDishName(), orderLine.getUnitPrice(), orderLine.getTotalPrice(), orderLine.getQuantity(), orderLine.getNotes());
         }
+
+        public static OrderLineDto from(final OrderSummary.Line line) {
+            return new OrderLineDto(line.dishId().value(), line.dishName(), line.unitPrice(), line.totalPrice(), line.quantity(), line.notes());
+        }
     }
 }
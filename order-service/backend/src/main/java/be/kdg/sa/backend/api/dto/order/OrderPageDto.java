@@ -0,0 +1,34 @@
+package be.kdg.sa.backend.api.dto.order;
+
+import be.kdg.sa.backend.domain.order.OrderCursor;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderSummarySlice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+public record OrderPageDto(List<OrderDto> orders, String nextCursor) {
+    public static OrderPageDto from(final OrderSummarySlice slice) {
+        return new OrderPageDto(slice.orders().stream().map(OrderDto::from).toList(), encode(slice.next()));
+    }
+
+    public static String encode(final OrderCursor cursor) {
+        if (cursor == null) return null;
+        String raw = cursor.timePlaced() + "|" + cursor.id().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new OrderCursor(LocalDateTime.parse(parts[0]), new OrderId(UUID.fromString(parts[1])));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
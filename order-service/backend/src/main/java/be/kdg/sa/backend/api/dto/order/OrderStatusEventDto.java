@@ -0,0 +1,18 @@
+package be.kdg.sa.backend.api.dto.order;
+
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.order.OrderSummary;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderStatusEventDto(UUID orderId, OrderStatus status, long version, LocalDateTime changedAt) {
+    public static OrderStatusEventDto from(final OrderSummary summary) {
+        return new OrderStatusEventDto(summary.id().value(), summary.status(), summary.version(), summary.statusChangedAt());
+    }
+
+    public static OrderStatusEventDto from(final Order order, final long version) {
+        return new OrderStatusEventDto(order.getId().value(), order.getStatus(), version, order.getStatusChangedAt());
+    }
+}
@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.api.dto.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.Dish;
 
 import java.util.UUID;
@@ -8,7 +9,7 @@ public record DishDto(
         UUID id,
         String name,
         String description,
-        double price,
+        Money price,
         boolean vegetarian,
         boolean vegan,
         boolean glutenFree,
@@ -20,7 +21,7 @@ public record DishDto(
                 dish.dishId().value(),
                 dish.name(),
                 dish.description(),
-                dish.price().doubleValue(),
+                dish.price(),
                 dish.vegetarian(),
                 dish.vegan(),
                 dish.glutenFree(),
@@ -0,0 +1,93 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderLine;
+import be.kdg.sa.backend.domain.restaurant.AsyncRestaurantCatalog;
+import be.kdg.sa.backend.domain.restaurant.Dish;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+public class CheckoutValidator {
+    private final AsyncRestaurantCatalog restaurants;
+    private final Duration deadline;
+
+    public CheckoutValidator(AsyncRestaurantCatalog restaurants,
+                             @Value("${restaurant-catalog.checkout-deadline:3s}") Duration deadline) {
+        this.restaurants = restaurants;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Checks the open status and every dish of the order, concurrently when the catalog is remote. The first
+     * failing check cancels the others, and the whole validation is bounded by a single deadline.
+     */
+    public Map<DishId, Dish> validate(Order order) {
+        long start = System.nanoTime();
+
+        CompletableFuture<Boolean> openStatus = restaurants.isRestaurantOpen(order.getRestaurantId());
+        CompletableFuture<Map<DishId, Dish>> dishLookup = restaurants.getDishes(
+                order.getRestaurantId(),
+                order.getLines().stream().map(OrderLine::getDishId).toList());
+
+        CompletableFuture<Boolean> open = openStatus.thenApply(isOpen -> {
+            if (!isOpen) {
+                throw new IllegalStateException("Cannot place order, the restaurant is currently closed.");
+            }
+            return true;
+        });
+
+        CompletableFuture<Map<DishId, Dish>> dishes = dishLookup.thenApply(found -> {
+            order.getLines().forEach(line -> validateLine(line, found.get(line.getDishId())));
+            return found;
+        });
+
+        List<CompletableFuture<?>> checks = List.of(open, dishes);
+        CompletableFuture<Void> firstFailureOrAll = new CompletableFuture<>();
+        checks.forEach(check -> check.whenComplete((value, error) -> {
+            if (error != null) firstFailureOrAll.completeExceptionally(error);
+        }));
+        CompletableFuture.allOf(open, dishes).thenRun(() -> firstFailureOrAll.complete(null));
+
+        try {
+            firstFailureOrAll.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            return dishes.join();
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Restaurant catalog did not answer within " + deadline.toMillis() + " ms.");
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Checkout validation was interrupted.");
+        } finally {
+            openStatus.cancel(true);
+            dishLookup.cancel(true);
+            log.debug("Checkout validation for order {} took {} ms", order.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private static void validateLine(OrderLine line, Dish dish) {
+        if (dish == null) {
+            throw new IllegalStateException("Dish " + line.getDishName() + " no longer exists.");
+        }
+
+        if (dish.status() == null || !dish.status().equalsIgnoreCase("AVAILABLE")) {
+            throw new IllegalStateException("Dish " + dish.name() + " is not available for ordering.");
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtime) return runtime;
+        return new IllegalStateException("Checkout validation failed.", cause);
+    }
+}
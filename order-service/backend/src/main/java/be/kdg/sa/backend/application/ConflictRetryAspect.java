@@ -0,0 +1,40 @@
+package be.kdg.sa.backend.application;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs outside the transaction interceptor, so every attempt starts a fresh transaction and re-reads the order.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConflictRetryAspect {
+
+    public static final String INSTANCE = "orderConflict";
+
+    private final Retry retry;
+
+    public ConflictRetryAspect(RetryRegistry registry) {
+        this.retry = registry.retry(INSTANCE);
+        this.retry.getEventPublisher().onRetry(event ->
+                log.debug("Optimistic locking conflict, attempt {} after {}", event.getNumberOfRetryAttempts(), event.getWaitInterval()));
+    }
+
+    @Around("@annotation(be.kdg.sa.backend.application.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        return retry.executeCheckedSupplier(joinPoint::proceed);
+    }
+}
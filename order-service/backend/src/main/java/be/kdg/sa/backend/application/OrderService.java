@@ -1,24 +1,31 @@
 package be.kdg.sa.backend.application;
 
-import be.kdg.sa.backend.domain.order.Order;
-import be.kdg.sa.backend.domain.order.OrderId;
-import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.*;
 import be.kdg.sa.backend.domain.restaurant.*;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @Transactional
 public class OrderService {
     private final OrderRepository orders;
+    private final OrderSummaryRepository summaries;
     private final RestaurantCatalog restaurants;
+    private final CheckoutValidator checkoutValidator;
 
     public OrderService(final OrderRepository orders,
-                        final RestaurantCatalog restaurants) {
+                        final OrderSummaryRepository summaries,
+                        final RestaurantCatalog restaurants,
+                        final CheckoutValidator checkoutValidator) {
         this.orders = orders;
+        this.summaries = summaries;
         this.restaurants = restaurants;
+        this.checkoutValidator = checkoutValidator;
     }
 
     public Order create() {
@@ -31,14 +38,33 @@ public class OrderService {
         return orders.findById(orderId).orElseThrow(orderId::notFound);
     }
 
-    public List<Order> findAll() {
-        return orders.findAll();
+    public OrderSummary findSummary(final OrderId orderId) {
+        return summaries.findById(orderId)
+                .or(() -> orders.findById(orderId).map(order -> OrderSummary.of(order, order.getVersion())))
+                .orElseThrow(orderId::notFound);
+    }
+
+    public List<OrderSummary> findSummaries(final Collection<OrderId> orderIds) {
+        return summaries.findAllById(orderIds);
     }
 
     public List<Order> findByDishId(final DishId dishId) {
         return orders.findByDishId(dishId);
     }
 
+    public List<DishOrderSummary> findSummariesByDishId(final DishId dishId) {
+        return orders.findSummariesByDishId(dishId);
+    }
+
+    public OrderSummarySlice findPlaced(final OrderStatus status, final RestaurantId restaurantId, final OrderCursor after, final int limit) {
+        return summaries.findPlaced(status, restaurantId, after, limit);
+    }
+
+    public void streamPlaced(final OrderStatus status, final RestaurantId restaurantId, final Consumer<OrderSummary> consumer) {
+        summaries.streamPlaced(status, restaurantId, consumer);
+    }
+
+    @RetryOnConflict
     public Order addDish(final OrderId orderId, final RestaurantId restaurantId, final DishId dishId, final int quantity, String notes) {
         final Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
         final Dish dish = restaurants.getDish(restaurantId, dishId).orElseThrow(dishId::notFound);
@@ -47,6 +73,7 @@ public class OrderService {
         return order;
     }
 
+    @RetryOnConflict
     public Order setCustomerDetails(
             final OrderId orderId,
             String name,
@@ -55,20 +82,8 @@ public class OrderService {
     ) {
         final Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
 
-        if (!restaurants.isRestaurantOpen(order.getRestaurantId())) {
-            throw new IllegalStateException("Cannot place order, the restaurant is currently closed.");
-        }
-
-        order.getLines().forEach(line -> {
-            Dish dish = restaurants.getDish(order.getRestaurantId(), line.getDishId())
-                    .orElseThrow(() -> new IllegalStateException("Dish " + line.getDishName() + " no longer exists."));
-
-            if (dish.status() == null || !dish.status().equalsIgnoreCase("AVAILABLE")) {
-                throw new IllegalStateException("Dish " + dish.name() + " is not available for ordering.");
-            }
-
-            line.setUnitPrice(dish.price());
-        });
+        final Map<DishId, Dish> dishes = checkoutValidator.validate(order);
+        order.getLines().forEach(line -> line.setUnitPrice(dishes.get(line.getDishId()).price()));
 
         order.setCustomerDetails(name, email, address);
         
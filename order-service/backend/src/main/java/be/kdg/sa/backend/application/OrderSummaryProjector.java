@@ -0,0 +1,51 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.application.events.OrderSavedDomainEvent;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.order.OrderSummary;
+import be.kdg.sa.backend.domain.order.OrderSummaryRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the order summary read model in step with the orders table. Every save is projected in the same transaction,
+ * so a summary never shows a state that was rolled back. Carts stay out of it: the write-behind cart repository keeps
+ * them in memory and does not save through here, so a summary of one would go stale. {@link OrderService#findSummary}
+ * reads carts from the orders repository instead.
+ */
+@Component
+public class OrderSummaryProjector {
+    private final OrderRepository orders;
+    private final OrderSummaryRepository summaries;
+
+    public OrderSummaryProjector(OrderRepository orders, OrderSummaryRepository summaries) {
+        this.orders = orders;
+        this.summaries = summaries;
+    }
+
+    @EventListener
+    public void on(OrderSavedDomainEvent event) {
+        if (event.order().getStatus() == OrderStatus.CART) return;
+        summaries.save(OrderSummary.of(event.order(), event.version()));
+    }
+
+    @Transactional
+    public int rebuild(List<OrderId> orderIds) {
+        Map<Boolean, List<Order>> byCart = orders.findAllById(orderIds).stream()
+                .collect(Collectors.partitioningBy(order -> order.getStatus() == OrderStatus.CART));
+        // also clears cart summaries an earlier rebuild wrote
+        summaries.deleteAllById(byCart.get(true).stream().map(Order::getId).toList());
+        summaries.saveAll(byCart.get(false).stream()
+                .map(order -> OrderSummary.of(order, order.getVersion()))
+                .toList());
+        return byCart.get(false).size();
+    }
+}
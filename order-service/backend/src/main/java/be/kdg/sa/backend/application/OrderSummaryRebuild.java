@@ -0,0 +1,74 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Regenerates every order summary from the orders table. Start the service with {@code --order-summaries.rebuild=true}.
+ * Order ids are paged in primary key order and each page is projected in its own transaction on one of
+ * {@code order-summaries.rebuild-parallelism} workers. Rows written by live traffic in the meantime carry a newer
+ * version and are left alone.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order-summaries.rebuild", havingValue = "true")
+public class OrderSummaryRebuild implements ApplicationRunner {
+    private final OrderRepository orders;
+    private final OrderSummaryProjector projector;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public OrderSummaryRebuild(OrderRepository orders,
+                               OrderSummaryProjector projector,
+                               @Value("${order-summaries.rebuild-chunk-size:1000}") int chunkSize,
+                               @Value("${order-summaries.rebuild-parallelism:4}") int parallelism) {
+        this.orders = orders;
+        this.projector = projector;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        AtomicInteger rebuilt = new AtomicInteger();
+        Semaphore slots = new Semaphore(parallelism);
+        List<Future<?>> chunks = new ArrayList<>();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            OrderId after = null;
+            List<OrderId> chunk;
+            do {
+                chunk = orders.findIdsAfter(after, chunkSize);
+                if (chunk.isEmpty()) break;
+                after = chunk.getLast();
+
+                slots.acquire();
+                List<OrderId> ids = chunk;
+                chunks.add(workers.submit(() -> {
+                    try {
+                        rebuilt.addAndGet(projector.rebuild(ids));
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            } while (chunk.size() == chunkSize);
+        }
+
+        for (Future<?> chunk : chunks) {
+            chunk.get();
+        }
+        log.info("Rebuilt {} order summaries in {} ms", rebuilt.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,21 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderTimeoutScheduler {
+    void schedule(OrderId orderId, RestaurantId restaurantId, Instant dueAt);
+
+    void cancel(OrderId orderId);
+
+    List<OrderId> pollDue(Instant now);
+
+    List<OrderId> claimExpired(Collection<OrderId> orderIds);
+
+    void defer(Collection<OrderId> orderIds, Duration delay);
+}
@@ -0,0 +1,59 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.config.OrderTimeoutProperties;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Service
+@Transactional
+public class OrderTimeoutService {
+    private final OrderRepository orders;
+    private final OrderTimeoutScheduler scheduler;
+    private final OrderTimeoutProperties properties;
+
+    public OrderTimeoutService(OrderRepository orders, OrderTimeoutScheduler scheduler, OrderTimeoutProperties properties) {
+        this.orders = orders;
+        this.scheduler = scheduler;
+        this.properties = properties;
+    }
+
+    public void schedule(Order order) {
+        Instant dueAt = Instant.now().plus(properties.timeoutFor(order.getRestaurantId()));
+        scheduler.schedule(order.getId(), order.getRestaurantId(), dueAt);
+    }
+
+    public void cancel(OrderId orderId) {
+        scheduler.cancel(orderId);
+    }
+
+    /**
+     * Rejects the order if it is still waiting for the restaurant. Runs in its own transaction per order, so one
+     * failing order cannot hold back the others that fell due in the same tick.
+     *
+     * @return whether this instance still owned the timeout and fired it
+     */
+    @RetryOnConflict
+    public boolean expire(OrderId orderId) {
+        if (scheduler.claimExpired(List.of(orderId)).isEmpty()) return false;
+
+        orders.findById(orderId).ifPresent(order -> {
+            if (order.getStatus() == OrderStatus.PLACED) {
+                order.reject("No response from restaurant (timeout)");
+                orders.save(order);
+                log.warn("Order {} automatically rejected after timeout", orderId.value());
+            } else {
+                log.info("Ignoring timeout for order {} (already decided: {})", orderId.value(), order.getStatus());
+            }
+        });
+        return true;
+    }
+}
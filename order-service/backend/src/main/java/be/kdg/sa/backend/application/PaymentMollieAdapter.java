@@ -3,16 +3,26 @@ package be.kdg.sa.backend.application;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.payment.MolliePaymentId;
 import be.kdg.sa.backend.domain.payment.Payment;
+import be.kdg.sa.backend.domain.payment.PaymentStatus;
 import com.mollie.mollie.Client;
 import com.mollie.mollie.models.components.*;
 import com.mollie.mollie.models.operations.CreatePaymentResponse;
 import com.mollie.mollie.models.operations.GetPaymentRequest;
 import com.mollie.mollie.models.operations.GetPaymentResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 @Component
-public class PaymentMollieAdapter {
+@ConditionalOnProperty(name = "payment.provider", havingValue = "mollie", matchIfMissing = true)
+public class PaymentMollieAdapter implements PaymentProvider {
+    private static final Set<com.mollie.mollie.models.components.PaymentStatus> FAILED = Set.of(
+            com.mollie.mollie.models.components.PaymentStatus.CANCELED,
+            com.mollie.mollie.models.components.PaymentStatus.EXPIRED,
+            com.mollie.mollie.models.components.PaymentStatus.FAILED);
+
     private final Client mollieClient;
     private final String baseUrl;
     public PaymentMollieAdapter(@Value("${mollie.api.key}") String apiKey, @Value("${frontend.url}") String baseUrl) {
@@ -24,6 +34,7 @@ public class PaymentMollieAdapter {
         this.baseUrl = baseUrl;
     }
 
+    @Override
     public Payment createPaymentForOrder(Order order) {
         PaymentRequest request = PaymentRequest.builder()
                 .description("Order " + order.getId().value())
@@ -47,15 +58,16 @@ public class PaymentMollieAdapter {
         return new Payment(id, url);
     }
 
-    public void confirmPayment(Payment payment) {
+    @Override
+    public PaymentStatus fetchStatus(Payment payment) {
         String paymentId = payment.getId().value();
         GetPaymentRequest request = GetPaymentRequest.builder().paymentId(paymentId).build();
         GetPaymentResponse response = mollieClient.payments().get(request);
 
-        if (response.paymentResponse().isEmpty() || !response.paymentResponse().get().status().orElseThrow().equals(PaymentStatus.PAID)) {
-            throw new IllegalStateException("Payment not completed");
-        }
-
-        payment.markAsPaid();
+        var status = response.paymentResponse().flatMap(PaymentResponse::status);
+        if (status.isEmpty()) return PaymentStatus.IN_PROGRESS;
+        if (status.get().equals(com.mollie.mollie.models.components.PaymentStatus.PAID)) return PaymentStatus.PAID;
+        if (FAILED.contains(status.get())) return PaymentStatus.FAILED;
+        return PaymentStatus.IN_PROGRESS;
     }
 }
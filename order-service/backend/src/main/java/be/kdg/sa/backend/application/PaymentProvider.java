@@ -0,0 +1,11 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.payment.Payment;
+import be.kdg.sa.backend.domain.payment.PaymentStatus;
+
+public interface PaymentProvider {
+    Payment createPaymentForOrder(Order order);
+
+    PaymentStatus fetchStatus(Payment payment);
+}
@@ -0,0 +1,141 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.payment.Payment;
+import be.kdg.sa.backend.domain.payment.PaymentStatus;
+import be.kdg.sa.backend.domain.payment.PendingPayment;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Settles orders whose payment webhook never arrived. Stale {@code PAYMENT_IN_PROGRESS} orders are paged through
+ * the (status, payment_created_at) index, their status is fetched from the provider on a few virtual threads behind
+ * a rate limiter, and the outcomes are applied in small batches. Concurrency, rate and batch size stay low so a
+ * backlog of tens of thousands of payments drains over several runs instead of competing with checkout traffic.
+ * The transitions are state-guarded, so overlapping runs on several instances only cost duplicate provider calls.
+ */
+@Slf4j
+@Component
+public class PaymentReconciliation {
+
+    public static final String RATE_LIMITER = "paymentReconciliation";
+
+    private final OrderRepository orders;
+    private final PaymentProvider paymentProvider;
+    private final PaymentTransitions transitions;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Timer runs;
+    private final Duration staleAfter;
+    private final int pageSize;
+    private final int batchSize;
+    private final int concurrency;
+
+    public PaymentReconciliation(OrderRepository orders,
+                                 PaymentProvider paymentProvider,
+                                 PaymentTransitions transitions,
+                                 RateLimiterRegistry rateLimiters,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${payment-reconciliation.stale-after:15m}") Duration staleAfter,
+                                 @Value("${payment-reconciliation.page-size:500}") int pageSize,
+                                 @Value("${payment-reconciliation.batch-size:50}") int batchSize,
+                                 @Value("${payment-reconciliation.concurrency:8}") int concurrency) {
+        this.orders = orders;
+        this.paymentProvider = paymentProvider;
+        this.transitions = transitions;
+        this.rateLimiter = rateLimiters.rateLimiter(RATE_LIMITER);
+        this.meterRegistry = meterRegistry;
+        this.runs = Timer.builder("payment.reconciliation.run").register(meterRegistry);
+        this.staleAfter = staleAfter;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+    @Scheduled(fixedDelayString = "${payment-reconciliation.interval:PT5M}",
+            initialDelayString = "${payment-reconciliation.initial-delay:PT1M}")
+    public void reconcile() {
+        runs.record(() -> {
+            LocalDateTime startedBefore = LocalDateTime.now().minus(staleAfter);
+            PendingPayment after = null;
+            List<PendingPayment> page;
+            do {
+                page = orders.findPendingPayments(startedBefore, after, pageSize);
+                if (page.isEmpty()) return;
+                reconcile(page);
+                after = page.getLast();
+            } while (page.size() == pageSize);
+        });
+    }
+
+    private void reconcile(List<PendingPayment> page) {
+        List<OrderId> paid = new ArrayList<>();
+        List<OrderId> failed = new ArrayList<>();
+
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PaymentStatus>> statuses = page.stream()
+                    .map(pending -> executor.submit(() -> fetchStatus(pending, permits)))
+                    .toList();
+
+            for (int i = 0; i < page.size(); i++) {
+                PaymentStatus status = outcome(page.get(i), statuses.get(i));
+                if (status == PaymentStatus.PAID) paid.add(page.get(i).orderId());
+                if (status == PaymentStatus.FAILED) failed.add(page.get(i).orderId());
+            }
+        }
+
+        apply(paid, transitions::confirmPayments);
+        apply(failed, transitions::failPayments);
+        log.info("Reconciled {} stale payments: {} paid, {} failed", page.size(), paid.size(), failed.size());
+    }
+
+    private PaymentStatus fetchStatus(PendingPayment pending, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            RateLimiter.waitForPermission(rateLimiter);
+            return paymentProvider.fetchStatus(new Payment(pending.paymentId(), null, PaymentStatus.IN_PROGRESS, pending.createdAt()));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private PaymentStatus outcome(PendingPayment pending, Future<PaymentStatus> status) {
+        try {
+            PaymentStatus result = status.get();
+            meterRegistry.counter("payment.reconciliation.checked", "outcome", result.name().toLowerCase()).increment();
+            return result;
+        } catch (ExecutionException e) {
+            meterRegistry.counter("payment.reconciliation.checked", "outcome", "error").increment();
+            log.warn("Could not fetch status of payment {}: {}", pending.paymentId().value(), e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return PaymentStatus.IN_PROGRESS;
+    }
+
+    private void apply(List<OrderId> orderIds, Consumer<List<OrderId>> transition) {
+        for (int from = 0; from < orderIds.size(); from += batchSize) {
+            List<OrderId> batch = orderIds.subList(from, Math.min(from + batchSize, orderIds.size()));
+            try {
+                transition.accept(List.copyOf(batch));
+            } catch (RuntimeException e) {
+                log.warn("Applying reconciliation batch of {} orders failed, retrying next run: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+}
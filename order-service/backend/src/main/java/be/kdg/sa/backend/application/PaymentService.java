@@ -1,60 +1,62 @@
 package be.kdg.sa.backend.application;
 
-import be.kdg.sa.backend.application.events.OrderPlacedDomainEvent;
-import be.kdg.sa.backend.domain.NotFoundException;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderId;
-import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.OrderStatus;
 import be.kdg.sa.backend.domain.payment.Payment;
-import jakarta.transaction.Transactional;
-import org.springframework.context.ApplicationEventPublisher;
+import be.kdg.sa.backend.domain.payment.PaymentStatus;
 import org.springframework.stereotype.Service;
 
+/**
+ * Not transactional on purpose: the payment provider is called between two short transactions, so a slow provider
+ * never holds a database connection.
+ */
 @Service
-@Transactional
 public class PaymentService {
-    private final OrderRepository orders;
-    private final PaymentMollieAdapter paymentAdapter;
-    private final ApplicationEventPublisher publisher;
+    private final PaymentTransitions transitions;
+    private final PaymentProvider paymentProvider;
+    private final PaymentWebhookQueue webhooks;
 
 
-    public PaymentService(OrderRepository orders, PaymentMollieAdapter paymentAdapter, ApplicationEventPublisher publisher) {
-        this.orders = orders;
-        this.paymentAdapter = paymentAdapter;
-        this.publisher = publisher;
+    public PaymentService(PaymentTransitions transitions, PaymentProvider paymentProvider, PaymentWebhookQueue webhooks) {
+        this.transitions = transitions;
+        this.paymentProvider = paymentProvider;
+        this.webhooks = webhooks;
     }
 
     public Order createPayment(OrderId orderId) {
-        Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
+        Order order = transitions.load(orderId);
         if (order.getPayment() != null) return order;
+        order.checkPayable();
 
-        Payment payment = paymentAdapter.createPaymentForOrder(order);
-        order.assignPayment(payment);
+        Payment payment = paymentProvider.createPaymentForOrder(order);
+        return transitions.assignPayment(orderId, payment, order.getTotalPrice());
+    }
+
+    public void acceptWebhook(String molliePaymentId) {
+        webhooks.enqueue(molliePaymentId, null);
+    }
 
-        orders.save(order);
-        return order;
+    public void acceptWebhook(OrderId orderId) {
+        webhooks.enqueue(null, orderId);
     }
 
     public void handleWebhook(String molliePaymentId) {
-        Order order = orders.findByPaymentId(molliePaymentId).orElseThrow(() -> new NotFoundException("Order not found"));
-        handleWebhook(order);
+        handleWebhook(transitions.loadByPaymentId(molliePaymentId));
     }
 
     public void handleWebhook(OrderId orderId) {
-        Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
-        handleWebhook(order);
+        handleWebhook(transitions.load(orderId));
     }
 
     private void handleWebhook(Order order) {
-        paymentAdapter.confirmPayment(order.getPayment());
-        order.confirmPayment();
-
-
-        orders.save(order);
-
-        publisher.publishEvent(new OrderPlacedDomainEvent(
-                order.getId().value(),
-                order.getRestaurantId().value()
-        ));
+        if (order.getStatus() != OrderStatus.PAYMENT_IN_PROGRESS) return;
+
+        PaymentStatus status = paymentProvider.fetchStatus(order.getPayment());
+        switch (status) {
+            case PAID -> transitions.confirmPayment(order.getId());
+            case FAILED -> transitions.failPayment(order.getId());
+            case IN_PROGRESS -> throw new IllegalStateException("Payment not completed");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.application.events.OrderPlacedDomainEvent;
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.NotFoundException;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.payment.Payment;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * The short transactions on either side of a payment provider call. Each second phase re-reads the order and
+ * only applies the transition if the order is still in the state the first phase saw, so concurrent requests
+ * and redelivered webhooks settle on a single outcome.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PaymentTransitions {
+    private final OrderRepository orders;
+    private final OrderTimeoutService timeouts;
+    private final ApplicationEventPublisher publisher;
+
+    public PaymentTransitions(OrderRepository orders, OrderTimeoutService timeouts, ApplicationEventPublisher publisher) {
+        this.orders = orders;
+        this.timeouts = timeouts;
+        this.publisher = publisher;
+    }
+
+    public Order load(OrderId orderId) {
+        return orders.findById(orderId).orElseThrow(orderId::notFound);
+    }
+
+    public Order loadByPaymentId(String molliePaymentId) {
+        return orders.findByPaymentId(molliePaymentId).orElseThrow(() -> new NotFoundException("Order not found"));
+    }
+
+    @RetryOnConflict
+    public Order assignPayment(OrderId orderId, Payment payment, Money chargedAmount) {
+        Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
+        if (order.getPayment() != null) {
+            log.warn("Order {} already has payment {}, abandoning {}", orderId.value(),
+                    order.getPayment().getId().value(), payment.getId().value());
+            return order;
+        }
+        if (!order.getTotalPrice().equals(chargedAmount)) {
+            throw new IllegalStateException("Order changed while its payment was being created");
+        }
+
+        order.assignPayment(payment);
+        orders.save(order);
+        return order;
+    }
+
+    @RetryOnConflict
+    public void confirmPayment(OrderId orderId) {
+        Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
+        if (isPending(order)) confirm(order);
+    }
+
+    @RetryOnConflict
+    public void failPayment(OrderId orderId) {
+        Order order = orders.findById(orderId).orElseThrow(orderId::notFound);
+        if (isPending(order)) fail(order);
+    }
+
+    @RetryOnConflict
+    public void confirmPayments(List<OrderId> orderIds) {
+        orderIds.forEach(orderId -> orders.findById(orderId).filter(PaymentTransitions::isPending).ifPresent(this::confirm));
+    }
+
+    @RetryOnConflict
+    public void failPayments(List<OrderId> orderIds) {
+        orderIds.forEach(orderId -> orders.findById(orderId).filter(PaymentTransitions::isPending).ifPresent(this::fail));
+    }
+
+    private static boolean isPending(Order order) {
+        if (order.getStatus() == OrderStatus.PAYMENT_IN_PROGRESS) return true;
+        log.info("Payment for order {} already handled ({})", order.getId().value(), order.getStatus());
+        return false;
+    }
+
+    private void fail(Order order) {
+        order.failPayment();
+        orders.save(order);
+        log.info("Payment for order {} failed, order cancelled", order.getId().value());
+    }
+
+    private void confirm(Order order) {
+        order.getPayment().markAsPaid();
+        order.confirmPayment();
+        orders.save(order);
+        timeouts.schedule(order);
+
+        publisher.publishEvent(new OrderPlacedDomainEvent(
+                order.getId().value(),
+                order.getRestaurantId().value()
+        ));
+    }
+}
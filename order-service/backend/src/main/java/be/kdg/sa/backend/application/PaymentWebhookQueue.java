@@ -0,0 +1,7 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.order.OrderId;
+
+public interface PaymentWebhookQueue {
+    void enqueue(String molliePaymentId, OrderId orderId);
+}
@@ -0,0 +1,13 @@
+package be.kdg.sa.backend.application;
+
+import java.lang.annotation.*;
+
+/**
+ * Re-runs the annotated transactional operation when it loses an optimistic locking race.
+ * Only the outermost annotated call retries; nested calls join the caller's transaction.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,14 @@
+package be.kdg.sa.backend.application.events;
+
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+
+/**
+ * Published inside the writing transaction every time an order is stored; {@code version} is the version the
+ * stored row will have once the transaction commits and {@code previousStatus} is null for a new order.
+ */
+public record OrderSavedDomainEvent(Order order, long version, OrderStatus previousStatus) {
+    public boolean statusChanged() {
+        return previousStatus != order.getStatus();
+    }
+}
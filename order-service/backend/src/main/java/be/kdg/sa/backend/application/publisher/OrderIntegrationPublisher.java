@@ -5,7 +5,6 @@ import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderId;
 import be.kdg.sa.backend.domain.order.OrderRepository;
 import be.kdg.sa.backend.events.OrderCreatedEvent;
-import be.kdg.sa.backend.events.OrderTimeoutEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -15,27 +14,21 @@ public class OrderIntegrationPublisher {
 
     private final OrderRepository orders;
     private final RestaurantEventPublisher restaurantPublisher;
-    private final OrderEventPublisher orderPublisher;
 
     public OrderIntegrationPublisher(OrderRepository orders,
-                                     RestaurantEventPublisher restaurantPublisher,
-                                     OrderEventPublisher orderPublisher) {
+                                     RestaurantEventPublisher restaurantPublisher) {
         this.orders = orders;
         this.restaurantPublisher = restaurantPublisher;
-        this.orderPublisher = orderPublisher;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void onOrderPlaced(OrderPlacedDomainEvent evt) {
         Order order = orders.findById(new OrderId(evt.orderId()))
                 .orElseThrow(() -> new IllegalStateException("Order not found for integration publish: " + evt.orderId()));
 
         OrderCreatedEvent created = buildOrderCreatedEvent(order);
 
-        OrderTimeoutEvent timeout = new OrderTimeoutEvent(evt.orderId());
-
         restaurantPublisher.publishOrderCreated(created);
-        orderPublisher.publishOrderTimeout(timeout);
     }
 
     private OrderCreatedEvent buildOrderCreatedEvent(Order order) {
@@ -0,0 +1,44 @@
+package be.kdg.sa.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-queue consumer tuning for the RabbitMQ listener containers; queues without a profile use {@code defaults}.
+ */
+@ConfigurationProperties(prefix = "messaging.listeners")
+public record ListenerTuningProperties(
+        @DefaultValue Profile defaults,
+        Map<String, Profile> queues,
+        @DefaultValue Autoscaling autoscaling
+) {
+    public ListenerTuningProperties {
+        queues = queues != null ? queues : Map.of();
+    }
+
+    public Profile forQueue(String queue) {
+        return queues.getOrDefault(queue, defaults);
+    }
+
+    public record Profile(
+            @DefaultValue("1") int concurrency,
+            @DefaultValue("1") int maxConcurrency,
+            @DefaultValue("250") int prefetch,
+            @DefaultValue("1") int batchSize,
+            @DefaultValue("false") boolean virtualThreads
+    ) {
+        public int effectiveMaxConcurrency() {
+            return Math.max(concurrency, maxConcurrency);
+        }
+    }
+
+    public record Autoscaling(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10s") Duration interval,
+            @DefaultValue("2s") Duration targetDrainTime
+    ) {
+    }
+}
@@ -0,0 +1,48 @@
+package be.kdg.sa.backend.config;
+
+import be.kdg.sa.backend.domain.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Money} to a plain decimal number such as {@code 12.50}, as prices were when they were BigDecimals.
+ * Incoming amounts are rounded half-up to whole cents.
+ */
+public class MoneyJsonModule extends SimpleModule {
+
+    public MoneyJsonModule() {
+        super("MoneyJsonModule");
+        addSerializer(Money.class, new Writer());
+        addDeserializer(Money.class, new Reader());
+    }
+
+    static final class Writer extends StdSerializer<Money> {
+        Writer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(money.toString());
+        }
+    }
+
+    static final class Reader extends StdDeserializer<Money> {
+        Reader() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return Money.of(context.readValue(parser, BigDecimal.class));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package be.kdg.sa.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OrderPurgeProperties.class)
+public class OrderPurgeConfig {
+}
@@ -0,0 +1,34 @@
+package be.kdg.sa.backend.config;
+
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Which orders count as abandoned and how hard the purge job may lean on the database while removing them.
+ * {@code retention} maps a status to how long an order may sit in it untouched; the chunk size grows towards
+ * {@code maxChunkSize} while chunks finish within {@code targetChunkTime} and the pool has no waiters, and halves otherwise.
+ */
+@ConfigurationProperties(prefix = "order-purge")
+public record OrderPurgeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("DELETE") Mode mode,
+        Map<OrderStatus, Duration> retention,
+        @DefaultValue("50") int minChunkSize,
+        @DefaultValue("1000") int maxChunkSize,
+        @DefaultValue("200ms") Duration targetChunkTime,
+        @DefaultValue("5s") Duration maxPause,
+        @DefaultValue("5m") Duration maxRunTime
+) {
+    public enum Mode {DELETE, ARCHIVE}
+
+    public OrderPurgeProperties {
+        retention = retention != null && !retention.isEmpty() ? retention : Map.of(
+                OrderStatus.CART, Duration.ofDays(1),
+                OrderStatus.CUSTOMER_DETAILS_PROVIDED, Duration.ofDays(7)
+        );
+    }
+}
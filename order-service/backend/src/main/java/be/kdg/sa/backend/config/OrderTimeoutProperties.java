@@ -0,0 +1,34 @@
+package be.kdg.sa.backend.config;
+
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * How long a restaurant gets to decide on a placed order, plus the knobs of the timer wheel that enforces it.
+ * {@code restaurants} overrides the default {@code timeout} per restaurant id.
+ */
+@ConfigurationProperties(prefix = "order-timeouts")
+public record OrderTimeoutProperties(
+        @DefaultValue("5m") Duration timeout,
+        Map<UUID, Duration> restaurants,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("64") int wheelSize,
+        @DefaultValue("3") int levels,
+        @DefaultValue("60s") Duration lease,
+        @DefaultValue("2m") Duration horizon,
+        @DefaultValue("500") int batchSize
+) {
+    public OrderTimeoutProperties {
+        restaurants = restaurants != null ? restaurants : Map.of();
+    }
+
+    public Duration timeoutFor(RestaurantId restaurantId) {
+        if (restaurantId == null) return timeout;
+        return restaurants.getOrDefault(restaurantId.value(), timeout);
+    }
+}
@@ -1,24 +1,61 @@
 package be.kdg.sa.backend.config;
 
+import be.kdg.sa.backend.infrastructure.messaging.ConflictParkingRecoverer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
+@EnableConfigurationProperties(ListenerTuningProperties.class)
 public class RabbitMQConfig {
+    // replaces Boot's default factory, which every @RabbitListener uses; the configurer keeps the
+    // spring.rabbitmq.listener.simple settings and the message converter bean
     @Bean
-    SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+    SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                                                                        ConnectionFactory connectionFactory,
+                                                                        RabbitTemplate rabbitTemplate,
+                                                                        ContainerCustomizer<SimpleMessageListenerContainer> listenerTuningCustomizer) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
-        factory.setConnectionFactory(connectionFactory);
-        factory.setMessageConverter(new Jackson2JsonMessageConverter());
+        configurer.configure(factory, connectionFactory);
+        factory.setContainerCustomizer(listenerTuningCustomizer);
+        // conflicts are already retried inside the listener by @RetryOnConflict; this only decides what happens after
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(new ConflictParkingRecoverer(rabbitTemplate))
+                .build());
         return factory;
     }
 
     @Bean
-    Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    Jackson2JsonMessageConverter jackson2JsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
     }
-}
 
+    @Bean
+    ContainerCustomizer<SimpleMessageListenerContainer> listenerTuningCustomizer(ListenerTuningProperties properties) {
+        return container -> {
+            String queue = container.getQueueNames()[0];
+            ListenerTuningProperties.Profile profile = properties.forQueue(queue);
+
+            container.setMaxConcurrentConsumers(profile.effectiveMaxConcurrency());
+            container.setConcurrentConsumers(profile.concurrency());
+            container.setPrefetchCount(profile.prefetch());
+            container.setBatchSize(profile.batchSize());
+            if (profile.virtualThreads()) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(queue + "-");
+                executor.setVirtualThreads(true);
+                container.setTaskExecutor(executor);
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package be.kdg.sa.backend.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,15 +10,17 @@ public class RabbitMQTopology {
     public static final String EXCHANGE_ORDER = "exchange.order";
     public static final String EXCHANGE_RESTAURANT = "exchange.restaurant";
     public static final String EXCHANGE_DELIVERY = "exchange.delivery";
+    public static final String EXCHANGE_ORDER_PARKING = "exchange.order.parking";
 
     public static final String QUEUE_ORDER_DECISION = "queue.order.decision";
     public static final String QUEUE_ORDER_READY = "queue.order.ready";
-    public static final String QUEUE_ORDER_TIMEOUT = "queue.order.timeout";
     public static final String QUEUE_ORDER_TIMEOUT_DLQ = "queue.order.timeout.dlx";
     public static final String QUEUE_DELIVERY_NEW_DELIVERY = "queue.delivery.new-order";
     public static final String QUEUE_DELIVERY_ORDER_STATUS_CHANGED = "queue.delivery.order-status-changed";
+    public static final String QUEUE_ORDER_CATALOG = "queue.order.catalog";
+    public static final String QUEUE_ORDER_PARKED = "queue.order.parked";
 
-    public static final int QUEUE_TIMEOUT = 300_000;
+    public static final String CATALOG_CHANGED = "catalog.#";
 
     @Bean
     TopicExchange orderExchange() {
@@ -34,6 +37,11 @@ public class RabbitMQTopology {
         return new TopicExchange(EXCHANGE_DELIVERY, true, false);
     }
 
+    @Bean
+    FanoutExchange orderParkingExchange() {
+        return new FanoutExchange(EXCHANGE_ORDER_PARKING, true, false);
+    }
+
     @Bean
     Queue orderDecisionQueue() {
         return QueueBuilder.durable(QUEUE_ORDER_DECISION).build();
@@ -44,15 +52,6 @@ public class RabbitMQTopology {
         return QueueBuilder.durable(QUEUE_ORDER_READY).build();
     }
 
-    @Bean
-    Queue orderTimeoutQueue() {
-        return QueueBuilder.durable(QUEUE_ORDER_TIMEOUT)
-                .withArgument("x-dead-letter-exchange", EXCHANGE_ORDER)
-                .withArgument("x-dead-letter-routing-key", "order.timeout.dlx")
-                .withArgument("x-message-ttl", QUEUE_TIMEOUT)
-                .build();
-    }
-
     @Bean
     Queue orderTimeoutDLQ() {
         return QueueBuilder.durable(QUEUE_ORDER_TIMEOUT_DLQ).build();
@@ -63,6 +62,16 @@ public class RabbitMQTopology {
         return QueueBuilder.durable(QUEUE_DELIVERY_NEW_DELIVERY).build();
     }
 
+    @Bean
+    Queue orderParkedQueue() {
+        return QueueBuilder.durable(QUEUE_ORDER_PARKED).build();
+    }
+
+    @Bean
+    Binding parkedBinding() {
+        return BindingBuilder.bind(orderParkedQueue()).to(orderParkingExchange());
+    }
+
     @Bean
     Binding decisionBinding() {
         return BindingBuilder.bind(orderDecisionQueue())
@@ -75,12 +84,6 @@ public class RabbitMQTopology {
                 .to(orderExchange()).with("order.ready");
     }
 
-    @Bean
-    Binding timeoutBinding() {
-        return BindingBuilder.bind(orderTimeoutQueue())
-                .to(orderExchange()).with("order.timeout");
-    }
-
     @Bean
     Binding timeoutDLXBinding() {
         return BindingBuilder.bind(orderTimeoutDLQ())
@@ -104,4 +107,32 @@ public class RabbitMQTopology {
                 .to(deliveryExchange())
                 .with("delivery.order-status-changed");
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "replicated", matchIfMissing = true)
+    Queue orderCatalogQueue() {
+        return QueueBuilder.durable(QUEUE_ORDER_CATALOG).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "replicated", matchIfMissing = true)
+    Binding orderCatalogBinding() {
+        return BindingBuilder.bind(orderCatalogQueue())
+                .to(restaurantExchange())
+                .with(CATALOG_CHANGED);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "remote")
+    Queue catalogInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "remote")
+    Binding catalogInvalidationBinding() {
+        return BindingBuilder.bind(catalogInvalidationQueue())
+                .to(restaurantExchange())
+                .with(CATALOG_CHANGED);
+    }
 }
@@ -0,0 +1,63 @@
+package be.kdg.sa.backend.domain;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount in euro, held as a whole number of cents. Arithmetic stays on {@code long} and fails instead of
+ * overflowing. {@link Long#MIN_VALUE} is rejected as well, since it has no positive counterpart to format or negate.
+ */
+@ValueObject
+public record Money(long cents) implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    public Money {
+        if (cents == Long.MIN_VALUE) throw new ArithmeticException("Amount does not fit in cents");
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return ofCents(Math.multiplyExact(cents, quantity));
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Writes the amount with two decimals and a dot, e.g. {@code 1234.05}, which is also what Mollie expects.
+     */
+    public StringBuilder appendTo(StringBuilder out) {
+        long abs = Math.abs(cents);
+        if (cents < 0) out.append('-');
+        long fraction = abs % 100;
+        return out.append(abs / 100).append('.').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24)).toString();
+    }
+}
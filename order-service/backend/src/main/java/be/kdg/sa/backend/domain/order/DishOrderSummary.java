@@ -0,0 +1,7 @@
+package be.kdg.sa.backend.domain.order;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+@ValueObject
+public record DishOrderSummary(OrderId orderId, OrderStatus status, int quantity) {
+}
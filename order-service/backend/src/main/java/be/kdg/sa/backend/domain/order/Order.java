@@ -1,6 +1,7 @@
 package be.kdg.sa.backend.domain.order;
 
 import be.kdg.sa.backend.domain.InvalidOrderStateException;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.payment.Payment;
 import be.kdg.sa.backend.domain.restaurant.Address;
 import be.kdg.sa.backend.domain.restaurant.Dish;
@@ -13,11 +14,9 @@ import lombok.Setter;
 import org.jmolecules.ddd.annotation.AggregateRoot;
 import org.jmolecules.ddd.annotation.Identity;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 @AggregateRoot
 @Getter
@@ -29,15 +28,18 @@ public class Order {
     @Setter
     private List<OrderLine> lines = new ArrayList<>();
     private OrderStatus status;
-    private BigDecimal totalPrice;
+    private Money totalPrice;
     private String decisionReason;
     private LocalDateTime decisionAt;
     private String customerName;
     private String customerEmail;
     private Address deliveryAddress;
     private Payment  payment;
+    private long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime statusChangedAt;
 
-    public Order(final OrderId id, final RestaurantId restaurantId, LocalDateTime timePlaced, OrderStatus status, BigDecimal totalPrice) {
+    public Order(final OrderId id, final RestaurantId restaurantId, LocalDateTime timePlaced, OrderStatus status, Money totalPrice) {
         this.id = id;
         this.restaurantId = restaurantId;
         this.timePlaced = timePlaced;
@@ -45,7 +47,7 @@ public class Order {
         this.totalPrice = totalPrice;
     }
 
-    public Order(final OrderId id, final RestaurantId restaurantId, LocalDateTime timePlaced, OrderStatus status, BigDecimal totalPrice, String name, String email,Address address,Payment payment) {
+    public Order(final OrderId id, final RestaurantId restaurantId, LocalDateTime timePlaced, OrderStatus status, Money totalPrice, String name, String email,Address address,Payment payment) {
         this.id = id;
         this.restaurantId = restaurantId;
         this.timePlaced = timePlaced;
@@ -57,13 +59,29 @@ public class Order {
         this.payment = payment;
     }
 
+    public Order(final OrderId id, final RestaurantId restaurantId, LocalDateTime timePlaced, OrderStatus status, Money totalPrice, String name, String email, Address address, Payment payment, long version) {
+        this(id, restaurantId, timePlaced, status, totalPrice, name, email, address, payment);
+        this.version = version;
+    }
+
+    public Order(final OrderId id, final RestaurantId restaurantId, LocalDateTime timePlaced, OrderStatus status, Money totalPrice, String name, String email, Address address, Payment payment, long version,
+                 LocalDateTime createdAt, LocalDateTime decisionAt, LocalDateTime statusChangedAt) {
+        this(id, restaurantId, timePlaced, status, totalPrice, name, email, address, payment, version);
+        this.createdAt = createdAt;
+        this.decisionAt = decisionAt;
+        this.statusChangedAt = statusChangedAt;
+    }
+
     public Order(final OrderId id,  OrderStatus status) {
         this.id = id;
         this.status = status;
     }
 
     public static Order createCart() {
-        return new Order(OrderId.create(), OrderStatus.CART);
+        Order cart = new Order(OrderId.create(), OrderStatus.CART);
+        cart.createdAt = LocalDateTime.now();
+        cart.statusChangedAt = cart.createdAt;
+        return cart;
     }
 
     public void setCustomerDetails(String name, String email,Address address) {
@@ -78,19 +96,23 @@ public class Order {
         this.customerName = name;
         this.customerEmail = email;
         this.deliveryAddress = address;
-        this.status = OrderStatus.CUSTOMER_DETAILS_PROVIDED;
+        changeStatus(OrderStatus.CUSTOMER_DETAILS_PROVIDED);
     }
 
-    public void assignPayment(Payment payment) {
+    public void checkPayable() {
         if (this.status != OrderStatus.CUSTOMER_DETAILS_PROVIDED) {
             throw new IllegalStateException("Only orders with customer details can set payment");
         }
         if (this.lines.isEmpty()) {
             throw new IllegalStateException("Cannot set payment on an empty order");
         }
+    }
+
+    public void assignPayment(Payment payment) {
+        checkPayable();
 
         this.payment = payment;
-        this.status = OrderStatus.PAYMENT_IN_PROGRESS;
+        changeStatus(OrderStatus.PAYMENT_IN_PROGRESS);
     }
 
     public void confirmPayment() {
@@ -100,6 +122,15 @@ public class Order {
         place();
     }
 
+    public void failPayment() {
+        if (this.status != OrderStatus.PAYMENT_IN_PROGRESS) {
+            throw new IllegalStateException("Only orders with a payment in progress can fail their payment");
+        }
+
+        payment.markAsFailed();
+        changeStatus(OrderStatus.CANCELLED);
+    }
+
     private void place() {
         if (this.status != OrderStatus.PAYMENT_IN_PROGRESS) {
             throw new IllegalStateException("Only orders with a payment can be placed");
@@ -108,7 +139,7 @@ public class Order {
             throw new IllegalStateException("Cannot place an empty order");
         }
 
-        this.status = OrderStatus.PLACED;
+        changeStatus(OrderStatus.PLACED);
         this.timePlaced = LocalDateTime.now();
     }
 
@@ -141,8 +172,12 @@ public class Order {
         this.totalPrice = calculateTotalPrice();
     }
 
-    private BigDecimal calculateTotalPrice() {
-        return this.lines.stream().map(OrderLine::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Money calculateTotalPrice() {
+        long cents = 0;
+        for (OrderLine line : this.lines) {
+            cents = Math.addExact(cents, line.getTotalPrice().cents());
+        }
+        return Money.ofCents(cents);
     }
 
     public void accept(String reason) {
@@ -161,7 +196,7 @@ public class Order {
             throw new InvalidOrderStateException("Order must be in PLACED state to be accepted");
         }
 
-        this.status = OrderStatus.ACCEPTED;
+        changeStatus(OrderStatus.ACCEPTED);
         this.decisionReason = reason;
         this.decisionAt = LocalDateTime.now();
     }
@@ -182,11 +217,17 @@ public class Order {
             throw new IllegalStateException("Order must be in PLACED state to be rejected");
         }
 
-        this.status = OrderStatus.REJECTED;
+        changeStatus(OrderStatus.REJECTED);
         this.decisionReason = reason;
         this.decisionAt = LocalDateTime.now();
     }
 
+    private void changeStatus(OrderStatus status) {
+        if (this.status == status) return;
+        this.status = status;
+        this.statusChangedAt = LocalDateTime.now();
+    }
+
     public boolean isFinalized() {
         return this.status == OrderStatus.ACCEPTED || this.status == OrderStatus.REJECTED;
     }
@@ -195,12 +236,12 @@ public class Order {
         if (this.status != OrderStatus.ACCEPTED) {
             throw new InvalidOrderStateException("Order must be in ACCEPTED state to be marked as ready");
         }
-        this.status = OrderStatus.READY;
+        changeStatus(OrderStatus.READY);
         this.decisionAt = LocalDateTime.now();
     }
 
     public String getTotalPriceString() {
-        return String.format(Locale.US, "%.2f", this.totalPrice);
+        return this.totalPrice.toString();
     }
 
     public List<PaymentRequestLines> toPaymentRequestLines() {
@@ -210,11 +251,11 @@ public class Order {
                         .quantity(line.getQuantity())
                         .unitPrice(Amount.builder()
                                 .currency("EUR")
-                                .value(String.format(Locale.US, "%.2f", line.getUnitPrice()))
+                                .value(line.getUnitPrice().toString())
                                 .build())
                         .totalAmount(Amount.builder()
                                 .currency("EUR")
-                                .value(String.format(Locale.US, "%.2f", line.getTotalPrice()))
+                                .value(line.getTotalPrice().toString())
                                 .build())
                         .build())
                 .toList();
@@ -224,13 +265,13 @@ public class Order {
         if (this.status != OrderStatus.READY) {
             throw new InvalidOrderStateException("Order must be in READY state to be marked as picked-up");
         }
-        this.status = OrderStatus.PICKED_UP;
+        changeStatus(OrderStatus.PICKED_UP);
     }
 
     public void markAsDelivered() {
         if (this.status != OrderStatus.PICKED_UP) {
             throw new InvalidOrderStateException("Order must be in PICKED_UP state to be marked as delivered");
         }
-        this.status = OrderStatus.DELIVERED;
+        changeStatus(OrderStatus.DELIVERED);
     }
 }
@@ -0,0 +1,21 @@
+package be.kdg.sa.backend.domain.order;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in the placed-orders listing, which is ordered newest first on (timePlaced, id).
+ */
+@ValueObject
+public record OrderCursor(LocalDateTime timePlaced, OrderId id) {
+    public OrderCursor {
+        Assert.notNull(timePlaced, "Time placed cannot be null");
+        Assert.notNull(id, "Id cannot be null");
+    }
+
+    public static OrderCursor of(OrderSummary summary) {
+        return new OrderCursor(summary.placedAt(), summary.id());
+    }
+}
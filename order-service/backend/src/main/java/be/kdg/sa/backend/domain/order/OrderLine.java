@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.domain.order;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.DishId;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,7 +8,6 @@ import org.jmolecules.ddd.annotation.Entity;
 import org.jmolecules.ddd.annotation.Identity;
 import org.springframework.util.Assert;
 
-import java.math.BigDecimal;
 
 @Entity
 @Getter
@@ -16,12 +16,12 @@ public class OrderLine {
     private final DishId dishId;
     private final String dishName;
     @Setter
-    private BigDecimal unitPrice;
+    private Money unitPrice;
     private int quantity;
     @Setter
     private String notes;
 
-    public OrderLine(final DishId dishId, String dishName, final BigDecimal unitPrice, final int quantity, final String notes) {
+    public OrderLine(final DishId dishId, String dishName, final Money unitPrice, final int quantity, final String notes) {
         Assert.notNull(dishId, "DishId must not be null");
         validateQuantityMustBeLargerThanZero(quantity);
         validatePriceNotNegatie(unitPrice);
@@ -38,8 +38,8 @@ public class OrderLine {
         this.quantity += quantity;
     }
 
-    public BigDecimal getTotalPrice() {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    public Money getTotalPrice() {
+        return unitPrice.times(quantity);
     }
 
     public boolean isForDish(DishId dishId) {
@@ -52,8 +52,8 @@ public class OrderLine {
         }
     }
 
-    private static void validatePriceNotNegatie(final BigDecimal unitPrice) {
-        if (unitPrice.compareTo(BigDecimal.ZERO) < 0) {
+    private static void validatePriceNotNegatie(final Money unitPrice) {
+        if (unitPrice.isNegative()) {
             throw new IllegalArgumentException("Quantity must be > 0");
         }
     }
@@ -1,8 +1,10 @@
 package be.kdg.sa.backend.domain.order;
 
+import be.kdg.sa.backend.domain.payment.PendingPayment;
 import be.kdg.sa.backend.domain.restaurant.DishId;
 import org.jmolecules.ddd.annotation.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +14,15 @@ public interface OrderRepository {
 
     void save(Order order);
 
-    List<Order> findAll();
-
     List<Order> findByDishId(DishId dishId);
+
+    List<DishOrderSummary> findSummariesByDishId(DishId dishId);
+
     Optional<Order> findByPaymentId(String molliePaymentId);
+
+    List<PendingPayment> findPendingPayments(LocalDateTime startedBefore, PendingPayment after, int limit);
+
+    List<OrderId> findIdsAfter(OrderId after, int limit);
+
+    List<Order> findAllById(List<OrderId> orderIds);
 }
@@ -9,5 +9,6 @@ public enum OrderStatus {
     READY,
     PICKED_UP,
     DELIVERED,
+    CANCELLED,
     REJECTED
 }
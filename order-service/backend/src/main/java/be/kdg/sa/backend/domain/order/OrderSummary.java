@@ -0,0 +1,57 @@
+package be.kdg.sa.backend.domain.order;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Denormalized read model of an order: everything the query endpoints return, in one row.
+ * {@code version} is the order version it was projected from, so an older projection never overwrites a newer one.
+ */
+@ValueObject
+public record OrderSummary(
+        OrderId id,
+        RestaurantId restaurantId,
+        OrderStatus status,
+        List<Line> lines,
+        int lineCount,
+        int itemCount,
+        Money totalPrice,
+        String paymentUrl,
+        LocalDateTime createdAt,
+        LocalDateTime placedAt,
+        LocalDateTime decidedAt,
+        LocalDateTime statusChangedAt,
+        long version
+) {
+    public static OrderSummary of(Order order, long version) {
+        List<Line> lines = order.getLines().stream()
+                .map(line -> new Line(line.getDishId(), line.getDishName(), line.getUnitPrice(), line.getTotalPrice(),
+                        line.getQuantity(), line.getNotes()))
+                .toList();
+
+        return new OrderSummary(
+                order.getId(),
+                order.getRestaurantId(),
+                order.getStatus(),
+                lines,
+                lines.size(),
+                lines.stream().mapToInt(Line::quantity).sum(),
+                order.getTotalPrice(),
+                order.getPayment() != null ? order.getPayment().getCheckoutUrl() : null,
+                order.getCreatedAt(),
+                order.getTimePlaced(),
+                order.getDecisionAt(),
+                order.getStatusChangedAt(),
+                version
+        );
+    }
+
+    @ValueObject
+    public record Line(DishId dishId, String dishName, Money unitPrice, Money totalPrice, int quantity, String notes) {
+    }
+}
@@ -0,0 +1,26 @@
+package be.kdg.sa.backend.domain.order;
+
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import org.jmolecules.ddd.annotation.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Repository
+public interface OrderSummaryRepository {
+    Optional<OrderSummary> findById(OrderId orderId);
+
+    List<OrderSummary> findAllById(Collection<OrderId> orderIds);
+
+    OrderSummarySlice findPlaced(OrderStatus status, RestaurantId restaurantId, OrderCursor after, int limit);
+
+    void streamPlaced(OrderStatus status, RestaurantId restaurantId, Consumer<OrderSummary> consumer);
+
+    void save(OrderSummary summary);
+
+    void saveAll(List<OrderSummary> summaries);
+
+    void deleteAllById(Collection<OrderId> orderIds);
+}
@@ -0,0 +1,6 @@
+package be.kdg.sa.backend.domain.order;
+
+import java.util.List;
+
+public record OrderSummarySlice(List<OrderSummary> orders, OrderCursor next) {
+}
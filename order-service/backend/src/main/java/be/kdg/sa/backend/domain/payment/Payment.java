@@ -4,23 +4,25 @@ import lombok.Getter;
 import lombok.Setter;
 import org.jmolecules.ddd.annotation.ValueObject;
 
+import java.time.LocalDateTime;
+
 @ValueObject
 @Getter
 public class Payment {
     private final MolliePaymentId id;
     private final String checkoutUrl;
     private PaymentStatus status;
+    private final LocalDateTime createdAt;
 
-    public Payment(MolliePaymentId id, String checkoutUrl, PaymentStatus status) {
+    public Payment(MolliePaymentId id, String checkoutUrl, PaymentStatus status, LocalDateTime createdAt) {
         this.id = id;
         this.checkoutUrl = checkoutUrl;
         this.status = status;
+        this.createdAt = createdAt;
     }
 
     public Payment(MolliePaymentId id, String checkoutUrl) {
-        this.id = id;
-        this.checkoutUrl = checkoutUrl;
-        this.status = PaymentStatus.IN_PROGRESS;
+        this(id, checkoutUrl, PaymentStatus.IN_PROGRESS, LocalDateTime.now());
     }
 
     public boolean isPaid() {
@@ -33,4 +35,11 @@ public class Payment {
         }
         this.status = PaymentStatus.PAID;
     }
+
+    public void markAsFailed() {
+        if (status != PaymentStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Payment not in progress");
+        }
+        this.status = PaymentStatus.FAILED;
+    }
 }
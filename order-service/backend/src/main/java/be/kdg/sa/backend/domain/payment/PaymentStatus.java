@@ -3,4 +3,5 @@ package be.kdg.sa.backend.domain.payment;
 public enum PaymentStatus {
     IN_PROGRESS,
     PAID,
+    FAILED,
 }
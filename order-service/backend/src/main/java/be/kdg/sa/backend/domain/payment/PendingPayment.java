@@ -0,0 +1,8 @@
+package be.kdg.sa.backend.domain.payment;
+
+import be.kdg.sa.backend.domain.order.OrderId;
+
+import java.time.LocalDateTime;
+
+public record PendingPayment(OrderId orderId, MolliePaymentId paymentId, LocalDateTime createdAt) {
+}
@@ -0,0 +1,10 @@
+package be.kdg.sa.backend.domain.restaurant;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncRestaurantCatalog {
+    CompletableFuture<Boolean> isRestaurantOpen(RestaurantId restaurantId);
+    CompletableFuture<Map<DishId, Dish>> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds);
+}
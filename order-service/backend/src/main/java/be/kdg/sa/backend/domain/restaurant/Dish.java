@@ -1,15 +1,15 @@
 package be.kdg.sa.backend.domain.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
 import org.jmolecules.ddd.annotation.ValueObject;
 
-import java.math.BigDecimal;
 
 @ValueObject
 public record Dish(
         DishId dishId,
         String name,
         String description,
-        BigDecimal price,
+        Money price,
         boolean vegetarian,
         boolean vegan,
         boolean glutenFree,
@@ -7,4 +7,11 @@ import java.util.List;
 public record OpeningHours(List<OpeningDays> days) {
     public record OpeningDays(DayOfWeek day, List<OpeningPeriod> periods) {}
     public record OpeningPeriod(LocalTime openTime, LocalTime closeTime) {}
+
+    public boolean isOpenAt(DayOfWeek day, LocalTime time) {
+        return days.stream()
+                .filter(d -> d.day() == day)
+                .flatMap(d -> d.periods().stream())
+                .anyMatch(p -> !time.isBefore(p.openTime()) && !time.isAfter(p.closeTime()));
+    }
 }
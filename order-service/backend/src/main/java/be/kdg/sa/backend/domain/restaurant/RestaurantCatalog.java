@@ -1,6 +1,8 @@
 package be.kdg.sa.backend.domain.restaurant;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface RestaurantCatalog {
@@ -8,5 +10,6 @@ public interface RestaurantCatalog {
     Optional<Restaurant> getRestaurant(RestaurantId id);
     boolean isRestaurantOpen(RestaurantId restaurantId);
     Optional<Dish> getDish(RestaurantId restaurantId, DishId dishId);
+    Map<DishId, Dish> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds);
     List<Dish> getAllDishes(RestaurantId restaurantId);
 }
\ No newline at end of file
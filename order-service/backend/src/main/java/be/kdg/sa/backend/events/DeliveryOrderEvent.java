@@ -1,6 +1,7 @@
 package be.kdg.sa.backend.events;
 
-import java.math.BigDecimal;
+import be.kdg.sa.backend.domain.Money;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -11,9 +12,9 @@ public record DeliveryOrderEvent(
         Address restaurantAddress,
         List<OrderLine> lines,
         String timePlaced,
-        BigDecimal totalPrice
+        Money totalPrice
 ) {
     public record Customer(String name, String email, Address address) {}
     public record Address(String street, String houseNumber, String busNumber, String country, String city, String postalCode) {}
-    public record OrderLine(UUID dishId, String dishName, int quantity, BigDecimal unitPrice, BigDecimal lineTotal) {}
+    public record OrderLine(UUID dishId, String dishName, int quantity, Money unitPrice, Money lineTotal) {}
 }
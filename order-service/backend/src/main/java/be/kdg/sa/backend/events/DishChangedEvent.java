@@ -0,0 +1,12 @@
+package be.kdg.sa.backend.events;
+
+import be.kdg.sa.backend.domain.Money;
+
+import java.util.UUID;
+
+public record DishChangedEvent(UUID restaurantId, UUID dishId, boolean removed, Dish dish, String priceIndicator,
+                               long version) {
+    public record Dish(UUID id, String name, String description, Money price, boolean vegetarian, boolean vegan,
+                       boolean glutenFree, String category, String status) {
+    }
+}
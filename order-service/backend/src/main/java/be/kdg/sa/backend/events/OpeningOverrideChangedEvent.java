@@ -0,0 +1,7 @@
+package be.kdg.sa.backend.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OpeningOverrideChangedEvent(UUID restaurantId, Boolean open, LocalDateTime until, long version) {
+}
@@ -0,0 +1,16 @@
+package be.kdg.sa.backend.events;
+
+import java.util.UUID;
+
+public record RestaurantChangedEvent(UUID restaurantId, String name, Address address, String cuisineType,
+                                     String priceIndicator, long version) {
+    public record Address(
+            String street,
+            String houseNumber,
+            String busNumber,
+            String postalCode,
+            String city,
+            String country
+    ) {
+    }
+}
@@ -1,12 +1,16 @@
 package be.kdg.sa.backend.handlers;
 
+import be.kdg.sa.backend.application.RetryOnConflict;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderId;
 import be.kdg.sa.backend.domain.order.OrderRepository;
 import be.kdg.sa.backend.events.DeliveryStatusChangedEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,14 +18,23 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class DeliveryStatusChangedHandler {
     private final OrderRepository orders;
+    private final Inbox inbox;
 
-    public DeliveryStatusChangedHandler(OrderRepository orders) {
+    public DeliveryStatusChangedHandler(OrderRepository orders, Inbox inbox) {
         this.orders = orders;
+        this.inbox = inbox;
     }
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_DELIVERY_ORDER_STATUS_CHANGED)
     @Transactional
-    public void handleDeliveryStatusChanged(DeliveryStatusChangedEvent event) {
+    @RetryOnConflict
+    public void handleDeliveryStatusChanged(DeliveryStatusChangedEvent event,
+                                            @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_DELIVERY_ORDER_STATUS_CHANGED, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         log.info("Received DeliveryStatusChangedEvent for order {} (status={})",
                 event.orderId(), event.status());
 
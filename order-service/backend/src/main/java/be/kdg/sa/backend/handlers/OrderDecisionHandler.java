@@ -1,5 +1,7 @@
 package be.kdg.sa.backend.handlers;
 
+import be.kdg.sa.backend.application.OrderTimeoutService;
+import be.kdg.sa.backend.application.RetryOnConflict;
 import be.kdg.sa.backend.application.publisher.DeliveryEventPublisher;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.domain.InvalidOrderStateException;
@@ -8,9 +10,12 @@ import be.kdg.sa.backend.domain.order.OrderId;
 import be.kdg.sa.backend.domain.order.OrderRepository;
 import be.kdg.sa.backend.events.DeliveryOrderEvent;
 import be.kdg.sa.backend.events.OrderDecisionEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -20,10 +25,14 @@ import java.util.List;
 public class OrderDecisionHandler {
     private final OrderRepository orders;
     private final DeliveryEventPublisher deliveryPublisher;
+    private final OrderTimeoutService timeouts;
+    private final Inbox inbox;
 
-    public OrderDecisionHandler(OrderRepository orders, DeliveryEventPublisher deliveryPublisher) {
+    public OrderDecisionHandler(OrderRepository orders, DeliveryEventPublisher deliveryPublisher, OrderTimeoutService timeouts, Inbox inbox) {
         this.orders = orders;
         this.deliveryPublisher = deliveryPublisher;
+        this.timeouts = timeouts;
+        this.inbox = inbox;
     }
 
     private static DeliveryOrderEvent.Customer getCustomer(Order order) {
@@ -48,7 +57,14 @@ public class OrderDecisionHandler {
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_ORDER_DECISION)
     @Transactional
-    public void handleOrderDecision(OrderDecisionEvent event) {
+    @RetryOnConflict
+    public void handleOrderDecision(OrderDecisionEvent event,
+                                    @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_ORDER_DECISION, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         try {
             if (!"ACCEPTED".equalsIgnoreCase(event.decision())) {
                 log.info("Ignoring non-accepted decision for order {}", event.orderId());
@@ -73,6 +89,7 @@ public class OrderDecisionHandler {
 
             deliveryPublisher.publishDeliveryOrder(delivery);
             orders.save(order);
+            timeouts.cancel(order.getId());
 
             log.info("Accepted order {} successfully", event.orderId());
 
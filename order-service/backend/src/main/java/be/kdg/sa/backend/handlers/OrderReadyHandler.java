@@ -1,14 +1,18 @@
 package be.kdg.sa.backend.handlers;
 
+import be.kdg.sa.backend.application.RetryOnConflict;
 import be.kdg.sa.backend.application.publisher.DeliveryEventPublisher;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.domain.order.OrderId;
 import be.kdg.sa.backend.domain.order.OrderRepository;
 import be.kdg.sa.backend.events.OrderReadyEvent;
 import be.kdg.sa.backend.events.OrderReadyForDeliveryEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -16,15 +20,24 @@ import org.springframework.stereotype.Component;
 public class OrderReadyHandler {
     private final OrderRepository orders;
     private final DeliveryEventPublisher deliveryPublisher;
+    private final Inbox inbox;
 
-    public OrderReadyHandler(OrderRepository orders, DeliveryEventPublisher deliveryPublisher) {
+    public OrderReadyHandler(OrderRepository orders, DeliveryEventPublisher deliveryPublisher, Inbox inbox) {
         this.orders = orders;
         this.deliveryPublisher = deliveryPublisher;
+        this.inbox = inbox;
     }
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_ORDER_READY)
     @Transactional
-    public void handleOrderReady(OrderReadyEvent event) {
+    @RetryOnConflict
+    public void handleOrderReady(OrderReadyEvent event,
+                                 @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_ORDER_READY, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         log.info("Received OrderReadyPublishedEvent for order {}", event.orderId());
 
         var order = orders.findById(new OrderId(event.orderId()))
@@ -1,28 +1,45 @@
 package be.kdg.sa.backend.handlers;
 
+import be.kdg.sa.backend.application.RetryOnConflict;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderId;
 import be.kdg.sa.backend.domain.order.OrderRepository;
 import be.kdg.sa.backend.domain.order.OrderStatus;
 import be.kdg.sa.backend.events.OrderTimeoutEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Drains timeouts that were still parked in the old TTL queue when order timeouts moved to
+ * {@link be.kdg.sa.backend.application.OrderTimeoutService}; nothing publishes to this queue anymore.
+ */
 @Slf4j
 @Component
 public class OrderTimeoutHandler {
     private final OrderRepository orders;
+    private final Inbox inbox;
 
-    public OrderTimeoutHandler(OrderRepository orders) {
+    public OrderTimeoutHandler(OrderRepository orders, Inbox inbox) {
         this.orders = orders;
+        this.inbox = inbox;
     }
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_ORDER_TIMEOUT_DLQ)
     @Transactional
-    void handleTimeout(OrderTimeoutEvent event) {
+    @RetryOnConflict
+    public void handleTimeout(OrderTimeoutEvent event,
+                              @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_ORDER_TIMEOUT_DLQ, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         Order order = orders.findById(new OrderId(event.orderId())).orElse(null);
         if (order == null) return;
 
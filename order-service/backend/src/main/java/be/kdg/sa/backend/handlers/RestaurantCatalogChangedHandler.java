@@ -0,0 +1,53 @@
+package be.kdg.sa.backend.handlers;
+
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.events.*;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.CachingRestaurantCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "remote")
+@RabbitListener(queues = "#{catalogInvalidationQueue.name}")
+public class RestaurantCatalogChangedHandler {
+    private final CachingRestaurantCatalog catalog;
+
+    public RestaurantCatalogChangedHandler(CachingRestaurantCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @RabbitHandler
+    public void handleDishChanged(DishChangedEvent event) {
+        log.info("Received DishChangedEvent for dish {} of restaurant {}", event.dishId(), event.restaurantId());
+        catalog.evictDish(new RestaurantId(event.restaurantId()), new DishId(event.dishId()));
+    }
+
+    @RabbitHandler
+    public void handleRestaurantChanged(RestaurantChangedEvent event) {
+        log.info("Received RestaurantChangedEvent for restaurant {}", event.restaurantId());
+        catalog.evictRestaurant(new RestaurantId(event.restaurantId()));
+    }
+
+    @RabbitHandler
+    public void handleMenuChanged(MenuChangedEvent event) {
+        log.info("Received MenuChangedEvent for restaurant {}", event.restaurantId());
+        catalog.evictRestaurant(new RestaurantId(event.restaurantId()));
+    }
+
+    @RabbitHandler
+    public void handleOpeningHoursChanged(OpeningHoursChangedEvent event) {
+        log.info("Received OpeningHoursChangedEvent for restaurant {}", event.restaurantId());
+        catalog.evictRestaurant(new RestaurantId(event.restaurantId()));
+    }
+
+    @RabbitHandler
+    public void handleOpeningOverrideChanged(OpeningOverrideChangedEvent event) {
+        log.info("Received OpeningOverrideChangedEvent for restaurant {}", event.restaurantId());
+        catalog.evictRestaurant(new RestaurantId(event.restaurantId()));
+    }
+}
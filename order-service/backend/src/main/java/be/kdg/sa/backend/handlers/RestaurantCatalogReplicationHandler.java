@@ -0,0 +1,52 @@
+package be.kdg.sa.backend.handlers;
+
+import be.kdg.sa.backend.config.RabbitMQTopology;
+import be.kdg.sa.backend.events.*;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.ReplicatedRestaurantCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "replicated", matchIfMissing = true)
+@RabbitListener(queues = RabbitMQTopology.QUEUE_ORDER_CATALOG)
+public class RestaurantCatalogReplicationHandler {
+    private final ReplicatedRestaurantCatalog catalog;
+
+    public RestaurantCatalogReplicationHandler(ReplicatedRestaurantCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @RabbitHandler
+    public void handleRestaurantChanged(RestaurantChangedEvent event) {
+        log.info("Replicating RestaurantChangedEvent for restaurant {}", event.restaurantId());
+        catalog.apply(event);
+    }
+
+    @RabbitHandler
+    public void handleDishChanged(DishChangedEvent event) {
+        log.info("Replicating DishChangedEvent for dish {} of restaurant {}", event.dishId(), event.restaurantId());
+        catalog.apply(event);
+    }
+
+    @RabbitHandler
+    public void handleMenuChanged(MenuChangedEvent event) {
+        log.info("Replicating MenuChangedEvent for restaurant {}", event.restaurantId());
+        catalog.apply(event);
+    }
+
+    @RabbitHandler
+    public void handleOpeningHoursChanged(OpeningHoursChangedEvent event) {
+        log.info("Replicating OpeningHoursChangedEvent for restaurant {}", event.restaurantId());
+        catalog.apply(event);
+    }
+
+    @RabbitHandler
+    public void handleOpeningOverrideChanged(OpeningOverrideChangedEvent event) {
+        log.info("Replicating OpeningOverrideChangedEvent for restaurant {}", event.restaurantId());
+        catalog.apply(event);
+    }
+}
@@ -1,23 +1,33 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.order;
 
 
+import be.kdg.sa.backend.application.events.OrderSavedDomainEvent;
+import be.kdg.sa.backend.domain.order.*;
+import be.kdg.sa.backend.domain.payment.PendingPayment;
 import be.kdg.sa.backend.domain.restaurant.DishId;
-import be.kdg.sa.backend.domain.order.Order;
-import be.kdg.sa.backend.domain.order.OrderId;
-import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaDishOrderView;
 import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
 import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaPendingPaymentView;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Repository
 public class DbOrderRepository implements OrderRepository {
     private final JpaOrderRepository jpaOrderRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher publisher;
 
-    DbOrderRepository(JpaOrderRepository jpaOrderRepository) {
+    DbOrderRepository(JpaOrderRepository jpaOrderRepository, EntityManager entityManager, ApplicationEventPublisher publisher) {
         this.jpaOrderRepository = jpaOrderRepository;
+        this.entityManager = entityManager;
+        this.publisher = publisher;
     }
 
     @Override
@@ -27,22 +37,36 @@ public class DbOrderRepository implements OrderRepository {
     }
 
     @Override
+    @Transactional
     public void save(Order order) {
-        JpaOrderEntity jpaOrderEntity = JpaOrderEntity.fromDomain(order);
-        this.jpaOrderRepository.save(jpaOrderEntity);
+        Optional<JpaOrderEntity> existing = this.jpaOrderRepository.findById(order.getId().value());
+        OrderStatus previousStatus = existing.map(JpaOrderEntity::getStatus).orElse(null);
+        JpaOrderEntity entity = existing
+                .map(stored -> {
+                    stored.updateFromDomain(order);
+                    return stored;
+                })
+                .orElseGet(() -> {
+                    JpaOrderEntity created = JpaOrderEntity.fromDomain(order);
+                    this.entityManager.persist(created);
+                    return created;
+                });
+        // flush so the event carries the version Hibernate actually wrote, not a guess at it
+        this.entityManager.flush();
+        publisher.publishEvent(new OrderSavedDomainEvent(order, entity.getVersion(), previousStatus));
     }
 
     @Override
-    public List<Order> findAll() {
-        return this.jpaOrderRepository.findAll().stream()
+    public List<Order> findByDishId(DishId dishId) {
+        return this.jpaOrderRepository.findAllByDishId(dishId.value()).stream()
                 .map(JpaOrderEntity::toDomain)
                 .toList();
     }
 
     @Override
-    public List<Order> findByDishId(DishId dishId) {
-        return this.jpaOrderRepository.findAllByDishId(dishId.value()).stream()
-                .map(JpaOrderEntity::toDomain)
+    public List<DishOrderSummary> findSummariesByDishId(DishId dishId) {
+        return this.jpaOrderRepository.findViewsByDishId(dishId.value()).stream()
+                .map(JpaDishOrderView::toDomain)
                 .toList();
     }
 
@@ -51,4 +75,28 @@ public class DbOrderRepository implements OrderRepository {
         return this.jpaOrderRepository.findByPaymentId(molliePaymentId)
                 .map(JpaOrderEntity::toDomain);
     }
+
+    @Override
+    public List<PendingPayment> findPendingPayments(LocalDateTime startedBefore, PendingPayment after, int limit) {
+        LocalDateTime afterCreatedAt = after != null ? after.createdAt() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        UUID afterId = after != null ? after.orderId().value() : new UUID(0, 0);
+        return this.jpaOrderRepository.findPendingPayments(startedBefore, afterCreatedAt, afterId, Limit.of(limit)).stream()
+                .map(JpaPendingPaymentView::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<OrderId> findIdsAfter(OrderId after, int limit) {
+        UUID afterId = after != null ? after.value() : new UUID(0, 0);
+        return this.jpaOrderRepository.findIdsAfter(afterId, Limit.of(limit)).stream()
+                .map(OrderId::new)
+                .toList();
+    }
+
+    @Override
+    public List<Order> findAllById(List<OrderId> orderIds) {
+        return this.jpaOrderRepository.findAllById(orderIds.stream().map(OrderId::value).toList()).stream()
+                .map(JpaOrderEntity::toDomain)
+                .toList();
+    }
 }
@@ -0,0 +1,129 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order;
+
+import be.kdg.sa.backend.domain.order.*;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryLine;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummarySpecifications.*;
+
+@Repository
+public class DbOrderSummaryRepository implements OrderSummaryRepository {
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private final JpaOrderSummaryRepository jpaOrderSummaryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    DbOrderSummaryRepository(JpaOrderSummaryRepository jpaOrderSummaryRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jpaOrderSummaryRepository = jpaOrderSummaryRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<OrderSummary> findById(OrderId orderId) {
+        return this.jpaOrderSummaryRepository.findById(orderId.value())
+                .map(JpaOrderSummaryEntity::toDomain);
+    }
+
+    @Override
+    public List<OrderSummary> findAllById(Collection<OrderId> orderIds) {
+        return this.jpaOrderSummaryRepository.findAllById(orderIds.stream().map(OrderId::value).toList()).stream()
+                .map(JpaOrderSummaryEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public OrderSummarySlice findPlaced(OrderStatus status, RestaurantId restaurantId, OrderCursor after, int limit) {
+        List<JpaOrderSummaryEntity> rows = this.jpaOrderSummaryRepository.findBy(
+                placed(status, restaurantId).and(after(after)),
+                query -> query.sortBy(NEWEST_FIRST).limit(limit + 1).all()
+        );
+
+        boolean hasMore = rows.size() > limit;
+        List<OrderSummary> summaries = rows.stream()
+                .limit(limit)
+                .map(JpaOrderSummaryEntity::toDomain)
+                .toList();
+
+        OrderCursor next = hasMore ? OrderCursor.of(summaries.getLast()) : null;
+        return new OrderSummarySlice(summaries, next);
+    }
+
+    @Override
+    public void streamPlaced(OrderStatus status, RestaurantId restaurantId, Consumer<OrderSummary> consumer) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<JpaOrderSummaryEntity> query = cb.createQuery(JpaOrderSummaryEntity.class);
+        Root<JpaOrderSummaryEntity> root = query.from(JpaOrderSummaryEntity.class);
+        query.where(placed(status, restaurantId).toPredicate(root, query, cb));
+        query.orderBy(cb.desc(root.get("placedAt")), cb.desc(root.get("id")));
+
+        AtomicInteger emitted = new AtomicInteger();
+        try (Stream<JpaOrderSummaryEntity> rows = this.entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_CHUNK_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(row -> {
+                consumer.accept(row.toDomain());
+                if (emitted.incrementAndGet() % STREAM_CHUNK_SIZE == 0) {
+                    this.entityManager.clear();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void save(OrderSummary summary) {
+        this.jpaOrderSummaryRepository.upsert(
+                summary.id().value(),
+                summary.restaurantId() != null ? summary.restaurantId().value() : null,
+                summary.status().name(),
+                linesJson(summary),
+                summary.lineCount(),
+                summary.itemCount(),
+                summary.totalPrice().cents(),
+                summary.paymentUrl(),
+                summary.createdAt(),
+                summary.placedAt(),
+                summary.decidedAt(),
+                summary.statusChangedAt(),
+                summary.version()
+        );
+    }
+
+    @Override
+    public void saveAll(List<OrderSummary> summaries) {
+        summaries.forEach(this::save);
+    }
+
+    @Override
+    public void deleteAllById(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) return;
+        this.jpaOrderSummaryRepository.deleteAllByOrderId(orderIds.stream().map(OrderId::value).toList());
+    }
+
+    private String linesJson(OrderSummary summary) {
+        try {
+            return objectMapper.writeValueAsString(summary.lines().stream().map(JpaOrderSummaryLine::fromDomain).toList());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize lines of order " + summary.id().value(), e);
+        }
+    }
+}
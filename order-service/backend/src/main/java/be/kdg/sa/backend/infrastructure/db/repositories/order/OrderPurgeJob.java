@@ -0,0 +1,168 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order;
+
+import be.kdg.sa.backend.config.OrderPurgeProperties;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaArchivedOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaPurgeCandidate;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes orders that were abandoned before payment, so the orders table and its indexes only hold live orders.
+ * <p>
+ * Per status in {@code order-purge.retention} it walks {@code (status, updated_at, id)} in key order, one chunk per
+ * transaction: the chunk is re-checked and locked with {@code SKIP LOCKED}, optionally copied to {@code order_archive}, and
+ * deleted together with its lines and summaries. Chunk size and the pause between chunks adapt to how long the last chunk
+ * took and whether requests are waiting for a connection, so the job backs off as soon as the database gets busy.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPurgeJob {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JpaOrderRepository orders;
+    private final JpaOrderSummaryRepository summaries;
+    private final JpaArchivedOrderRepository archive;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderPurgeProperties properties;
+    private final HikariDataSource hikari;
+    private final MeterRegistry meterRegistry;
+    private final Timer chunkTimer;
+    private final AtomicLong chunkSize;
+    private final AtomicLong pauseMillis = new AtomicLong();
+    private final AtomicLong backlogSeconds = new AtomicLong();
+
+    public OrderPurgeJob(JpaOrderRepository orders,
+                         JpaOrderSummaryRepository summaries,
+                         JpaArchivedOrderRepository archive,
+                         PlatformTransactionManager transactionManager,
+                         DataSource dataSource,
+                         OrderPurgeProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.orders = orders;
+        this.summaries = summaries;
+        this.archive = archive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.hikari = hikari(dataSource);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = new AtomicLong(properties.minChunkSize());
+
+        this.chunkTimer = Timer.builder("order.purge.chunk")
+                .description("Time spent purging one chunk of abandoned orders")
+                .register(meterRegistry);
+        Gauge.builder("order.purge.chunk-size", chunkSize, AtomicLong::get)
+                .description("Current adaptive chunk size of the order purge")
+                .register(meterRegistry);
+        Gauge.builder("order.purge.pause", pauseMillis, AtomicLong::get)
+                .description("Current pause between purge chunks in milliseconds")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("order.purge.backlog.age", backlogSeconds, AtomicLong::get)
+                .description("How far past its retention the oldest order seen in the last chunk was")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order-purge.interval:PT10M}", initialDelayString = "${order-purge.initial-delay:PT1M}")
+    void purge() throws InterruptedException {
+        long deadline = System.nanoTime() + properties.maxRunTime().toNanos();
+        for (Map.Entry<OrderStatus, Duration> rule : properties.retention().entrySet()) {
+            int purged = purge(rule.getKey(), LocalDateTime.now().minus(rule.getValue()), deadline);
+            if (purged > 0) log.info("Purged {} abandoned {} orders", purged, rule.getKey());
+        }
+    }
+
+    private int purge(OrderStatus status, LocalDateTime updatedBefore, long deadline) throws InterruptedException {
+        LocalDateTime afterUpdatedAt = EPOCH;
+        UUID afterId = new UUID(0, 0);
+        int total = 0;
+
+        while (System.nanoTime() < deadline) {
+            int limit = (int) chunkSize.get();
+            List<JpaPurgeCandidate> page = orders.findPurgeCandidates(status, updatedBefore, afterUpdatedAt, afterId, Limit.of(limit));
+            if (page.isEmpty()) {
+                backlogSeconds.set(0);
+                break;
+            }
+
+            backlogSeconds.set(Duration.between(page.getFirst().updatedAt(), updatedBefore).toSeconds());
+            List<UUID> ids = page.stream().map(JpaPurgeCandidate::id).toList();
+
+            long start = System.nanoTime();
+            Integer removed = transactionTemplate.execute(tx -> removeChunk(ids, status, updatedBefore));
+            Duration took = Duration.ofNanos(System.nanoTime() - start);
+            chunkTimer.record(took);
+
+            total += removed != null ? removed : 0;
+            meterRegistry.counter("order.purge.orders", "status", status.name(), "mode", properties.mode().name().toLowerCase())
+                    .increment(removed != null ? removed : 0);
+
+            afterUpdatedAt = page.getLast().updatedAt();
+            afterId = page.getLast().id();
+            if (page.size() < limit) break;
+
+            adapt(took);
+            long pause = pauseMillis.get();
+            if (pause > 0) Thread.sleep(pause);
+        }
+
+        return total;
+    }
+
+    private int removeChunk(List<UUID> ids, OrderStatus status, LocalDateTime updatedBefore) {
+        // an order that got touched since the scan, or is being written right now, stays
+        List<UUID> locked = orders.lockPurgeable(ids, status.name(), updatedBefore);
+        if (locked.isEmpty()) return 0;
+
+        if (properties.mode() == OrderPurgeProperties.Mode.ARCHIVE) archive.archive(locked);
+        summaries.deleteAllByOrderId(locked);
+        orders.deleteLines(locked);
+        return orders.deleteOrders(locked);
+    }
+
+    private void adapt(Duration took) {
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        boolean contended = pool != null && pool.getThreadsAwaitingConnection() > 0;
+        long size = chunkSize.get();
+        long pause = pauseMillis.get();
+
+        if (contended || took.compareTo(properties.targetChunkTime()) > 0) {
+            chunkSize.set(Math.max(properties.minChunkSize(), size / 2));
+            pauseMillis.set(Math.min(properties.maxPause().toMillis(), Math.max(pause * 2, took.toMillis())));
+        } else {
+            chunkSize.set(Math.min(properties.maxChunkSize(), size + properties.minChunkSize()));
+            pauseMillis.set(pause / 2);
+        }
+    }
+
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
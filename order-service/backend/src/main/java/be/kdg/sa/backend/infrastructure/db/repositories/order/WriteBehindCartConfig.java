@@ -0,0 +1,35 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order;
+
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class WriteBehindCartConfig {
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "carts.write-behind.enabled", havingValue = "true", matchIfMissing = true)
+    WriteBehindCartRepository writeBehindCartRepository(DbOrderRepository orders,
+                                                        JpaOrderRepository jpaOrderRepository,
+                                                        JpaOrderSummaryRepository jpaOrderSummaryRepository,
+                                                        EntityManager entityManager,
+                                                        PlatformTransactionManager transactionManager,
+                                                        MeterRegistry meterRegistry,
+                                                        @Value("${carts.maximum-size:100000}") long maximumSize,
+                                                        @Value("${carts.idle-ttl:30m}") Duration idleTtl,
+                                                        @Value("${carts.write-behind.min-age:2m}") Duration minAge,
+                                                        @Value("${carts.write-behind.batch-size:200}") int batchSize) {
+        return new WriteBehindCartRepository(orders, jpaOrderRepository, jpaOrderSummaryRepository, entityManager, new TransactionTemplate(transactionManager),
+                meterRegistry, maximumSize, idleTtl, minAge, batchSize);
+    }
+}
@@ -0,0 +1,372 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order;
+
+import be.kdg.sa.backend.domain.order.*;
+import be.kdg.sa.backend.domain.payment.PendingPayment;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link OrderStatus#CART} orders in memory and only writes them to the orders table behind the request path.
+ * <p>
+ * Adding dishes to a cart touches nothing but the cart held here. A change is checked against the cart's version when
+ * it is saved but only applied once the surrounding transaction commits, so a rolled back request leaves the cart as it
+ * was. Carts that have lived for at least {@code minAge} are flushed every {@code carts.write-behind.interval}, at most
+ * one write per cart per flush however many dishes were added in between; carts abandoned sooner never reach the
+ * database. A flush writes {@code batchSize} carts per transaction and falls back to one transaction per cart when a
+ * batch fails, so a conflicting cart only holds back itself. Once a cart leaves the CART status the save goes straight
+ * through to {@link DbOrderRepository} and the cart is dropped after commit.
+ * <p>
+ * Idle carts expire after {@code idleTtl} and their flushed row, if any, is deleted together with its summary. Carts pushed out by the size bound
+ * are flushed first. A cart belongs to the instance that holds it; other instances only see its last flushed state.
+ */
+@Slf4j
+public class WriteBehindCartRepository implements OrderRepository {
+    private final DbOrderRepository delegate;
+    private final JpaOrderRepository jpaOrderRepository;
+    private final JpaOrderSummaryRepository jpaOrderSummaryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Cache<OrderId, Cart> carts;
+    private final Map<OrderId, Cart> evicted = new ConcurrentHashMap<>();
+    private final Set<OrderId> expired = ConcurrentHashMap.newKeySet();
+    private final Counter flushed;
+    private final Counter deleted;
+
+    public WriteBehindCartRepository(DbOrderRepository delegate,
+                                     JpaOrderRepository jpaOrderRepository,
+                                     JpaOrderSummaryRepository jpaOrderSummaryRepository,
+                                     EntityManager entityManager,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry,
+                                     long maximumSize,
+                                     Duration idleTtl,
+                                     Duration minAge,
+                                     int batchSize) {
+        this(delegate, jpaOrderRepository, jpaOrderSummaryRepository, entityManager, transactionTemplate, meterRegistry,
+                maximumSize, idleTtl, minAge, batchSize, Ticker.systemTicker());
+    }
+
+    WriteBehindCartRepository(DbOrderRepository delegate,
+                              JpaOrderRepository jpaOrderRepository,
+                              JpaOrderSummaryRepository jpaOrderSummaryRepository,
+                              EntityManager entityManager,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              long maximumSize,
+                              Duration idleTtl,
+                              Duration minAge,
+                              int batchSize,
+                              Ticker ticker) {
+        this.delegate = delegate;
+        this.jpaOrderRepository = jpaOrderRepository;
+        this.jpaOrderSummaryRepository = jpaOrderSummaryRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTtl)
+                .ticker(ticker)
+                .evictionListener(this::onEviction)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, carts, "carts");
+        this.flushed = Counter.builder("carts.flushed").description("Carts written behind to the orders table").register(meterRegistry);
+        this.deleted = Counter.builder("carts.expired.deleted").description("Flushed carts deleted after going idle").register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        Cart cart = lookup(orderId);
+        if (cart != null) return Optional.of(cart.snapshot());
+
+        Optional<Order> stored = delegate.findById(orderId);
+        stored.filter(order -> order.getStatus() == OrderStatus.CART)
+                .ifPresent(order -> carts.asMap().putIfAbsent(orderId, new Cart(order, true)));
+        return stored;
+    }
+
+    @Override
+    public void save(Order order) {
+        Cart cart = lookup(order.getId());
+
+        if (order.getStatus() == OrderStatus.CART) {
+            if (cart == null) {
+                Cart created = new Cart(order, false);
+                afterCommit(() -> carts.put(order.getId(), created));
+            } else {
+                Order reserved = cart.reserve(order);
+                afterCompletion(() -> cart.apply(reserved), () -> cart.release(reserved));
+            }
+            return;
+        }
+
+        if (cart == null) {
+            delegate.save(order);
+            return;
+        }
+
+        // Leaving the cart: write the full order now, on top of whatever was flushed before. Holding the reservation
+        // until commit makes a cart change still waiting on its own commit, or one arriving meanwhile, lose instead.
+        Order reserved = cart.reserve(order);
+        try {
+            long storedVersion = jpaOrderRepository.findById(order.getId().value())
+                    .map(JpaOrderEntity::getVersion)
+                    .orElse(0L);
+            delegate.save(withVersion(order, storedVersion));
+        } catch (RuntimeException e) {
+            cart.release(reserved);
+            throw e;
+        }
+        afterCompletion(() -> {
+            carts.invalidate(order.getId());
+            evicted.remove(order.getId());
+        }, () -> cart.release(reserved));
+    }
+
+    @Scheduled(fixedDelayString = "${carts.write-behind.interval:PT30S}")
+    void flush() {
+        carts.cleanUp();
+
+        Instant cutoff = Instant.now().minus(minAge);
+        List<Map.Entry<OrderId, Cart>> due = new ArrayList<>(evicted.entrySet());
+        carts.asMap().forEach((id, cart) -> {
+            if (cart.isDueBefore(cutoff)) due.add(Map.entry(id, cart));
+        });
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Map.Entry<OrderId, Cart>> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            if (batch.size() > 1 && tryFlush(batch)) continue;
+
+            // isolate the failure: every cart gets its own transaction, so one conflict only holds back that cart
+            batch.forEach(entry -> {
+                if (!tryFlush(List.of(entry))) {
+                    log.warn("Could not flush cart {}, retrying on the next run", entry.getKey().value());
+                }
+            });
+        }
+
+        List<OrderId> gone = new ArrayList<>(expired);
+        if (gone.isEmpty()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> removed = new ArrayList<>();
+            gone.forEach(id -> jpaOrderRepository.findById(id.value())
+                    .filter(entity -> entity.getStatus() == OrderStatus.CART)
+                    .ifPresent(entity -> {
+                        jpaOrderRepository.delete(entity);
+                        removed.add(entity.getId());
+                    }));
+            // carts are not projected, but a summary written before that would otherwise outlive the cart
+            if (!removed.isEmpty()) jpaOrderSummaryRepository.deleteAllByOrderId(removed);
+            deleted.increment(removed.size());
+        });
+        expired.removeAll(gone);
+    }
+
+    private boolean tryFlush(List<Map.Entry<OrderId, Cart>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(entry -> write(entry.getValue())));
+        } catch (RuntimeException e) {
+            log.debug("Flushing {} carts failed: {}", batch.size(), e.getMessage());
+            return false;
+        }
+
+        batch.forEach(entry -> {
+            entry.getValue().markFlushed();
+            evicted.remove(entry.getKey(), entry.getValue());
+        });
+        flushed.increment(batch.size());
+        return true;
+    }
+
+    private void write(Cart cart) {
+        Order order = cart.flushing();
+        jpaOrderRepository.findById(order.getId().value()).ifPresentOrElse(
+                entity -> {
+                    // never let a late flush overwrite an order that already left the cart on this or another instance
+                    if (entity.getStatus() == OrderStatus.CART) {
+                        entity.updateFromDomain(withVersion(order, entity.getVersion()));
+                    }
+                },
+                () -> entityManager.persist(JpaOrderEntity.fromDomain(order))
+        );
+    }
+
+    private Cart lookup(OrderId orderId) {
+        Cart cart = carts.getIfPresent(orderId);
+        if (cart != null) return cart;
+
+        Cart pending = evicted.get(orderId);
+        if (pending != null) carts.asMap().putIfAbsent(orderId, pending);
+        return pending;
+    }
+
+    private void onEviction(OrderId orderId, Cart cart, RemovalCause cause) {
+        if (orderId == null || cart == null) return;
+        if (cause == RemovalCause.EXPIRED) {
+            if (cart.isPersisted()) expired.add(orderId);
+        } else if (cause == RemovalCause.SIZE && cart.isDirty()) {
+            evicted.put(orderId, cart);
+        }
+    }
+
+    @Override
+    public List<Order> findByDishId(DishId dishId) {
+        return delegate.findByDishId(dishId);
+    }
+
+    @Override
+    public List<DishOrderSummary> findSummariesByDishId(DishId dishId) {
+        return delegate.findSummariesByDishId(dishId);
+    }
+
+    @Override
+    public Optional<Order> findByPaymentId(String molliePaymentId) {
+        return delegate.findByPaymentId(molliePaymentId);
+    }
+
+    @Override
+    public List<PendingPayment> findPendingPayments(LocalDateTime startedBefore, PendingPayment after, int limit) {
+        return delegate.findPendingPayments(startedBefore, after, limit);
+    }
+
+    @Override
+    public List<OrderId> findIdsAfter(OrderId after, int limit) {
+        return delegate.findIdsAfter(after, limit);
+    }
+
+    @Override
+    public List<Order> findAllById(List<OrderId> orderIds) {
+        return delegate.findAllById(orderIds);
+    }
+
+    private static Order withVersion(Order order, long version) {
+        Order copy = new Order(order.getId(), order.getRestaurantId(), order.getTimePlaced(), order.getStatus(),
+                order.getTotalPrice(), order.getCustomerName(), order.getCustomerEmail(), order.getDeliveryAddress(),
+                order.getPayment(), version, order.getCreatedAt(), order.getDecisionAt(), order.getStatusChangedAt());
+        copy.setLines(order.getLines().stream()
+                .map(line -> new OrderLine(line.getDishId(), line.getDishName(), line.getUnitPrice(), line.getQuantity(), line.getNotes()))
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll));
+        return copy;
+    }
+
+    private static void afterCommit(Runnable action) {
+        afterCompletion(action, () -> {});
+    }
+
+    private static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * One cart as this instance knows it. Callers only ever get copies, so concurrent requests for the same cart
+     * cannot see each other's half-applied changes; the version catches the lost update instead. A change waiting for
+     * its transaction to commit holds the reservation, and a second change on the same version fails fast.
+     */
+    private static final class Cart {
+        private Order order;
+        private Order reserved;
+        private boolean persisted;
+        private Instant dirtySince;
+        private long flushingVersion = -1;
+        private final Instant createdAt = Instant.now();
+
+        private Cart(Order order, boolean persisted) {
+            this.order = withVersion(order, order.getVersion());
+            this.persisted = persisted;
+            this.dirtySince = persisted ? null : createdAt;
+        }
+
+        synchronized Order snapshot() {
+            return withVersion(order, order.getVersion());
+        }
+
+        synchronized Order reserve(Order changed) {
+            checkVersion(changed);
+            if (reserved != null) {
+                throw new ObjectOptimisticLockingFailureException(Order.class, changed.getId().value());
+            }
+            reserved = withVersion(changed, changed.getVersion() + 1);
+            return reserved;
+        }
+
+        synchronized void apply(Order change) {
+            if (reserved != change) return;
+            order = change;
+            reserved = null;
+            if (dirtySince == null) dirtySince = Instant.now();
+        }
+
+        synchronized void release(Order change) {
+            if (reserved == change) reserved = null;
+        }
+
+        private void checkVersion(Order changed) {
+            if (changed.getVersion() != order.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(Order.class, changed.getId().value());
+            }
+        }
+
+        synchronized boolean isDirty() {
+            return dirtySince != null;
+        }
+
+        synchronized boolean isDueBefore(Instant cutoff) {
+            return dirtySince != null && !createdAt.isAfter(cutoff);
+        }
+
+        synchronized boolean isPersisted() {
+            return persisted;
+        }
+
+        synchronized Order flushing() {
+            flushingVersion = order.getVersion();
+            return snapshot();
+        }
+
+        synchronized void markFlushed() {
+            persisted = true;
+            // changes made while the flush was running keep the cart dirty for the next one
+            if (order.getVersion() == flushingVersion) dirtySince = null;
+        }
+    }
+}
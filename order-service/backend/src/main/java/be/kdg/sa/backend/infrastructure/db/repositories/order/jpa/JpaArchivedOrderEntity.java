@@ -0,0 +1,53 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.infrastructure.db.converters.MoneyCentsConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Abandoned order moved out of the orders table by the purge job, lines folded into one JSON column.
+ */
+@Getter
+@Entity
+@Table(name = "order_archive", indexes = {
+        @Index(name = "idx_order_archive_archived_at", columnList = "archived_at")
+})
+public class JpaArchivedOrderEntity {
+    @Id
+    @Column(name = "order_id")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(name = "restaurant_id")
+    private UUID restaurantId;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "customer_email")
+    private String customerEmail;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "total_price_cents")
+    private Money totalPrice;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String lines;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    protected JpaArchivedOrderEntity() {}
+}
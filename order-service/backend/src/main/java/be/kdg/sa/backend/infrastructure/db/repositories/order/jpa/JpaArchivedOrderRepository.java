@@ -0,0 +1,30 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaArchivedOrderRepository extends JpaRepository<JpaArchivedOrderEntity, UUID> {
+    @Modifying
+    @Query(value = """
+                    insert into order_archive (order_id, status, restaurant_id, customer_name, customer_email, total_price_cents,
+                                               lines, updated_at, archived_at)
+                    select o.id, o.status, o.restaurant_id, o.customer_name, o.customer_email, o.total_price_cents,
+                           coalesce((select jsonb_agg(jsonb_build_object(
+                                                'dishId', l.dish_id,
+                                                'dishName', l.dish_name,
+                                                'unitPriceCents', l.unit_price_cents,
+                                                'quantity', l.quantity,
+                                                'notes', l.notes))
+                                     from order_lines l
+                                     where l.order_id = o.id), cast('[]' as jsonb)),
+                           o.updated_at, now()
+                    from orders o
+                    where o.id in (:ids)
+                    on conflict (order_id) do nothing
+            """, nativeQuery = true)
+    int archive(List<UUID> ids);
+}
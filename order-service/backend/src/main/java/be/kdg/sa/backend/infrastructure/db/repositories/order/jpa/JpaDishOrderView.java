@@ -0,0 +1,13 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.order.DishOrderSummary;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+
+import java.util.UUID;
+
+public record JpaDishOrderView(UUID orderId, OrderStatus status, int quantity) {
+    public DishOrderSummary toDomain() {
+        return new DishOrderSummary(new OrderId(orderId), status, quantity);
+    }
+}
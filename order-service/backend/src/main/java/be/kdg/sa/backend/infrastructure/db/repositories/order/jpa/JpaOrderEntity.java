@@ -1,23 +1,36 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.payment.Payment;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
 import be.kdg.sa.backend.domain.order.Order;
 import be.kdg.sa.backend.domain.order.OrderId;
 import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.infrastructure.db.converters.MoneyCentsConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@DynamicUpdate
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_payment_created_at", columnList = "status, payment_created_at, id"),
+        @Index(name = "idx_orders_status_updated_at", columnList = "status, updated_at, id")
+})
 public class JpaOrderEntity {
     @Id
     private UUID id;
@@ -25,16 +38,20 @@ public class JpaOrderEntity {
     @Column(name = "restaurant_id")
     private UUID restaurantId;
 
+    @Column(name = "time_placed")
     private LocalDateTime timePlaced;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
     @Setter
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<JpaOrderLineEntity> lines = new ArrayList<>();
 
-    private BigDecimal totalPrice;
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "total_price_cents")
+    private Money totalPrice;
 
     @Column(name = "customer_name")
     private String customerName;
@@ -47,15 +64,33 @@ public class JpaOrderEntity {
     @Embedded
     private JpaPaymentEntity payment;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "decision_at")
+    private LocalDateTime decisionAt;
+
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    private long version;
+
     protected JpaOrderEntity() {}
 
-    public JpaOrderEntity(UUID id, UUID restaurantId, LocalDateTime timePlaced, OrderStatus status, BigDecimal totalPrice, Payment payment) {
+    public JpaOrderEntity(UUID id, UUID restaurantId, LocalDateTime timePlaced, OrderStatus status, Money totalPrice, Payment payment) {
         this.id = id;
         this.restaurantId = restaurantId;
         this.timePlaced = timePlaced;
         this.status = status;
         this.totalPrice = totalPrice;
         this.payment = payment != null ? JpaPaymentEntity.fromDomain(payment) : null;
+        this.createdAt = LocalDateTime.now();
+        this.statusChangedAt = this.createdAt;
     }
 
     public static JpaOrderEntity fromDomain(Order order) {
@@ -70,10 +105,13 @@ public class JpaOrderEntity {
 
         List<JpaOrderLineEntity> JpaOrderLineEntities = order.getLines().stream()
                 .map(line -> JpaOrderLineEntity.fromDomain(line, jpaOrderEntity))
-                .toList();
+                .collect(Collectors.toCollection(ArrayList::new));
 
         jpaOrderEntity.setLines(JpaOrderLineEntities);
 
+        if (order.getCreatedAt() != null) jpaOrderEntity.createdAt = order.getCreatedAt();
+        jpaOrderEntity.decisionAt = order.getDecisionAt();
+        jpaOrderEntity.statusChangedAt = order.getStatusChangedAt() != null ? order.getStatusChangedAt() : jpaOrderEntity.createdAt;
         jpaOrderEntity.customerName = order.getCustomerName();
         jpaOrderEntity.customerEmail = order.getCustomerEmail();
         if (order.getDeliveryAddress() != null) {
@@ -83,6 +121,52 @@ public class JpaOrderEntity {
         return jpaOrderEntity;
     }
 
+    /**
+     * Copies the state of the aggregate onto this managed entity, touching only what changed so that
+     * dirty checking with {@link DynamicUpdate} emits minimal updates and lines are diffed by dish.
+     */
+    public void updateFromDomain(Order order) {
+        if (order.getVersion() != this.version) {
+            throw new ObjectOptimisticLockingFailureException(JpaOrderEntity.class, this.id);
+        }
+
+        UUID domainRestaurantId = order.getRestaurantId() != null ? order.getRestaurantId().value() : null;
+        if (!Objects.equals(this.restaurantId, domainRestaurantId)) this.restaurantId = domainRestaurantId;
+        if (!Objects.equals(this.timePlaced, order.getTimePlaced())) this.timePlaced = order.getTimePlaced();
+        if (this.status != order.getStatus()) this.status = order.getStatus();
+        if (!Objects.equals(this.decisionAt, order.getDecisionAt())) this.decisionAt = order.getDecisionAt();
+        if (order.getStatusChangedAt() != null && !order.getStatusChangedAt().equals(this.statusChangedAt)) {
+            this.statusChangedAt = order.getStatusChangedAt();
+        }
+        if (!Objects.equals(this.totalPrice, order.getTotalPrice())) this.totalPrice = order.getTotalPrice();
+        if (!Objects.equals(this.customerName, order.getCustomerName())) this.customerName = order.getCustomerName();
+        if (!Objects.equals(this.customerEmail, order.getCustomerEmail())) this.customerEmail = order.getCustomerEmail();
+
+        if (order.getDeliveryAddress() == null) {
+            this.deliveryAddress = null;
+        } else if (this.deliveryAddress == null || !this.deliveryAddress.toDomain().equals(order.getDeliveryAddress())) {
+            this.deliveryAddress = JpaAddress.fromDomain(order.getDeliveryAddress());
+        }
+
+        if (order.getPayment() == null) {
+            this.payment = null;
+        } else if (this.payment == null || !this.payment.matches(order.getPayment())) {
+            this.payment = JpaPaymentEntity.fromDomain(order.getPayment());
+        }
+
+        Map<UUID, JpaOrderLineEntity> existing = this.lines.stream()
+                .collect(Collectors.toMap(line -> line.getId().getDishId(), Function.identity()));
+        for (var line : order.getLines()) {
+            JpaOrderLineEntity current = existing.remove(line.getDishId().value());
+            if (current != null) {
+                current.updateFromDomain(line);
+            } else {
+                this.lines.add(JpaOrderLineEntity.fromDomain(line, this));
+            }
+        }
+        this.lines.removeAll(existing.values());
+    }
+
     public Order toDomain() {
         RestaurantId domainRestaurantId = restaurantId != null ? new RestaurantId(restaurantId) : null;
 
@@ -95,7 +179,11 @@ public class JpaOrderEntity {
                 this.customerName != null ? this.customerName : null,
                 this.customerEmail != null ? this.customerEmail : null,
                 this.deliveryAddress != null ? this.deliveryAddress.toDomain() : null,
-                payment != null ? payment.toDomain() : null
+                payment != null ? payment.toDomain() : null,
+                version,
+                createdAt,
+                decisionAt,
+                statusChangedAt
         );
         order.setLines(new ArrayList<>(lines.stream()
                 .map(JpaOrderLineEntity::toDomain)
@@ -1,24 +1,31 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.DishId;
 import be.kdg.sa.backend.domain.order.OrderLine;
+import be.kdg.sa.backend.infrastructure.db.converters.MoneyCentsConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
-import java.math.BigDecimal;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "orderLines")
+@DynamicUpdate
+@Table(name = "orderLines", indexes = {
+        @Index(name = "idx_order_lines_dish_id", columnList = "dish_id, order_id")
+})
 public class JpaOrderLineEntity {
     @EmbeddedId
     private JpaOrderLineId id;
     private String dishName;
 
-    @Column(name = "unit_price",nullable = false, precision = 19, scale = 2)
-    private BigDecimal unitPrice;
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "unit_price_cents", nullable = false)
+    private Money unitPrice;
 
     @Column(nullable = false)
     private int quantity;
@@ -32,7 +39,7 @@ public class JpaOrderLineEntity {
 
     protected JpaOrderLineEntity() {}
 
-    public JpaOrderLineEntity(UUID orderId, UUID dishId, String dishName, BigDecimal unitPrice, int quantity, String notes) {
+    public JpaOrderLineEntity(UUID orderId, UUID dishId, String dishName, Money unitPrice, int quantity, String notes) {
         this.id = new JpaOrderLineId(orderId, dishId);
         this.dishName = dishName;
         this.unitPrice = unitPrice;
@@ -53,6 +60,13 @@ public class JpaOrderLineEntity {
         return jpaOrderLineEntity;
     }
 
+    void updateFromDomain(OrderLine orderLine) {
+        if (!Objects.equals(this.dishName, orderLine.getDishName())) this.dishName = orderLine.getDishName();
+        if (!Objects.equals(this.unitPrice, orderLine.getUnitPrice())) this.unitPrice = orderLine.getUnitPrice();
+        if (this.quantity != orderLine.getQuantity()) this.quantity = orderLine.getQuantity();
+        if (!Objects.equals(this.notes, orderLine.getNotes())) this.notes = orderLine.getNotes();
+    }
+
     public OrderLine toDomain() {
         return new OrderLine(
                 new DishId(this.id.getDishId()),
@@ -1,25 +1,87 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
 
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaOrderRepository extends JpaRepository<JpaOrderEntity, UUID> {
     @Query(value = """
-                    select o
+                    select distinct o
                     from JpaOrderEntity o
-                    join o.lines l
-                    where l.id.dishId = :dishId
+                    left join fetch o.lines
+                    where exists (
+                        select 1
+                        from JpaOrderLineEntity l
+                        where l.order = o and l.id.dishId = :dishId
+                    )
             """)
     List<JpaOrderEntity> findAllByDishId(UUID dishId);
 
+    @Query(value = """
+                    select new be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaDishOrderView(o.id, o.status, l.quantity)
+                    from JpaOrderLineEntity l
+                    join l.order o
+                    where l.id.dishId = :dishId
+            """)
+    List<JpaDishOrderView> findViewsByDishId(UUID dishId);
+
     @Query(value = """
                     select o
                     from JpaOrderEntity o
                     where o.payment.id = :paymentId
             """)
     Optional<JpaOrderEntity> findByPaymentId(String paymentId);
+
+    @Query(value = """
+                    select new be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaPendingPaymentView(o.id, o.payment.id, o.payment.createdAt)
+                    from JpaOrderEntity o
+                    where o.status = be.kdg.sa.backend.domain.order.OrderStatus.PAYMENT_IN_PROGRESS
+                      and o.payment.createdAt < :startedBefore
+                      and (o.payment.createdAt > :afterCreatedAt or (o.payment.createdAt = :afterCreatedAt and o.id > :afterId))
+                    order by o.payment.createdAt, o.id
+            """)
+    List<JpaPendingPaymentView> findPendingPayments(LocalDateTime startedBefore, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
+
+    @Query(value = """
+                    select o.id
+                    from JpaOrderEntity o
+                    where o.id > :afterId
+                    order by o.id
+            """)
+    List<UUID> findIdsAfter(UUID afterId, Limit limit);
+
+    @Query(value = """
+                    select new be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaPurgeCandidate(o.id, o.updatedAt)
+                    from JpaOrderEntity o
+                    where o.status = :status
+                      and o.updatedAt < :updatedBefore
+                      and (o.updatedAt > :afterUpdatedAt or (o.updatedAt = :afterUpdatedAt and o.id > :afterId))
+                    order by o.updatedAt, o.id
+            """)
+    List<JpaPurgeCandidate> findPurgeCandidates(OrderStatus status, LocalDateTime updatedBefore, LocalDateTime afterUpdatedAt, UUID afterId, Limit limit);
+
+    @Query(value = """
+                    select id
+                    from orders
+                    where id in (:ids)
+                      and status = :status
+                      and updated_at < :updatedBefore
+                    for update skip locked
+            """, nativeQuery = true)
+    List<UUID> lockPurgeable(List<UUID> ids, String status, LocalDateTime updatedBefore);
+
+    @Modifying
+    @Query(value = "delete from order_lines where order_id in (:ids)", nativeQuery = true)
+    int deleteLines(List<UUID> ids);
+
+    @Modifying
+    @Query(value = "delete from orders where id in (:ids)", nativeQuery = true)
+    int deleteOrders(List<UUID> ids);
 }
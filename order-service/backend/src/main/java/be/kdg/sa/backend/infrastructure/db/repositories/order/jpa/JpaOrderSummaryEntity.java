@@ -0,0 +1,85 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.order.OrderSummary;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.infrastructure.db.converters.MoneyCentsConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "order_summaries", indexes = {
+        @Index(name = "idx_order_summaries_placed_at_id", columnList = "placed_at DESC, order_id DESC"),
+        @Index(name = "idx_order_summaries_status_placed_at", columnList = "status, placed_at DESC, order_id DESC"),
+        @Index(name = "idx_order_summaries_restaurant_placed_at", columnList = "restaurant_id, placed_at DESC, order_id DESC")
+})
+public class JpaOrderSummaryEntity {
+    @Id
+    @Column(name = "order_id")
+    private UUID id;
+
+    @Column(name = "restaurant_id")
+    private UUID restaurantId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<JpaOrderSummaryLine> lines;
+
+    @Column(name = "line_count")
+    private int lineCount;
+
+    @Column(name = "item_count")
+    private int itemCount;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "total_price_cents")
+    private Money totalPrice;
+
+    @Column(name = "payment_url")
+    private String paymentUrl;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "placed_at")
+    private LocalDateTime placedAt;
+
+    @Column(name = "decided_at")
+    private LocalDateTime decidedAt;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    private long version;
+
+    protected JpaOrderSummaryEntity() {}
+
+    public OrderSummary toDomain() {
+        return new OrderSummary(
+                new OrderId(id),
+                restaurantId != null ? new RestaurantId(restaurantId) : null,
+                status,
+                lines != null ? lines.stream().map(JpaOrderSummaryLine::toDomain).toList() : List.of(),
+                lineCount,
+                itemCount,
+                totalPrice,
+                paymentUrl,
+                createdAt,
+                placedAt,
+                decidedAt,
+                statusChangedAt,
+                version
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.OrderSummary;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+
+import java.util.UUID;
+
+public record JpaOrderSummaryLine(UUID dishId, String dishName, long unitPriceCents, long totalPriceCents, int quantity, String notes) {
+    public static JpaOrderSummaryLine fromDomain(OrderSummary.Line line) {
+        return new JpaOrderSummaryLine(line.dishId().value(), line.dishName(), line.unitPrice().cents(), line.totalPrice().cents(), line.quantity(), line.notes());
+    }
+
+    public OrderSummary.Line toDomain() {
+        return new OrderSummary.Line(new DishId(dishId), dishName, Money.ofCents(unitPriceCents), Money.ofCents(totalPriceCents), quantity, notes);
+    }
+}
@@ -0,0 +1,41 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaOrderSummaryRepository extends JpaRepository<JpaOrderSummaryEntity, UUID>, JpaSpecificationExecutor<JpaOrderSummaryEntity> {
+    @Modifying
+    @Query(value = """
+                    insert into order_summaries (order_id, restaurant_id, status, lines, line_count, item_count, total_price_cents,
+                                                 payment_url, created_at, placed_at, decided_at, status_changed_at, version)
+                    values (:id, :restaurantId, :status, cast(:lines as jsonb), :lineCount, :itemCount, :totalPriceCents,
+                            :paymentUrl, :createdAt, :placedAt, :decidedAt, :statusChangedAt, :version)
+                    on conflict (order_id) do update
+                    set restaurant_id = excluded.restaurant_id,
+                        status = excluded.status,
+                        lines = excluded.lines,
+                        line_count = excluded.line_count,
+                        item_count = excluded.item_count,
+                        total_price_cents = excluded.total_price_cents,
+                        payment_url = excluded.payment_url,
+                        created_at = excluded.created_at,
+                        placed_at = excluded.placed_at,
+                        decided_at = excluded.decided_at,
+                        status_changed_at = excluded.status_changed_at,
+                        version = excluded.version
+                    where order_summaries.version <= excluded.version
+            """, nativeQuery = true)
+    int upsert(UUID id, UUID restaurantId, String status, String lines, int lineCount, int itemCount, long totalPriceCents,
+               String paymentUrl, LocalDateTime createdAt, LocalDateTime placedAt, LocalDateTime decidedAt,
+               LocalDateTime statusChangedAt, long version);
+
+    @Modifying
+    @Query(value = "delete from order_summaries where order_id in (:ids)", nativeQuery = true)
+    int deleteAllByOrderId(List<UUID> ids);
+}
@@ -0,0 +1,41 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.order.OrderCursor;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class JpaOrderSummarySpecifications {
+
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("placedAt"), Sort.Order.desc("id"));
+
+    private JpaOrderSummarySpecifications() {
+    }
+
+    public static Specification<JpaOrderSummaryEntity> placed(OrderStatus status, RestaurantId restaurantId) {
+        return (root, query, cb) -> {
+            var predicate = cb.isNotNull(root.get("placedAt"));
+            if (status != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("status"), status));
+            }
+            if (restaurantId != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("restaurantId"), restaurantId.value()));
+            }
+            return predicate;
+        };
+    }
+
+    public static Specification<JpaOrderSummaryEntity> after(OrderCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return cb.conjunction();
+            return cb.or(
+                    cb.lessThan(root.get("placedAt"), cursor.timePlaced()),
+                    cb.and(
+                            cb.equal(root.get("placedAt"), cursor.timePlaced()),
+                            cb.lessThan(root.get("id"), cursor.id().value())
+                    )
+            );
+        };
+    }
+}
@@ -8,6 +8,9 @@ import jakarta.persistence.Embeddable;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 @Embeddable
 public class JpaPaymentEntity {
     @Column(name = "payment_id")
@@ -17,28 +20,40 @@ public class JpaPaymentEntity {
     @Enumerated(EnumType.STRING)
     @Column(name = "payment_status")
     private PaymentStatus status;
+    @Column(name = "payment_created_at")
+    private LocalDateTime createdAt;
 
     protected JpaPaymentEntity() {}
 
-    public JpaPaymentEntity(String id, String checkoutUrl, PaymentStatus status) {
+    public JpaPaymentEntity(String id, String checkoutUrl, PaymentStatus status, LocalDateTime createdAt) {
         this.id = id;
         this.checkoutUrl = checkoutUrl;
         this.status = status;
+        this.createdAt = createdAt;
     }
 
     public static JpaPaymentEntity fromDomain(Payment payment) {
         return new JpaPaymentEntity(
                 payment.getId().value(),
                 payment.getCheckoutUrl(),
-                payment.getStatus()
+                payment.getStatus(),
+                payment.getCreatedAt()
         );
     }
 
+    boolean matches(Payment payment) {
+        return Objects.equals(this.id, payment.getId().value())
+                && Objects.equals(this.checkoutUrl, payment.getCheckoutUrl())
+                && this.status == payment.getStatus()
+                && Objects.equals(this.createdAt, payment.getCreatedAt());
+    }
+
     public Payment toDomain() {
         return new Payment(
                 new MolliePaymentId(this.id),
                 this.checkoutUrl,
-                this.status
+                this.status,
+                this.createdAt
         );
     }
 }
@@ -0,0 +1,14 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.payment.MolliePaymentId;
+import be.kdg.sa.backend.domain.payment.PendingPayment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record JpaPendingPaymentView(UUID orderId, String paymentId, LocalDateTime createdAt) {
+    public PendingPayment toDomain() {
+        return new PendingPayment(new OrderId(orderId), new MolliePaymentId(paymentId), createdAt);
+    }
+}
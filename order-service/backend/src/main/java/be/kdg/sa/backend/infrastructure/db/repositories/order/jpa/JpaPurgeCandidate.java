@@ -0,0 +1,7 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record JpaPurgeCandidate(UUID id, LocalDateTime updatedAt) {
+}
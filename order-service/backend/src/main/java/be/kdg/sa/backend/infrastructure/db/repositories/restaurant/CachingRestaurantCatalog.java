@@ -0,0 +1,125 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.domain.restaurant.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+
+@Slf4j
+public class CachingRestaurantCatalog implements RestaurantCatalog {
+
+    private final RestaurantCatalog delegate;
+    private final Cache<DishKey, Dish> dishes;
+    private final Cache<RestaurantId, List<Dish>> dishLists;
+    private final Cache<RestaurantId, Restaurant> restaurants;
+
+    public CachingRestaurantCatalog(RestaurantCatalog delegate,
+                                    MeterRegistry meterRegistry,
+                                    long maximumSize,
+                                    Duration dishTtl,
+                                    Duration restaurantTtl) {
+        this.delegate = delegate;
+        this.dishes = build(maximumSize, dishTtl);
+        this.dishLists = build(maximumSize, dishTtl);
+        this.restaurants = build(maximumSize, restaurantTtl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, dishes, "restaurant-catalog.dishes");
+        CaffeineCacheMetrics.monitor(meterRegistry, dishLists, "restaurant-catalog.dish-lists");
+        CaffeineCacheMetrics.monitor(meterRegistry, restaurants, "restaurant-catalog.restaurants");
+    }
+
+    private static <K, V> Cache<K, V> build(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public List<Restaurant> getAllRestaurants() {
+        List<Restaurant> all = delegate.getAllRestaurants();
+        all.forEach(restaurant -> restaurants.put(restaurant.id(), restaurant));
+        return all;
+    }
+
+    @Override
+    public Optional<Restaurant> getRestaurant(RestaurantId id) {
+        Restaurant cached = restaurants.getIfPresent(id);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<Restaurant> restaurant = delegate.getRestaurant(id);
+        restaurant.ifPresent(r -> restaurants.put(id, r));
+        return restaurant;
+    }
+
+    @Override
+    public boolean isRestaurantOpen(RestaurantId restaurantId) {
+        return delegate.isRestaurantOpen(restaurantId);
+    }
+
+    @Override
+    public Optional<Dish> getDish(RestaurantId restaurantId, DishId dishId) {
+        DishKey key = new DishKey(restaurantId, dishId);
+        Dish cached = dishes.getIfPresent(key);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<Dish> dish = delegate.getDish(restaurantId, dishId);
+        dish.ifPresent(d -> dishes.put(key, d));
+        return dish;
+    }
+
+    @Override
+    public Map<DishId, Dish> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        Map<DishId, Dish> result = new HashMap<>();
+        List<DishId> missing = new ArrayList<>();
+
+        for (DishId dishId : dishIds) {
+            Dish cached = dishes.getIfPresent(new DishKey(restaurantId, dishId));
+            if (cached != null) result.put(dishId, cached);
+            else missing.add(dishId);
+        }
+
+        if (!missing.isEmpty()) {
+            delegate.getDishes(restaurantId, missing).forEach((dishId, dish) -> {
+                dishes.put(new DishKey(restaurantId, dishId), dish);
+                result.put(dishId, dish);
+            });
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<Dish> getAllDishes(RestaurantId restaurantId) {
+        List<Dish> cached = dishLists.getIfPresent(restaurantId);
+        if (cached != null) return cached;
+
+        List<Dish> all = List.copyOf(delegate.getAllDishes(restaurantId));
+        dishLists.put(restaurantId, all);
+        all.forEach(dish -> dishes.put(new DishKey(restaurantId, dish.dishId()), dish));
+        return all;
+    }
+
+    public void evictDish(RestaurantId restaurantId, DishId dishId) {
+        log.debug("Evicting dish {} of restaurant {} from catalog cache", dishId, restaurantId);
+        dishes.invalidate(new DishKey(restaurantId, dishId));
+        dishLists.invalidate(restaurantId);
+        restaurants.invalidate(restaurantId);
+    }
+
+    public void evictRestaurant(RestaurantId restaurantId) {
+        log.debug("Evicting restaurant {} from catalog cache", restaurantId);
+        restaurants.invalidate(restaurantId);
+        dishLists.invalidate(restaurantId);
+        dishes.asMap().keySet().removeIf(key -> key.restaurantId().equals(restaurantId));
+    }
+
+    private record DishKey(RestaurantId restaurantId, DishId dishId) {
+    }
+}
@@ -0,0 +1,43 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.domain.restaurant.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Answers the checkout lookups on the calling thread. The replicated catalog reads local tables inside the caller's
+ * transaction, so fanning out to other threads would only take extra pool connections without saving any latency.
+ */
+@Component
+@ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "replicated", matchIfMissing = true)
+public class DirectRestaurantCatalog implements AsyncRestaurantCatalog {
+
+    private final RestaurantCatalog delegate;
+
+    public DirectRestaurantCatalog(RestaurantCatalog delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isRestaurantOpen(RestaurantId restaurantId) {
+        return call(() -> delegate.isRestaurantOpen(restaurantId));
+    }
+
+    @Override
+    public CompletableFuture<Map<DishId, Dish>> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        return call(() -> delegate.getDishes(restaurantId, dishIds));
+    }
+
+    private static <T> CompletableFuture<T> call(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.completedFuture(lookup.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
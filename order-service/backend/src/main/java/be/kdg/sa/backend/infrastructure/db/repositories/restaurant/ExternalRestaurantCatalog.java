@@ -1,17 +1,19 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.Address;
 import be.kdg.sa.backend.domain.restaurant.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
-import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -25,23 +27,18 @@ public class ExternalRestaurantCatalog implements RestaurantCatalog {
 
     @Override
     public List<Restaurant> getAllRestaurants() {
-        try {
-            String url = "restaurants/";
+        String url = "restaurants/";
 
-            RestaurantResponse[] response = restClient
-                    .get()
-                    .uri(url)
-                    .retrieve()
-                    .body(RestaurantResponse[].class);
+        RestaurantResponse[] response = restClient
+                .get()
+                .uri(url)
+                .retrieve()
+                .body(RestaurantResponse[].class);
 
-            if (response == null) return new ArrayList<>();
+        if (response == null) return new ArrayList<>();
 
-            return Arrays.stream(response)
-                    .map(RestaurantResponse::toRestaurant).toList();
-        } catch (Exception e) {
-            log.warn("Could not retrieve restaurants.", e);
-            return null;
-        }
+        return Arrays.stream(response)
+                .map(RestaurantResponse::toRestaurant).toList();
     }
 
     @Override
@@ -70,7 +67,7 @@ public class ExternalRestaurantCatalog implements RestaurantCatalog {
                     .body(RestaurantOpenResponse.class);
 
             return response != null && Boolean.TRUE.equals(response.open());
-        } catch (HttpStatusCodeException e) {
+        } catch (HttpClientErrorException.NotFound e) {
             log.warn("Could not check if restaurant {} is open", restaurantId, e);
             return false;
         }
@@ -89,12 +86,37 @@ public class ExternalRestaurantCatalog implements RestaurantCatalog {
 
             return Optional.ofNullable(response)
                     .map(DishResponse::toDish);
-        } catch (final HttpStatusCodeException e) {
+        } catch (final HttpClientErrorException.NotFound e) {
             log.warn("Could not retrieve information of dish {}", dishId, e);
             return Optional.empty();
         }
     }
 
+    @Override
+    public Map<DishId, Dish> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        if (dishIds.isEmpty()) return Map.of();
+
+        try {
+            final DishResponse[] response = restClient
+                    .get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("restaurants/{restaurantId}/dishes/lookup")
+                            .queryParam("ids", dishIds.stream().map(DishId::value).distinct().toList())
+                            .build(restaurantId.value()))
+                    .retrieve()
+                    .body(DishResponse[].class);
+
+            if (response == null) return Map.of();
+
+            return Arrays.stream(response)
+                    .map(DishResponse::toDish)
+                    .collect(Collectors.toMap(Dish::dishId, Function.identity()));
+        } catch (final HttpClientErrorException.NotFound e) {
+            log.warn("Could not retrieve dishes {} of restaurant {}", dishIds, restaurantId, e);
+            return Map.of();
+        }
+    }
+
     @Override
     public List<Dish> getAllDishes(RestaurantId restaurantId) {
         String url = String.format("restaurants/%s/dishes", restaurantId.value());
@@ -112,7 +134,7 @@ public class ExternalRestaurantCatalog implements RestaurantCatalog {
                 .toList();
     }
 
-    private record DishResponse(UUID id, String name, String description, BigDecimal price, boolean vegetarian,
+    private record DishResponse(UUID id, String name, String description, Money price, boolean vegetarian,
                                 boolean vegan, boolean glutenFree, String category, String status) {
         public static Dish toDish(DishResponse dishResponse) {
             return new Dish(
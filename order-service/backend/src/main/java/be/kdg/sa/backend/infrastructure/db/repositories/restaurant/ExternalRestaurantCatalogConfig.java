@@ -1,14 +1,42 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
 
+import be.kdg.sa.backend.infrastructure.http.GzipClientHttpRequestInterceptor;
+import be.kdg.sa.backend.infrastructure.http.ServiceHttpClientFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+
 @Configuration
 public class ExternalRestaurantCatalogConfig {
     @Bean("ApiRestaurantCatalog")
-    RestClient dishCatalogRestTemplate(@Value("${restaurant-service-api.url}") final String url) {
-        return RestClient.create(url);
+    RestClient dishCatalogRestTemplate(RestClient.Builder builder,
+                                       ServiceHttpClientFactory httpClients,
+                                       @Value("${restaurant-service-api.url}") final String url,
+                                       @Value("${restaurant-service-api.connect-timeout:1s}") final Duration connectTimeout,
+                                       @Value("${restaurant-service-api.read-timeout:2s}") final Duration readTimeout) {
+        builder.baseUrl(url)
+                .requestFactory(httpClients.create("restaurant-service", connectTimeout, readTimeout));
+
+        if (httpClients.isHttp2() && httpClients.isGzip()) {
+            builder.requestInterceptor(new GzipClientHttpRequestInterceptor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "remote")
+    CachingRestaurantCatalog cachingRestaurantCatalog(ResilientRestaurantCatalog external,
+                                                      MeterRegistry meterRegistry,
+                                                      @Value("${restaurant-catalog.cache.maximum-size:10000}") long maximumSize,
+                                                      @Value("${restaurant-catalog.cache.dish-ttl:10m}") Duration dishTtl,
+                                                      @Value("${restaurant-catalog.cache.restaurant-ttl:1m}") Duration restaurantTtl) {
+        return new CachingRestaurantCatalog(external, meterRegistry, maximumSize, dishTtl, restaurantTtl);
     }
 }
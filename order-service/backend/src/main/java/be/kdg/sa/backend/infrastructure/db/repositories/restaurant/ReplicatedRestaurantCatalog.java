@@ -0,0 +1,221 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.domain.restaurant.*;
+import be.kdg.sa.backend.events.*;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaAddress;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa.JpaCatalogDishEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa.JpaCatalogDishRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa.JpaCatalogRestaurantEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa.JpaCatalogRestaurantRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "replicated", matchIfMissing = true)
+public class ReplicatedRestaurantCatalog implements RestaurantCatalog {
+
+    private static final String CONCEPT = "CONCEPT";
+
+    private final JpaCatalogRestaurantRepository restaurants;
+    private final JpaCatalogDishRepository dishes;
+
+    public ReplicatedRestaurantCatalog(JpaCatalogRestaurantRepository restaurants, JpaCatalogDishRepository dishes) {
+        this.restaurants = restaurants;
+        this.dishes = dishes;
+    }
+
+    @Override
+    public List<Restaurant> getAllRestaurants() {
+        LocalDateTime now = LocalDateTime.now();
+        return restaurants.findAll().stream()
+                .map(restaurant -> restaurant.toDomain(now))
+                .toList();
+    }
+
+    @Override
+    public Optional<Restaurant> getRestaurant(RestaurantId id) {
+        return restaurants.findById(id.value())
+                .map(restaurant -> restaurant.toDomain(LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean isRestaurantOpen(RestaurantId restaurantId) {
+        return restaurants.findById(restaurantId.value())
+                .map(restaurant -> restaurant.isOpenAt(LocalDateTime.now()))
+                .orElse(false);
+    }
+
+    @Override
+    public Optional<Dish> getDish(RestaurantId restaurantId, DishId dishId) {
+        return dishes.findByIdAndRestaurantIdAndRemovedFalse(dishId.value(), restaurantId.value())
+                .map(JpaCatalogDishEntity::toDomain);
+    }
+
+    @Override
+    public Map<DishId, Dish> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        if (dishIds.isEmpty()) return Map.of();
+
+        List<UUID> ids = dishIds.stream().map(DishId::value).distinct().toList();
+        return dishes.findAllByRestaurantIdAndRemovedFalseAndIdIn(restaurantId.value(), ids).stream()
+                .map(JpaCatalogDishEntity::toDomain)
+                .collect(Collectors.toMap(Dish::dishId, Function.identity()));
+    }
+
+    @Override
+    public List<Dish> getAllDishes(RestaurantId restaurantId) {
+        return dishes.findAllByRestaurantIdAndRemovedFalseAndStatusNot(restaurantId.value(), CONCEPT).stream()
+                .map(JpaCatalogDishEntity::toDomain)
+                .toList();
+    }
+
+    @Transactional
+    public void apply(RestaurantChangedEvent event) {
+        JpaCatalogRestaurantEntity restaurant = findOrCreate(event.restaurantId());
+        if (isStale("restaurant", event.restaurantId(), event.version(), restaurant.getDetailsVersion())) return;
+
+        restaurant.setName(event.name());
+        restaurant.setCuisineType(event.cuisineType());
+        if (event.address() != null) {
+            restaurant.setAddress(new JpaAddress(
+                    event.address().street(),
+                    event.address().houseNumber(),
+                    event.address().busNumber(),
+                    event.address().country(),
+                    event.address().city(),
+                    event.address().postalCode()
+            ));
+        }
+        restaurant.setDetailsVersion(event.version());
+        applyPriceIndicator(restaurant, event.priceIndicator(), event.version());
+        restaurants.save(restaurant);
+    }
+
+    @Transactional
+    public void apply(OpeningHoursChangedEvent event) {
+        JpaCatalogRestaurantEntity restaurant = findOrCreate(event.restaurantId());
+        if (isStale("opening hours", event.restaurantId(), event.version(), restaurant.getOpeningHoursVersion())) return;
+
+        restaurant.setOpeningHours(new OpeningHours(event.days().stream()
+                .map(day -> new OpeningHours.OpeningDays(day.day(), day.periods().stream()
+                        .map(period -> new OpeningHours.OpeningPeriod(period.openTime(), period.closeTime()))
+                        .toList()))
+                .toList()));
+        restaurant.setOpeningHoursVersion(event.version());
+        restaurants.save(restaurant);
+    }
+
+    @Transactional
+    public void apply(OpeningOverrideChangedEvent event) {
+        JpaCatalogRestaurantEntity restaurant = findOrCreate(event.restaurantId());
+        if (isStale("opening override", event.restaurantId(), event.version(), restaurant.getOverrideVersion())) return;
+
+        restaurant.setManualOverrideOpen(event.open());
+        restaurant.setOverrideUntil(event.until());
+        restaurant.setOverrideVersion(event.version());
+        restaurants.save(restaurant);
+    }
+
+    @Transactional
+    public void apply(DishChangedEvent event) {
+        JpaCatalogDishEntity existing = dishes.findById(event.dishId()).orElse(null);
+        if (existing == null || !isStale("dish", event.restaurantId(), event.version(), existing.getVersion())) {
+            if (event.removed()) {
+                // keep a tombstone, so a late copy of an older change cannot bring the dish back
+                JpaCatalogDishEntity removed = existing != null ? existing : new JpaCatalogDishEntity(event.dishId(), event.restaurantId());
+                removed.markRemoved(event.version());
+                dishes.save(removed);
+            } else {
+                dishes.save(merge(existing, event.restaurantId(), event.dish(), event.version()));
+            }
+        }
+        updatePriceIndicator(event.restaurantId(), event.priceIndicator(), event.version());
+    }
+
+    @Transactional
+    public void apply(MenuChangedEvent event) {
+        Map<UUID, JpaCatalogDishEntity> existing = dishes.findAllByRestaurantId(event.restaurantId()).stream()
+                .collect(Collectors.toMap(JpaCatalogDishEntity::getId, Function.identity()));
+
+        List<JpaCatalogDishEntity> changed = new ArrayList<>();
+        for (DishChangedEvent.Dish dish : event.dishes()) {
+            JpaCatalogDishEntity current = existing.remove(dish.id());
+            if (current == null || event.version() >= current.getVersion()) {
+                changed.add(merge(current, event.restaurantId(), dish, event.version()));
+            }
+        }
+        // dishes changed after this menu was read upstream have a higher version and stay
+        existing.values().stream()
+                .filter(dish -> !dish.isRemoved() && event.version() >= dish.getVersion())
+                .forEach(dish -> {
+                    dish.markRemoved(event.version());
+                    changed.add(dish);
+                });
+
+        dishes.saveAll(changed);
+        updatePriceIndicator(event.restaurantId(), event.priceIndicator(), event.version());
+    }
+
+    /**
+     * Drops restaurants that are no longer in the upstream snapshot, together with their dishes. Restaurants replicated
+     * after {@code replicatedBefore} may simply be newer than the snapshot and are kept.
+     */
+    @Transactional
+    public int retainOnly(Set<UUID> restaurantIds, LocalDateTime replicatedBefore) {
+        List<JpaCatalogRestaurantEntity> gone = restaurants.findAllByReplicatedAtBefore(replicatedBefore).stream()
+                .filter(restaurant -> !restaurantIds.contains(restaurant.getId()))
+                .toList();
+
+        gone.forEach(restaurant -> dishes.deleteAllByRestaurantId(restaurant.getId()));
+        restaurants.deleteAll(gone);
+        return gone.size();
+    }
+
+    private void updatePriceIndicator(UUID restaurantId, String priceIndicator, long version) {
+        JpaCatalogRestaurantEntity restaurant = findOrCreate(restaurantId);
+        applyPriceIndicator(restaurant, priceIndicator, version);
+        restaurants.save(restaurant);
+    }
+
+    private static void applyPriceIndicator(JpaCatalogRestaurantEntity restaurant, String priceIndicator, long version) {
+        if (version < restaurant.getPriceIndicatorVersion()) return;
+        restaurant.setPriceIndicator(priceIndicator);
+        restaurant.setPriceIndicatorVersion(version);
+    }
+
+    private static boolean isStale(String part, UUID restaurantId, long version, long current) {
+        if (version >= current) return false;
+        log.debug("Ignoring {} v{} of restaurant {}, already at v{}", part, version, restaurantId, current);
+        return true;
+    }
+
+    private JpaCatalogRestaurantEntity findOrCreate(UUID restaurantId) {
+        return restaurants.findById(restaurantId)
+                .orElseGet(() -> new JpaCatalogRestaurantEntity(restaurantId));
+    }
+
+    private JpaCatalogDishEntity merge(JpaCatalogDishEntity existing, UUID restaurantId, DishChangedEvent.Dish dish, long version) {
+        JpaCatalogDishEntity entity = existing != null ? existing : new JpaCatalogDishEntity(dish.id(), restaurantId);
+        entity.setRestaurantId(restaurantId);
+        entity.setName(dish.name());
+        entity.setDescription(dish.description());
+        entity.setPrice(dish.price());
+        entity.setVegetarian(dish.vegetarian());
+        entity.setVegan(dish.vegan());
+        entity.setGlutenFree(dish.glutenFree());
+        entity.setCategory(dish.category());
+        entity.setStatus(dish.status());
+        entity.setRemoved(false);
+        entity.setVersion(version);
+        return entity;
+    }
+}
@@ -0,0 +1,154 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.domain.restaurant.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Guards the remote catalog with a bulkhead and a circuit breaker. Every successful answer is kept
+ * as last-known-good, and served (possibly stale) whenever the remote call is rejected or fails.
+ * Dishes are remembered one by one, so any set of known dishes can be answered. Open status changes
+ * by the hour and is only served while it is younger than {@code open-status-max-age}; after that
+ * checkout fails closed rather than accept orders for a restaurant that may have closed.
+ */
+@Slf4j
+@Component
+public class ResilientRestaurantCatalog implements RestaurantCatalog {
+
+    public static final String INSTANCE = "restaurantCatalog";
+
+    private final ExternalRestaurantCatalog delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Cache<Object, Object> lastKnownGood;
+    private final Cache<RestaurantId, Boolean> lastKnownOpen;
+
+    public ResilientRestaurantCatalog(ExternalRestaurantCatalog delegate,
+                                      CircuitBreakerRegistry circuitBreakers,
+                                      BulkheadRegistry bulkheads,
+                                      @Value("${restaurant-catalog.last-known-good.maximum-size:10000}") long maximumSize,
+                                      @Value("${restaurant-catalog.last-known-good.open-status-max-age:2m}") Duration openStatusMaxAge) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreakers.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheads.bulkhead(INSTANCE);
+        this.lastKnownGood = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.lastKnownOpen = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(openStatusMaxAge).build();
+    }
+
+    @Override
+    public List<Restaurant> getAllRestaurants() {
+        return call(new Key("restaurants"), delegate::getAllRestaurants);
+    }
+
+    @Override
+    public Optional<Restaurant> getRestaurant(RestaurantId id) {
+        return call(new Key("restaurant", id), () -> delegate.getRestaurant(id));
+    }
+
+    @Override
+    public boolean isRestaurantOpen(RestaurantId restaurantId) {
+        return call(new Key("open", restaurantId), () -> delegate.isRestaurantOpen(restaurantId),
+                open -> lastKnownOpen.put(restaurantId, open),
+                () -> lastKnownOpen.getIfPresent(restaurantId));
+    }
+
+    @Override
+    public Optional<Dish> getDish(RestaurantId restaurantId, DishId dishId) {
+        return call(dishKey(restaurantId, dishId), () -> delegate.getDish(restaurantId, dishId));
+    }
+
+    @Override
+    public Map<DishId, Dish> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        return call(new Key("dishes", restaurantId, Set.copyOf(dishIds)), () -> delegate.getDishes(restaurantId, dishIds),
+                found -> found.values().forEach(dish -> rememberDish(restaurantId, dish)),
+                () -> lastKnownDishes(restaurantId, dishIds));
+    }
+
+    @Override
+    public List<Dish> getAllDishes(RestaurantId restaurantId) {
+        Key key = new Key("all-dishes", restaurantId);
+        return call(key, () -> delegate.getAllDishes(restaurantId),
+                all -> {
+                    lastKnownGood.put(key, all);
+                    all.forEach(dish -> rememberDish(restaurantId, dish));
+                },
+                () -> lastKnown(key));
+    }
+
+    private void rememberDish(RestaurantId restaurantId, Dish dish) {
+        lastKnownGood.put(dishKey(restaurantId, dish.dishId()), Optional.of(dish));
+    }
+
+    private Map<DishId, Dish> lastKnownDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        Map<DishId, Dish> found = new HashMap<>();
+        for (DishId dishId : dishIds) {
+            Optional<Dish> dish = lastKnown(dishKey(restaurantId, dishId));
+            // a partial answer would report the missing dishes as deleted, so only a complete one is served
+            if (dish == null || dish.isEmpty()) return null;
+            found.put(dishId, dish.get());
+        }
+        return found;
+    }
+
+    private <T> T call(Key key, Supplier<T> remote) {
+        return call(key, remote, value -> lastKnownGood.put(key, value), () -> lastKnown(key));
+    }
+
+    private <T> T call(Key key, Supplier<T> remote, Consumer<T> remember, Supplier<T> lastKnown) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, remote));
+        try {
+            T value = guarded.get();
+            if (value != null) remember.accept(value);
+            return value;
+        } catch (HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            T stale = lastKnown.get();
+            if (stale == null) {
+                throw new IllegalStateException("Restaurant service is unavailable, please try again later.", e);
+            }
+            log.warn("Serving last-known-good {} ({} is {}): {}", key, INSTANCE, circuitBreaker.getState(), e.toString());
+            return stale;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lastKnown(Key key) {
+        return (T) lastKnownGood.getIfPresent(key);
+    }
+
+    private static Key dishKey(RestaurantId restaurantId, DishId dishId) {
+        return new Key("dish", restaurantId, dishId);
+    }
+
+    private record Key(String type, Object... parts) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && type.equals(other.type) && Arrays.equals(parts, other.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Arrays.hashCode(parts);
+        }
+
+        @Override
+        public String toString() {
+            return type + Arrays.toString(parts);
+        }
+    }
+}
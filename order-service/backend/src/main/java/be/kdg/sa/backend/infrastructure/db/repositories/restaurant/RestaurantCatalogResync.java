@@ -0,0 +1,76 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.events.MenuChangedEvent;
+import be.kdg.sa.backend.events.OpeningHoursChangedEvent;
+import be.kdg.sa.backend.events.OpeningOverrideChangedEvent;
+import be.kdg.sa.backend.events.RestaurantChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "replicated", matchIfMissing = true)
+public class RestaurantCatalogResync {
+
+    private final RestClient restClient;
+    private final ReplicatedRestaurantCatalog catalog;
+
+    public RestaurantCatalogResync(@Qualifier("ApiRestaurantCatalog") RestClient restClient,
+                                   ReplicatedRestaurantCatalog catalog) {
+        this.restClient = restClient;
+        this.catalog = catalog;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resyncOnStartup() {
+        try {
+            resync();
+        } catch (RestClientException e) {
+            log.warn("Could not resync restaurant catalog, continuing on replicated events only.", e);
+        }
+    }
+
+    public void resync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        CatalogSnapshotResponse[] snapshot = restClient
+                .get()
+                .uri("restaurants/catalog")
+                .retrieve()
+                .body(CatalogSnapshotResponse[].class);
+
+        if (snapshot == null) return;
+
+        for (CatalogSnapshotResponse restaurant : snapshot) {
+            catalog.apply(restaurant.restaurant());
+            catalog.apply(restaurant.openingHours());
+            catalog.apply(restaurant.openingOverride());
+            catalog.apply(restaurant.menu());
+        }
+
+        Set<UUID> upstream = Arrays.stream(snapshot)
+                .map(restaurant -> restaurant.restaurant().restaurantId())
+                .collect(Collectors.toSet());
+        int removed = catalog.retainOnly(upstream, startedAt);
+
+        log.info("Resynced {} restaurants into the local catalog, removed {} that no longer exist upstream",
+                snapshot.length, removed);
+    }
+
+    private record CatalogSnapshotResponse(RestaurantChangedEvent restaurant,
+                                           OpeningHoursChangedEvent openingHours,
+                                           OpeningOverrideChangedEvent openingOverride,
+                                           MenuChangedEvent menu) {
+    }
+}
@@ -0,0 +1,71 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.domain.restaurant.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs each checkout lookup against the remote catalog on its own virtual thread, so the HTTP calls overlap.
+ */
+@Component
+@ConditionalOnProperty(name = "restaurant-catalog.source", havingValue = "remote")
+public class VirtualThreadRestaurantCatalog implements AsyncRestaurantCatalog {
+
+    private final RestaurantCatalog delegate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public VirtualThreadRestaurantCatalog(RestaurantCatalog delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isRestaurantOpen(RestaurantId restaurantId) {
+        return supply("open-status", () -> delegate.isRestaurantOpen(restaurantId));
+    }
+
+    @Override
+    public CompletableFuture<Map<DishId, Dish>> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        return supply("dishes", () -> delegate.getDishes(restaurantId, dishIds));
+    }
+
+    private <T> CompletableFuture<T> supply(String hop, Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                result.complete(call.get());
+            } catch (Throwable e) {
+                outcome = Thread.currentThread().isInterrupted() ? "cancelled" : "error";
+                result.completeExceptionally(e);
+            } finally {
+                sample.stop(Timer.builder("restaurant.catalog.hop")
+                        .tag("hop", hop)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) task.cancel(true);
+        });
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.restaurant.Dish;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.infrastructure.db.converters.MoneyCentsConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "catalog_dishes", indexes = {
+        @Index(name = "idx_catalog_dishes_restaurant_id", columnList = "restaurant_id")
+})
+public class JpaCatalogDishEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "price_cents")
+    private Money price;
+
+    private boolean vegetarian;
+
+    private boolean vegan;
+
+    @Column(name = "gluten_free")
+    private boolean glutenFree;
+
+    private String category;
+
+    private String status;
+
+    private boolean removed;
+
+    private long version;
+
+    protected JpaCatalogDishEntity() {}
+
+    public JpaCatalogDishEntity(UUID id, UUID restaurantId) {
+        this.id = id;
+        this.restaurantId = restaurantId;
+    }
+
+    public void markRemoved(long version) {
+        this.removed = true;
+        this.version = version;
+    }
+
+    public Dish toDomain() {
+        return new Dish(
+                new DishId(id),
+                name,
+                description,
+                price,
+                vegetarian,
+                vegan,
+                glutenFree,
+                category,
+                status
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JpaCatalogDishRepository extends JpaRepository<JpaCatalogDishEntity, UUID> {
+    Optional<JpaCatalogDishEntity> findByIdAndRestaurantIdAndRemovedFalse(UUID id, UUID restaurantId);
+
+    List<JpaCatalogDishEntity> findAllByRestaurantId(UUID restaurantId);
+
+    List<JpaCatalogDishEntity> findAllByRestaurantIdAndRemovedFalseAndStatusNot(UUID restaurantId, String status);
+
+    List<JpaCatalogDishEntity> findAllByRestaurantIdAndRemovedFalseAndIdIn(UUID restaurantId, Collection<UUID> ids);
+
+    void deleteAllByRestaurantId(UUID restaurantId);
+}
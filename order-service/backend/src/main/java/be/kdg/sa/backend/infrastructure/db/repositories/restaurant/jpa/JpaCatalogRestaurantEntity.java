@@ -0,0 +1,88 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa;
+
+import be.kdg.sa.backend.domain.restaurant.OpeningHours;
+import be.kdg.sa.backend.domain.restaurant.Restaurant;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.infrastructure.db.converters.OpeningHoursJsonConverter;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaAddress;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "catalog_restaurants")
+public class JpaCatalogRestaurantEntity {
+    @Id
+    private UUID id;
+
+    private String name;
+
+    @Embedded
+    private JpaAddress address;
+
+    @Column(name = "cuisine_type")
+    private String cuisineType;
+
+    @Column(name = "price_indicator")
+    private String priceIndicator;
+
+    @Convert(converter = OpeningHoursJsonConverter.class)
+    @Column(name = "opening_hours", columnDefinition = "TEXT")
+    private OpeningHours openingHours;
+
+    @Column(name = "manual_override_open")
+    private Boolean manualOverrideOpen;
+
+    @Column(name = "override_until")
+    private LocalDateTime overrideUntil;
+
+    // catalog version upstream of the last event applied to each part of the restaurant
+    @Column(name = "details_version")
+    private long detailsVersion;
+
+    @Column(name = "price_indicator_version")
+    private long priceIndicatorVersion;
+
+    @Column(name = "opening_hours_version")
+    private long openingHoursVersion;
+
+    @Column(name = "override_version")
+    private long overrideVersion;
+
+    @UpdateTimestamp
+    @Column(name = "replicated_at")
+    private LocalDateTime replicatedAt;
+
+    protected JpaCatalogRestaurantEntity() {}
+
+    public JpaCatalogRestaurantEntity(UUID id) {
+        this.id = id;
+        this.openingHours = new OpeningHours(List.of());
+    }
+
+    public boolean isOpenAt(LocalDateTime moment) {
+        if (manualOverrideOpen != null && (overrideUntil == null || overrideUntil.isAfter(moment))) {
+            return manualOverrideOpen;
+        }
+        return openingHours != null && openingHours.isOpenAt(moment.getDayOfWeek(), moment.toLocalTime());
+    }
+
+    public Restaurant toDomain(LocalDateTime moment) {
+        return new Restaurant(
+                new RestaurantId(id),
+                name,
+                address != null ? address.toDomain() : null,
+                cuisineType,
+                priceIndicator,
+                openingHours,
+                isOpenAt(moment)
+        );
+    }
+}
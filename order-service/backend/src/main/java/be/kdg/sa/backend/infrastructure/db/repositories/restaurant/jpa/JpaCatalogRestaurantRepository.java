@@ -0,0 +1,11 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaCatalogRestaurantRepository extends JpaRepository<JpaCatalogRestaurantEntity, UUID> {
+    List<JpaCatalogRestaurantEntity> findAllByReplicatedAtBefore(LocalDateTime replicatedAt);
+}
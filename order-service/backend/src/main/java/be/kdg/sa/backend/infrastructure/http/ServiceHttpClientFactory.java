@@ -0,0 +1,138 @@
+package be.kdg.sa.backend.infrastructure.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds request factories for service-to-service calls. {@code pooled} uses an Apache connection pool
+ * per client (HTTP/1.1 keep-alive), {@code http2} uses the JDK client which multiplexes over one connection.
+ */
+@Slf4j
+@Component
+public class ServiceHttpClientFactory implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final String client;
+    private final int maxConnectionsPerRoute;
+    private final int maxConnectionsTotal;
+    private final Duration poolAcquireTimeout;
+    private final Duration idleEviction;
+    private final Duration connectionTtl;
+    private final boolean gzip;
+    private final List<AutoCloseable> resources = new CopyOnWriteArrayList<>();
+
+    public ServiceHttpClientFactory(MeterRegistry meterRegistry,
+                                    @Value("${service-http.client:pooled}") String client,
+                                    @Value("${service-http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+                                    @Value("${service-http.max-connections-total:200}") int maxConnectionsTotal,
+                                    @Value("${service-http.pool-acquire-timeout:500ms}") Duration poolAcquireTimeout,
+                                    @Value("${service-http.idle-eviction:30s}") Duration idleEviction,
+                                    @Value("${service-http.connection-ttl:5m}") Duration connectionTtl,
+                                    @Value("${service-http.gzip:true}") boolean gzip) {
+        this.meterRegistry = meterRegistry;
+        this.client = client;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        this.poolAcquireTimeout = poolAcquireTimeout;
+        this.idleEviction = idleEviction;
+        this.connectionTtl = connectionTtl;
+        this.gzip = gzip;
+    }
+
+    public ClientHttpRequestFactory create(String name, Duration connectTimeout, Duration readTimeout) {
+        log.info("Creating {} HTTP client for {}", client, name);
+        return "http2".equalsIgnoreCase(client)
+                ? http2(connectTimeout, readTimeout)
+                : pooled(name, connectTimeout, readTimeout);
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public boolean isHttp2() {
+        return "http2".equalsIgnoreCase(client);
+    }
+
+    private ClientHttpRequestFactory pooled(String name, Duration connectTimeout, Duration readTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setMaxConnTotal(maxConnectionsTotal)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .build())
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction));
+
+        if (!gzip) {
+            builder.disableContentCompression();
+        }
+
+        CloseableHttpClient httpClient = builder.build();
+        resources.add(httpClient);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private ClientHttpRequestFactory http2(Duration connectTimeout, Duration readTimeout) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        resources.add(executor::shutdownNow);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+        resources.add(httpClient::shutdownNow);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    @Override
+    public void destroy() {
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Could not close HTTP client resource", e);
+            }
+        }
+    }
+}
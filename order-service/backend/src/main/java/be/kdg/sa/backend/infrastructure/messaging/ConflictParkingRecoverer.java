@@ -0,0 +1,46 @@
+package be.kdg.sa.backend.infrastructure.messaging;
+
+import be.kdg.sa.backend.config.RabbitMQTopology;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecovererWithConfirms;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Parks a message whose handler still lost the optimistic locking race after every retry of
+ * {@link be.kdg.sa.backend.application.RetryOnConflict}. Requeueing it would replay the same conflict in a hot loop, so it
+ * is republished with the exception headers to {@link RabbitMQTopology#QUEUE_ORDER_PARKED} and the original is acked
+ * once the broker confirmed the copy. Any other failure is rethrown and requeued by the container as before.
+ */
+@Slf4j
+public class ConflictParkingRecoverer implements MessageRecoverer {
+
+    private final MessageRecoverer parking;
+
+    public ConflictParkingRecoverer(RabbitTemplate rabbitTemplate) {
+        this.parking = new RepublishMessageRecovererWithConfirms(rabbitTemplate, RabbitMQTopology.EXCHANGE_ORDER_PARKING,
+                CachingConnectionFactory.ConfirmType.CORRELATED);
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        if (!isConflict(cause)) {
+            throw cause instanceof RuntimeException runtime ? runtime : new AmqpException(cause);
+        }
+
+        log.error("Parking message {} from {} after exhausting conflict retries",
+                message.getMessageProperties().getMessageId(), message.getMessageProperties().getConsumerQueue());
+        parking.recover(message, cause);
+    }
+
+    private static boolean isConflict(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,105 @@
+package be.kdg.sa.backend.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends messages with correlated publisher confirms and mandatory routing. In {@link Mode#BATCHED} mode the whole
+ * batch is written before waiting for confirms, so the broker round trip is paid once per batch instead of per message.
+ * A nack or a missing confirm fails the whole call; messages the broker returned as unroutable are reported back
+ * by id so the caller can keep them instead of treating them as delivered.
+ */
+@Slf4j
+@Component
+public class RabbitMqBatchPublisher {
+
+    public enum Mode { SINGLE, BATCHED }
+
+    public record Outgoing(String exchange, String routingKey, Message message) {}
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Mode mode;
+    private final Duration confirmTimeout;
+    private final Timer confirmLatency;
+    private final Counter nacked;
+    private final Counter returned;
+
+    public RabbitMqBatchPublisher(RabbitTemplate rabbitTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${messaging.publisher.mode:BATCHED}") Mode mode,
+                                  @Value("${messaging.publisher.confirm-timeout:5s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.mode = mode;
+        this.confirmTimeout = confirmTimeout;
+        this.confirmLatency = Timer.builder("rabbit.publish.confirm")
+                .description("Time from sending a batch until every message in it is confirmed")
+                .tag("mode", mode.name().toLowerCase())
+                .register(meterRegistry);
+        this.nacked = Counter.builder("rabbit.publish.nacked").register(meterRegistry);
+        this.returned = Counter.builder("rabbit.publish.returned").register(meterRegistry);
+    }
+
+    /**
+     * @return the message ids the broker returned as unroutable, empty when every message was routed
+     */
+    public List<String> publish(List<Outgoing> messages) {
+        if (mode == Mode.SINGLE) {
+            List<String> unroutable = new ArrayList<>();
+            messages.forEach(message -> unroutable.addAll(confirmLatency.record(() -> awaitConfirms(List.of(send(message))))));
+            return unroutable;
+        }
+        return confirmLatency.record(() -> awaitConfirms(messages.stream().map(this::send).toList()));
+    }
+
+    private CorrelationData send(Outgoing outgoing) {
+        CorrelationData correlation = new CorrelationData(outgoing.message().getMessageProperties().getMessageId());
+        rabbitTemplate.send(outgoing.exchange(), outgoing.routingKey(), outgoing.message(), correlation);
+        return correlation;
+    }
+
+    private List<String> awaitConfirms(List<CorrelationData> pending) {
+        List<String> unroutable = new ArrayList<>();
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (CorrelationData correlation : pending) {
+            CorrelationData.Confirm confirm;
+            try {
+                confirm = correlation.getFuture().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmqpException("Interrupted while waiting for publisher confirms", e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new AmqpException("No publisher confirm for message " + correlation.getId(), e);
+            }
+
+            if (!confirm.isAck()) {
+                nacked.increment();
+                throw new AmqpException("Broker nacked message " + correlation.getId() + ": " + confirm.getReason());
+            }
+
+            ReturnedMessage returnedMessage = correlation.getReturned();
+            if (returnedMessage != null) {
+                returned.increment();
+                unroutable.add(correlation.getId());
+                log.error("Message {} to {}/{} was returned as unroutable: {}", correlation.getId(),
+                        returnedMessage.getExchange(), returnedMessage.getRoutingKey(), returnedMessage.getReplyText());
+            }
+        }
+        return unroutable;
+    }
+}
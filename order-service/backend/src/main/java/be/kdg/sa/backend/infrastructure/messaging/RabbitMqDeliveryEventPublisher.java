@@ -4,40 +4,25 @@ import be.kdg.sa.backend.application.publisher.DeliveryEventPublisher;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.events.DeliveryOrderEvent;
 import be.kdg.sa.backend.events.OrderReadyForDeliveryEvent;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import be.kdg.sa.backend.infrastructure.messaging.outbox.OutboxWriter;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class RabbitMqDeliveryEventPublisher implements DeliveryEventPublisher {
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxWriter outbox;
 
-    public RabbitMqDeliveryEventPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public RabbitMqDeliveryEventPublisher(OutboxWriter outbox) {
+        this.outbox = outbox;
     }
 
     @Override
     public void publishDeliveryOrder(DeliveryOrderEvent deliveryEvent) {
-        rabbitTemplate.convertAndSend(RabbitMQTopology.EXCHANGE_DELIVERY, "delivery.new-order", deliveryEvent, message -> {
-            message.getMessageProperties().setMessageId(UUID.randomUUID().toString());
-            message.getMessageProperties().setCorrelationId(deliveryEvent.orderId().toString());
-            return message;
-        });
+        outbox.append(RabbitMQTopology.EXCHANGE_DELIVERY, "delivery.new-order", deliveryEvent.orderId().toString(), deliveryEvent);
     }
 
 
     @Override
     public void publishDeliveryOrderReady(OrderReadyForDeliveryEvent readyEvent) {
-        rabbitTemplate.convertAndSend(
-                RabbitMQTopology.EXCHANGE_DELIVERY,
-                "delivery.order-ready",
-                readyEvent,
-                msg -> {
-                    msg.getMessageProperties().setMessageId(UUID.randomUUID().toString());
-                    msg.getMessageProperties().setCorrelationId(readyEvent.orderId().toString());
-                    return msg;
-                }
-        );
+        outbox.append(RabbitMQTopology.EXCHANGE_DELIVERY, "delivery.order-ready", readyEvent.orderId().toString(), readyEvent);
     }
 }
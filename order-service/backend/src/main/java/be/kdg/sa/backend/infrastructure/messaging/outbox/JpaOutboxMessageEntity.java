@@ -0,0 +1,74 @@
+package be.kdg.sa.backend.infrastructure.messaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "outbox_messages", indexes = {
+        @Index(name = "idx_outbox_messages_created_at", columnList = "created_at")
+})
+public class JpaOutboxMessageEntity {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    @Column(name = "type_id", nullable = false)
+    private String typeId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    @Column(name = "parked_at")
+    private Instant parkedAt;
+
+    protected JpaOutboxMessageEntity() {}
+
+    public JpaOutboxMessageEntity(UUID id, String exchange, String routingKey, String correlationId, String typeId, String payload, Instant createdAt) {
+        this.id = id;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.correlationId = correlationId;
+        this.typeId = typeId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public void claim(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public Message toMessage() {
+        return MessageBuilder.withBody(payload.getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(id.toString())
+                .setCorrelationId(correlationId)
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, typeId)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package be.kdg.sa.backend.infrastructure.messaging.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import be.kdg.sa.backend.infrastructure.messaging.RabbitMqBatchPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drains the outbox in batches and publishes them with publisher confirms. Rows are claimed with
+ * {@code FOR UPDATE SKIP LOCKED} in a short transaction that only stamps a {@code claimed_until} lease,
+ * so no row lock or connection is held while waiting for confirms. Rows are deleted once the broker
+ * confirmed the whole batch; a failed batch is released and retried on the next poll, and a crashed
+ * relay's claim simply expires. Messages the broker returned as unroutable are parked instead of deleted.
+ * A partial batch is held back until its oldest message is older than the configured linger.
+ * The backlog gauges are refreshed by the relay at most once per {@code outbox.relay.backlog-refresh},
+ * not by every metrics scrape.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final JpaOutboxMessageRepository outbox;
+    private final RabbitMqBatchPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration linger;
+    private final Timer publishLag;
+    private final Counter published;
+    private final Counter parked;
+    private final Duration claimTimeout;
+    private final Duration backlogRefresh;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parkedBacklog = new AtomicLong();
+    private final AtomicReference<Instant> oldestCreatedAt = new AtomicReference<>();
+    private Instant backlogRefreshedAt = Instant.EPOCH;
+
+    public OutboxRelay(JpaOutboxMessageRepository outbox,
+                       RabbitMqBatchPublisher publisher,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.linger:0ms}") Duration linger,
+                       @Value("${outbox.relay.claim-timeout:30s}") Duration claimTimeout,
+                       @Value("${outbox.relay.backlog-refresh:10s}") Duration backlogRefresh) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.claimTimeout = claimTimeout;
+        this.backlogRefresh = backlogRefresh;
+        this.publishLag = Timer.builder("outbox.publish.lag")
+                .description("Time between writing an outbox message and its confirmed publication")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.published = Counter.builder("outbox.published").register(meterRegistry);
+        this.parked = Counter.builder("outbox.parked.total")
+                .description("Messages parked because the broker returned them as unroutable")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Messages waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked", parkedBacklog, AtomicLong::get)
+                .description("Unroutable messages kept in the outbox for inspection")
+                .register(meterRegistry);
+        Gauge.builder("outbox.oldest.age", oldestCreatedAt, OutboxRelay::oldestAgeSeconds)
+                .description("Age of the oldest unpublished outbox message")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT0.2S}")
+    public void relay() {
+        try {
+            int sent;
+            do {
+                sent = relayBatch();
+            } while (sent == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, retrying on next poll: {}", e.getMessage());
+        }
+        refreshBacklog();
+    }
+
+    private void refreshBacklog() {
+        Instant now = Instant.now();
+        if (now.isBefore(backlogRefreshedAt.plus(backlogRefresh))) return;
+        backlogRefreshedAt = now;
+
+        try {
+            pending.set(outbox.countByParkedAtIsNull());
+            parkedBacklog.set(outbox.countByParkedAtIsNotNull());
+            oldestCreatedAt.set(outbox.findOldestCreatedAt().orElse(null));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh the outbox backlog gauges: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<JpaOutboxMessageEntity> batch = transactionTemplate.execute(status -> claimNextBatch());
+        if (batch == null || batch.isEmpty()) return 0;
+        List<UUID> ids = batch.stream().map(JpaOutboxMessageEntity::getId).toList();
+
+        List<String> returned;
+        try {
+            returned = publisher.publish(batch.stream()
+                    .map(message -> new RabbitMqBatchPublisher.Outgoing(message.getExchange(), message.getRoutingKey(), message.toMessage()))
+                    .toList());
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> outbox.release(ids));
+            throw e;
+        }
+
+        Set<UUID> unroutable = new HashSet<>(returned.stream().map(UUID::fromString).toList());
+        List<UUID> delivered = ids.stream().filter(id -> !unroutable.contains(id)).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) outbox.deleteAllByIdInBatch(delivered);
+            if (!unroutable.isEmpty()) outbox.park(unroutable, Instant.now());
+        });
+
+        Instant publishedAt = Instant.now();
+        batch.stream()
+                .filter(message -> !unroutable.contains(message.getId()))
+                .forEach(message -> publishLag.record(Duration.between(message.getCreatedAt(), publishedAt)));
+        published.increment(delivered.size());
+        parked.increment(unroutable.size());
+        return batch.size();
+    }
+
+    private List<JpaOutboxMessageEntity> claimNextBatch() {
+        Instant now = Instant.now();
+        List<JpaOutboxMessageEntity> batch = outbox.lockNextBatch(now, batchSize);
+        if (batch.isEmpty()) return List.of();
+
+        if (batch.size() < batchSize && batch.getFirst().getCreatedAt().plus(linger).isAfter(now)) return List.of();
+
+        batch.forEach(message -> message.claim(now.plus(claimTimeout)));
+        return batch;
+    }
+
+    private static double oldestAgeSeconds(AtomicReference<Instant> oldestCreatedAt) {
+        Instant createdAt = oldestCreatedAt.get();
+        return createdAt != null ? Duration.between(createdAt, Instant.now()).toMillis() / 1000.0 : 0.0;
+    }
+}
@@ -0,0 +1,43 @@
+package be.kdg.sa.backend.infrastructure.payments;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Behaviour of the local payment provider stand-in. Latencies are log-normal, fitted to the configured median
+ * and 99th percentile; a p99 at or below the median gives a fixed latency.
+ */
+@ConfigurationProperties(prefix = "payment.stub")
+public record StubPaymentProperties(
+        @DefaultValue Latency createLatency,
+        @DefaultValue Latency getLatency,
+        @DefaultValue("0") double failureRate,
+        @DefaultValue("0") double abandonRate,
+        @DefaultValue Latency paidAfter,
+        @DefaultValue("15m") Duration expireAfter,
+        @DefaultValue Webhook webhook
+) {
+    private static final double Z_99 = 2.326;
+
+    public record Latency(
+            @DefaultValue("0ms") Duration median,
+            @DefaultValue("0ms") Duration p99
+    ) {
+        public Duration sample() {
+            if (median.isZero() || p99.compareTo(median) <= 0) return median;
+
+            double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+            double factor = Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+            return Duration.ofNanos((long) (median.toNanos() * factor));
+        }
+    }
+
+    public record Webhook(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("http://localhost:8081/api/orders/payments/webhook") String url
+    ) {
+    }
+}
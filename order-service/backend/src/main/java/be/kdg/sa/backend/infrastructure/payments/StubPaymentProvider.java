@@ -0,0 +1,129 @@
+package be.kdg.sa.backend.infrastructure.payments;
+
+import be.kdg.sa.backend.application.PaymentProvider;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.payment.MolliePaymentId;
+import be.kdg.sa.backend.domain.payment.Payment;
+import be.kdg.sa.backend.domain.payment.PaymentStatus;
+import be.kdg.sa.backend.infrastructure.http.ServiceHttpClientFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for Mollie, enabled with {@code payment.provider=stub}, for load and latency tests of the
+ * payment pipeline. Creating and reading a payment take a sampled latency and fail at {@code failure-rate}.
+ * A payment turns {@code PAID} after a sampled delay, at which point a webhook is posted back to the
+ * order-service just like Mollie would; {@code abandon-rate} of the payments are never paid and expire
+ * after {@code expire-after}, which triggers a webhook as well.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.provider", havingValue = "stub")
+@EnableConfigurationProperties(StubPaymentProperties.class)
+public class StubPaymentProvider implements PaymentProvider {
+    private final StubPaymentProperties properties;
+    private final Cache<String, Settlement> settlements;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("payment-stub-scheduler").daemon().factory());
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final RestClient webhookClient;
+    private final String checkoutUrl;
+    private final Counter webhooksSent;
+    private final Counter webhooksFailed;
+
+    public StubPaymentProvider(StubPaymentProperties properties,
+                               ServiceHttpClientFactory httpClients,
+                               RestClient.Builder builder,
+                               MeterRegistry meterRegistry,
+                               @Value("${frontend.url}") String baseUrl) {
+        this.properties = properties;
+        this.settlements = Caffeine.newBuilder()
+                .expireAfterWrite(properties.expireAfter().plusHours(1))
+                .build();
+        this.webhookClient = builder
+                .requestFactory(httpClients.create("payment-stub-webhooks", Duration.ofSeconds(1), Duration.ofSeconds(10)))
+                .build();
+        this.checkoutUrl = baseUrl + "/stub-checkout/";
+        this.webhooksSent = Counter.builder("payment.stub.webhooks").tag("outcome", "sent").register(meterRegistry);
+        this.webhooksFailed = Counter.builder("payment.stub.webhooks").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Override
+    public Payment createPaymentForOrder(Order order) {
+        simulateCall(properties.createLatency());
+
+        String paymentId = "tr_stub_" + UUID.randomUUID().toString().replace("-", "");
+        boolean abandoned = ThreadLocalRandom.current().nextDouble() < properties.abandonRate();
+        Duration delay = abandoned ? properties.expireAfter() : properties.paidAfter().sample();
+        settlements.put(paymentId, new Settlement(Instant.now().plus(delay), abandoned ? PaymentStatus.FAILED : PaymentStatus.PAID));
+        if (properties.webhook().enabled()) {
+            scheduler.schedule(() -> senders.execute(() -> sendWebhook(paymentId)), delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return new Payment(new MolliePaymentId(paymentId), checkoutUrl + paymentId);
+    }
+
+    @Override
+    public PaymentStatus fetchStatus(Payment payment) {
+        simulateCall(properties.getLatency());
+
+        Settlement settlement = settlements.getIfPresent(payment.getId().value());
+        if (settlement == null) return PaymentStatus.FAILED;
+        return settlement.at().isAfter(Instant.now()) ? PaymentStatus.IN_PROGRESS : settlement.outcome();
+    }
+
+    private void simulateCall(StubPaymentProperties.Latency latency) {
+        Duration delay = latency.sample();
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while calling the payment provider", e);
+            }
+        }
+        if (ThreadLocalRandom.current().nextDouble() < properties.failureRate()) {
+            throw new IllegalStateException("Payment provider unavailable (stub)");
+        }
+    }
+
+    private void sendWebhook(String paymentId) {
+        try {
+            webhookClient.post()
+                    .uri(properties.webhook().url() + "?payment-id={id}", paymentId)
+                    .retrieve()
+                    .toBodilessEntity();
+            webhooksSent.increment();
+        } catch (RestClientException e) {
+            webhooksFailed.increment();
+            log.warn("Stub webhook for {} failed: {}", paymentId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private record Settlement(Instant at, PaymentStatus outcome) {
+    }
+}
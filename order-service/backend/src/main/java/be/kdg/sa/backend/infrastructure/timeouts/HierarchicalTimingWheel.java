@@ -0,0 +1,120 @@
+package be.kdg.sa.backend.infrastructure.timeouts;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: level {@code n} has {@code wheelSize} slots of {@code tick * wheelSize^n}, so
+ * scheduling and cancelling are O(1) and advancing costs O(expired) per tick regardless of how many timers
+ * are pending. Entries in a higher level are cascaded down once the clock reaches the start of their slot.
+ * Deadlines beyond the top level are parked in its furthest slot and re-placed when that slot cascades.
+ * Cancelled entries are dropped lazily when their slot is visited.
+ */
+public class HierarchicalTimingWheel<K> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Map<K, Long>>> levels;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private final Map<K, Long> overdue = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levels, Instant start) {
+        if (tick.toMillis() <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick, at least 2 slots and 1 level");
+        }
+        this.tickMillis = tick.toMillis();
+        this.wheelSize = wheelSize;
+        this.levels = new ArrayList<>(levels);
+        for (int level = 0; level < levels; level++) {
+            List<Map<K, Long>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) slots.add(new HashMap<>());
+            this.levels.add(slots);
+        }
+        this.currentTick = start.toEpochMilli() / tickMillis;
+    }
+
+    public synchronized void schedule(K key, Instant dueAt) {
+        long dueTick = Math.ceilDiv(dueAt.toEpochMilli(), tickMillis);
+        deadlines.put(key, dueTick);
+        place(key, dueTick);
+    }
+
+    public synchronized boolean cancel(K key) {
+        overdue.remove(key);
+        return deadlines.remove(key) != null;
+    }
+
+    public synchronized boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Moves the clock forward to {@code now} and returns every key whose deadline has passed.
+     */
+    public synchronized List<K> advance(Instant now) {
+        long nowTick = now.toEpochMilli() / tickMillis;
+        List<K> expired = new ArrayList<>();
+        drain(overdue, expired);
+        while (currentTick < nowTick) {
+            currentTick++;
+            cascade();
+            drain(levels.getFirst().get(slotOf(currentTick)), expired);
+            drain(overdue, expired);
+        }
+        return expired;
+    }
+
+    private void place(K key, long dueTick) {
+        long delta = dueTick - currentTick;
+        if (delta <= 0) {
+            overdue.put(key, dueTick);
+            return;
+        }
+
+        long span = 1;
+        int top = levels.size() - 1;
+        for (int level = 0; level <= top; level++, span *= wheelSize) {
+            if (delta < span * wheelSize) {
+                levels.get(level).get(slotOf(dueTick / span)).put(key, dueTick);
+                return;
+            }
+            if (level == top) {
+                long parkedTick = currentTick + span * (wheelSize - 1);
+                levels.get(level).get(slotOf(parkedTick / span)).put(key, dueTick);
+            }
+        }
+    }
+
+    private void cascade() {
+        long span = wheelSize;
+        for (int level = 1; level < levels.size() && currentTick % span == 0; level++, span *= wheelSize) {
+            Map<K, Long> slot = levels.get(level).get(slotOf(currentTick / span));
+            if (slot.isEmpty()) continue;
+            Map<K, Long> entries = new HashMap<>(slot);
+            slot.clear();
+            entries.forEach((key, dueTick) -> {
+                if (deadlines.get(key) != null && deadlines.get(key) == dueTick.longValue()) place(key, dueTick);
+            });
+        }
+    }
+
+    private void drain(Map<K, Long> slot, List<K> expired) {
+        if (slot.isEmpty()) return;
+        slot.forEach((key, dueTick) -> {
+            if (deadlines.remove(key, dueTick)) expired.add(key);
+        });
+        slot.clear();
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) wheelSize);
+    }
+}
@@ -0,0 +1,43 @@
+package be.kdg.sa.backend.infrastructure.timeouts;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "order_timeouts", indexes = {
+        @Index(name = "idx_order_timeouts_due_at", columnList = "due_at"),
+        @Index(name = "idx_order_timeouts_owner", columnList = "owner")
+})
+public class JpaOrderTimeoutEntity {
+    @Id
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(name = "restaurant_id")
+    private UUID restaurantId;
+
+    @Column(name = "due_at", nullable = false)
+    private Instant dueAt;
+
+    private String owner;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    protected JpaOrderTimeoutEntity() {}
+
+    public JpaOrderTimeoutEntity(UUID orderId, UUID restaurantId, Instant dueAt) {
+        this.orderId = orderId;
+        this.restaurantId = restaurantId;
+        this.dueAt = dueAt;
+    }
+
+    public void lease(String owner, Instant leaseUntil) {
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+    }
+}
@@ -0,0 +1,40 @@
+package be.kdg.sa.backend.infrastructure.timeouts;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaOrderTimeoutRepository extends JpaRepository<JpaOrderTimeoutEntity, UUID> {
+    @Query(value = """
+                    select *
+                    from order_timeouts
+                    where due_at < :horizon
+                      and (owner is null or lease_until < :now)
+                    order by due_at
+                    limit :limit
+                    for update skip locked
+            """, nativeQuery = true)
+    List<JpaOrderTimeoutEntity> lockClaimable(Instant horizon, Instant now, int limit);
+
+    @Query(value = """
+                    select *
+                    from order_timeouts
+                    where order_id in (:orderIds)
+                      and owner = :owner
+                    for update skip locked
+            """, nativeQuery = true)
+    List<JpaOrderTimeoutEntity> lockOwned(Collection<UUID> orderIds, String owner);
+
+    @Modifying
+    @Query("""
+                    update JpaOrderTimeoutEntity t
+                    set t.leaseUntil = :leaseUntil
+                    where t.owner = :owner
+            """)
+    int renewLeases(String owner, Instant leaseUntil);
+}
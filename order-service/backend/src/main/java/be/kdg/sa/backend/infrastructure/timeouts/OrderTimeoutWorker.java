@@ -0,0 +1,71 @@
+package be.kdg.sa.backend.infrastructure.timeouts;
+
+import be.kdg.sa.backend.application.OrderTimeoutScheduler;
+import be.kdg.sa.backend.application.OrderTimeoutService;
+import be.kdg.sa.backend.domain.order.OrderId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Advances the timing wheel every tick and expires whatever fell due, one order per transaction. An order that
+ * fails goes back into the wheel on its own, starting at {@code order-timeouts.retry-delay} and doubling per
+ * consecutive failure up to {@code order-timeouts.max-retry-delay}; the other orders of the tick are unaffected.
+ */
+@Slf4j
+@Component
+public class OrderTimeoutWorker {
+    private final OrderTimeoutScheduler scheduler;
+    private final OrderTimeoutService timeouts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Cache<OrderId, Integer> failures;
+    private final Counter expired;
+    private final Counter failed;
+
+    public OrderTimeoutWorker(OrderTimeoutScheduler scheduler,
+                              OrderTimeoutService timeouts,
+                              MeterRegistry meterRegistry,
+                              @Value("${order-timeouts.retry-delay:5s}") Duration retryDelay,
+                              @Value("${order-timeouts.max-retry-delay:5m}") Duration maxRetryDelay) {
+        this.scheduler = scheduler;
+        this.timeouts = timeouts;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.failures = Caffeine.newBuilder()
+                .expireAfterWrite(maxRetryDelay.multipliedBy(2))
+                .build();
+        this.expired = Counter.builder("order.timeouts.expired").register(meterRegistry);
+        this.failed = Counter.builder("order.timeouts.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedRateString = "${order-timeouts.tick:PT1S}")
+    public void tick() {
+        List<OrderId> due = scheduler.pollDue(Instant.now());
+        for (OrderId orderId : due) {
+            try {
+                if (timeouts.expire(orderId)) expired.increment();
+                failures.invalidate(orderId);
+            } catch (RuntimeException e) {
+                failed.increment();
+                Duration delay = backoff(failures.asMap().merge(orderId, 1, Integer::sum));
+                log.warn("Expiring the timeout of order {} failed, retrying in {}: {}", orderId.value(), delay, e.getMessage());
+                scheduler.defer(List.of(orderId), delay);
+            }
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
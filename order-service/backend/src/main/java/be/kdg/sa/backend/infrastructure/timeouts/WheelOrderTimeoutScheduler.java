@@ -0,0 +1,137 @@
+package be.kdg.sa.backend.infrastructure.timeouts;
+
+import be.kdg.sa.backend.application.OrderTimeoutScheduler;
+import be.kdg.sa.backend.config.OrderTimeoutProperties;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order timeouts kept in the {@code order_timeouts} table and fired from an in-memory timing wheel.
+ * Each instance leases the timers that fall due within the horizon and only holds those in its wheel, so
+ * memory stays bounded by the near future instead of by every open order. Leases are renewed on every claim
+ * round; when an instance dies its leases run out and another instance picks the timers up. Firing deletes
+ * the row under the owner's lease, so a timer expires exactly once even if two wheels happen to hold it.
+ */
+@Slf4j
+@Component
+public class WheelOrderTimeoutScheduler implements OrderTimeoutScheduler {
+    private final JpaOrderTimeoutRepository timeouts;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderTimeoutProperties properties;
+    private final HierarchicalTimingWheel<OrderId> wheel;
+    private final String owner;
+    private final AtomicLong pending = new AtomicLong();
+
+    public WheelOrderTimeoutScheduler(JpaOrderTimeoutRepository timeouts,
+                                      PlatformTransactionManager transactionManager,
+                                      OrderTimeoutProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.timeouts = timeouts;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.wheel = new HierarchicalTimingWheel<>(properties.tick(), properties.wheelSize(), properties.levels(), Instant.now());
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+        Gauge.builder("order.timeouts.scheduled", wheel, HierarchicalTimingWheel::size)
+                .description("Order timeouts held in this instance's timing wheel")
+                .register(meterRegistry);
+        // refreshed by every claim round, so a scrape never counts the table itself
+        Gauge.builder("order.timeouts.pending", pending, AtomicLong::get)
+                .description("Order timeouts waiting in the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void schedule(OrderId orderId, RestaurantId restaurantId, Instant dueAt) {
+        JpaOrderTimeoutEntity timeout = new JpaOrderTimeoutEntity(orderId.value(),
+                restaurantId != null ? restaurantId.value() : null, dueAt);
+
+        Instant now = Instant.now();
+        boolean nearTerm = dueAt.isBefore(now.plus(properties.horizon()));
+        if (nearTerm) timeout.lease(owner, now.plus(properties.lease()));
+        timeouts.save(timeout);
+
+        if (nearTerm) afterCommit(() -> wheel.schedule(orderId, dueAt));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void cancel(OrderId orderId) {
+        timeouts.findById(orderId.value()).ifPresent(timeouts::delete);
+        afterCommit(() -> wheel.cancel(orderId));
+    }
+
+    @Override
+    public List<OrderId> pollDue(Instant now) {
+        return wheel.advance(now);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public List<OrderId> claimExpired(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) return List.of();
+
+        List<JpaOrderTimeoutEntity> owned = timeouts.lockOwned(orderIds.stream().map(OrderId::value).toList(), owner);
+        timeouts.deleteAllInBatch(owned);
+        return owned.stream().map(timeout -> new OrderId(timeout.getOrderId())).toList();
+    }
+
+    @Override
+    public void defer(Collection<OrderId> orderIds, Duration delay) {
+        Instant retryAt = Instant.now().plus(delay);
+        orderIds.forEach(orderId -> wheel.schedule(orderId, retryAt));
+    }
+
+    @Scheduled(fixedDelayString = "${order-timeouts.claim-interval:PT10S}")
+    public void claim() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> timeouts.renewLeases(owner, Instant.now().plus(properties.lease())));
+
+            List<JpaOrderTimeoutEntity> claimed;
+            do {
+                claimed = transactionTemplate.execute(status -> claimBatch());
+                if (claimed == null) break;
+                claimed.forEach(timeout -> wheel.schedule(new OrderId(timeout.getOrderId()), timeout.getDueAt()));
+            } while (claimed.size() == properties.batchSize());
+
+            pending.set(timeouts.count());
+        } catch (RuntimeException e) {
+            log.warn("Claiming order timeouts failed, retrying on next round: {}", e.getMessage());
+        }
+    }
+
+    private List<JpaOrderTimeoutEntity> claimBatch() {
+        Instant now = Instant.now();
+        List<JpaOrderTimeoutEntity> batch = timeouts.lockClaimable(now.plus(properties.horizon()), now, properties.batchSize());
+        batch.forEach(timeout -> timeout.lease(owner, now.plus(properties.lease())));
+        return batch;
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
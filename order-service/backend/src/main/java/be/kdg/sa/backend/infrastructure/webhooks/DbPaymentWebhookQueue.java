@@ -0,0 +1,120 @@
+package be.kdg.sa.backend.infrastructure.webhooks;
+
+import be.kdg.sa.backend.application.PaymentWebhookQueue;
+import be.kdg.sa.backend.domain.order.OrderId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Durable queue of received payment webhooks, one row per payment (or order, for the order-id callback).
+ * A notification for a payment that is already queued only bumps its {@code notifications} counter, so a storm
+ * of retries collapses into a single unit of work. A worker completes a row only if no new notification arrived
+ * while it was processing; otherwise the row is released and processed again. The backlog gauges read values the
+ * worker refreshes at most every {@code payment-webhooks.backlog-refresh}, so scrapes never query the table.
+ */
+@Slf4j
+@Component
+public class DbPaymentWebhookQueue implements PaymentWebhookQueue {
+    private final JpaPaymentWebhookRepository webhooks;
+    private final Counter received;
+    private final Counter coalesced;
+    private final Duration backlogRefresh;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicReference<Instant> oldestReceivedAt = new AtomicReference<>();
+    private Instant backlogRefreshedAt = Instant.EPOCH;
+
+    public DbPaymentWebhookQueue(JpaPaymentWebhookRepository webhooks,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${payment-webhooks.backlog-refresh:10s}") Duration backlogRefresh) {
+        this.webhooks = webhooks;
+        this.backlogRefresh = backlogRefresh;
+        this.received = Counter.builder("payment.webhooks.received").register(meterRegistry);
+        this.coalesced = Counter.builder("payment.webhooks.coalesced").register(meterRegistry);
+
+        Gauge.builder("payment.webhooks.pending", pending, AtomicLong::get)
+                .description("Payment webhooks waiting to be processed")
+                .register(meterRegistry);
+        Gauge.builder("payment.webhooks.oldest.age", oldestReceivedAt, DbPaymentWebhookQueue::oldestAgeSeconds)
+                .description("Age of the oldest unprocessed payment webhook")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(String molliePaymentId, OrderId orderId) {
+        String key = molliePaymentId != null ? "payment:" + molliePaymentId : "order:" + orderId.value();
+        UUID order = molliePaymentId == null ? orderId.value() : null;
+        Instant now = Instant.now();
+        received.increment();
+
+        while (webhooks.insertIfAbsent(key, molliePaymentId, order, now) == 0) {
+            if (webhooks.coalesce(key, now) > 0) {
+                coalesced.increment();
+                return;
+            }
+        }
+    }
+
+    @Transactional
+    public List<Claimed> claim(int limit, Duration visibilityTimeout) {
+        Instant now = Instant.now();
+        List<JpaPaymentWebhookEntity> due = webhooks.lockDue(now, limit);
+        due.forEach(webhook -> webhook.claim(now.plus(visibilityTimeout)));
+        return due.stream()
+                .map(webhook -> new Claimed(webhook.getKey(), webhook.getPaymentId(),
+                        webhook.getOrderId() != null ? new OrderId(webhook.getOrderId()) : null,
+                        webhook.getReceivedAt(), webhook.getAttempts(), webhook.getNotifications()))
+                .toList();
+    }
+
+    @Transactional
+    public void complete(Claimed webhook) {
+        if (webhooks.deleteIfUnchanged(webhook.key(), webhook.notifications()) == 0) {
+            webhooks.release(webhook.key());
+        }
+    }
+
+    @Transactional
+    public void retry(Claimed webhook, Instant nextAttemptAt) {
+        webhooks.reschedule(webhook.key(), nextAttemptAt);
+    }
+
+    @Transactional
+    public void discard(Claimed webhook) {
+        webhooks.deleteById(webhook.key());
+    }
+
+    void refreshBacklog() {
+        Instant now = Instant.now();
+        if (now.isBefore(backlogRefreshedAt.plus(backlogRefresh))) return;
+        backlogRefreshedAt = now;
+
+        try {
+            pending.set(webhooks.count());
+            oldestReceivedAt.set(webhooks.findOldestReceivedAt().orElse(null));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh the payment webhook backlog gauges: {}", e.getMessage());
+        }
+    }
+
+    private static double oldestAgeSeconds(AtomicReference<Instant> oldestReceivedAt) {
+        Instant receivedAt = oldestReceivedAt.get();
+        return receivedAt != null ? Duration.between(receivedAt, Instant.now()).toMillis() / 1000.0 : 0.0;
+    }
+
+    public record Claimed(String key, String paymentId, OrderId orderId, Instant receivedAt, int attempts, long notifications) {
+    }
+}
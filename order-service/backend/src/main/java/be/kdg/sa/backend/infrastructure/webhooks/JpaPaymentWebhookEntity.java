@@ -0,0 +1,43 @@
+package be.kdg.sa.backend.infrastructure.webhooks;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "payment_webhooks", indexes = {
+        @Index(name = "idx_payment_webhooks_next_attempt_at", columnList = "next_attempt_at")
+})
+public class JpaPaymentWebhookEntity {
+    @Id
+    @Column(name = "webhook_key")
+    private String key;
+
+    @Column(name = "payment_id")
+    private String paymentId;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(name = "received_at", nullable = false)
+    private Instant receivedAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    private int attempts;
+
+    private long notifications;
+
+    protected JpaPaymentWebhookEntity() {}
+
+    public void claim(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+}
@@ -0,0 +1,69 @@
+package be.kdg.sa.backend.infrastructure.webhooks;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JpaPaymentWebhookRepository extends JpaRepository<JpaPaymentWebhookEntity, String> {
+    @Modifying
+    @Query(value = """
+                    insert into payment_webhooks (webhook_key, payment_id, order_id, received_at, next_attempt_at, attempts, notifications)
+                    values (:key, :paymentId, :orderId, :receivedAt, :receivedAt, 0, 1)
+                    on conflict do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(String key, String paymentId, UUID orderId, Instant receivedAt);
+
+    @Modifying
+    @Query(value = """
+                    update JpaPaymentWebhookEntity w
+                    set w.notifications = w.notifications + 1,
+                        w.nextAttemptAt = case when w.nextAttemptAt > :now then :now else w.nextAttemptAt end
+                    where w.key = :key
+            """)
+    int coalesce(String key, Instant now);
+
+    @Query(value = """
+                    select *
+                    from payment_webhooks
+                    where next_attempt_at <= :now
+                      and (claimed_until is null or claimed_until < :now)
+                    order by next_attempt_at
+                    limit :limit
+                    for update skip locked
+            """, nativeQuery = true)
+    List<JpaPaymentWebhookEntity> lockDue(Instant now, int limit);
+
+    @Modifying
+    @Query(value = """
+                    delete from JpaPaymentWebhookEntity w
+                    where w.key = :key and w.notifications = :notifications
+            """)
+    int deleteIfUnchanged(String key, long notifications);
+
+    @Modifying
+    @Query(value = """
+                    update JpaPaymentWebhookEntity w
+                    set w.claimedUntil = null, w.attempts = 0
+                    where w.key = :key
+            """)
+    int release(String key);
+
+    @Modifying
+    @Query(value = """
+                    update JpaPaymentWebhookEntity w
+                    set w.claimedUntil = null, w.attempts = w.attempts + 1, w.nextAttemptAt = :nextAttemptAt
+                    where w.key = :key
+            """)
+    int reschedule(String key, Instant nextAttemptAt);
+
+    @Query(value = """
+                    select min(w.receivedAt)
+                    from JpaPaymentWebhookEntity w
+            """)
+    Optional<Instant> findOldestReceivedAt();
+}
@@ -0,0 +1,141 @@
+package be.kdg.sa.backend.infrastructure.webhooks;
+
+import be.kdg.sa.backend.application.PaymentService;
+import be.kdg.sa.backend.domain.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes queued payment webhooks on a fixed pool of workers. The poller only claims as many rows as there are
+ * idle workers, so a webhook storm queues up in the database instead of in memory. Failures are retried with
+ * exponential backoff; a webhook for an unknown payment, or one that keeps failing, is dropped.
+ */
+@Slf4j
+@Component
+public class PaymentWebhookWorker {
+    private final DbPaymentWebhookQueue queue;
+    private final PaymentService payments;
+    private final ExecutorService workers;
+    private final Semaphore idle;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration visibilityTimeout;
+    private final Timer processing;
+    private final Timer latency;
+    private final Counter retried;
+    private final Counter dropped;
+
+    public PaymentWebhookWorker(DbPaymentWebhookQueue queue,
+                                PaymentService payments,
+                                MeterRegistry meterRegistry,
+                                @Value("${payment-webhooks.workers:4}") int poolSize,
+                                @Value("${payment-webhooks.max-attempts:10}") int maxAttempts,
+                                @Value("${payment-webhooks.initial-backoff:1s}") Duration initialBackoff,
+                                @Value("${payment-webhooks.max-backoff:5m}") Duration maxBackoff,
+                                @Value("${payment-webhooks.visibility-timeout:1m}") Duration visibilityTimeout) {
+        this.queue = queue;
+        this.payments = payments;
+        this.workers = Executors.newFixedThreadPool(poolSize, Thread.ofPlatform().name("payment-webhook-", 0).factory());
+        this.idle = new Semaphore(poolSize);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.visibilityTimeout = visibilityTimeout;
+        this.processing = Timer.builder("payment.webhooks.processing")
+                .description("Time spent handling a single payment webhook")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.latency = Timer.builder("payment.webhooks.latency")
+                .description("Time between receiving a payment webhook and finishing it")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.retried = Counter.builder("payment.webhooks.retried").register(meterRegistry);
+        this.dropped = Counter.builder("payment.webhooks.dropped").register(meterRegistry);
+
+        Gauge.builder("payment.webhooks.in-flight", idle, permits -> poolSize - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment-webhooks.poll-interval:PT0.5S}")
+    public void poll() {
+        // before the idle check: during a storm every worker is busy, and that is when the gauges matter
+        queue.refreshBacklog();
+        int free = idle.availablePermits();
+        if (free == 0) return;
+
+        List<DbPaymentWebhookQueue.Claimed> claimed;
+        try {
+            claimed = queue.claim(free, visibilityTimeout);
+        } catch (RuntimeException e) {
+            log.warn("Claiming payment webhooks failed, retrying on next poll: {}", e.getMessage());
+            return;
+        }
+
+        for (DbPaymentWebhookQueue.Claimed webhook : claimed) {
+            idle.acquireUninterruptibly();
+            workers.execute(() -> {
+                try {
+                    process(webhook);
+                } finally {
+                    idle.release();
+                }
+            });
+        }
+    }
+
+    private void process(DbPaymentWebhookQueue.Claimed webhook) {
+        try {
+            processing.record(() -> {
+                if (webhook.paymentId() != null) {
+                    payments.handleWebhook(webhook.paymentId());
+                } else {
+                    payments.handleWebhook(webhook.orderId());
+                }
+            });
+            queue.complete(webhook);
+            latency.record(Duration.between(webhook.receivedAt(), Instant.now()));
+        } catch (NotFoundException e) {
+            log.warn("Dropping webhook {}: {}", webhook.key(), e.getMessage());
+            dropped.increment();
+            queue.discard(webhook);
+        } catch (RuntimeException e) {
+            if (webhook.attempts() + 1 >= maxAttempts) {
+                log.error("Dropping webhook {} after {} attempts: {}", webhook.key(), maxAttempts, e.getMessage(), e);
+                dropped.increment();
+                queue.discard(webhook);
+                return;
+            }
+            Duration backoff = backoff(webhook.attempts());
+            log.info("Webhook {} failed ({}), retrying in {}", webhook.key(), e.getMessage(), backoff);
+            retried.increment();
+            queue.retry(webhook, Instant.now().plus(backoff));
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
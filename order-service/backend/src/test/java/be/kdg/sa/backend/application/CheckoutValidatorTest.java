@@ -0,0 +1,87 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.restaurant.AsyncRestaurantCatalog;
+import be.kdg.sa.backend.domain.restaurant.Dish;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CheckoutValidatorTest {
+
+    private static final RestaurantId RESTAURANT = new RestaurantId(UUID.randomUUID());
+    private static final Dish DISH = new Dish(new DishId(UUID.randomUUID()), "Pasta", "Pasta pesto",
+            Money.ofCents(1250), true, false, false, "MAIN", "AVAILABLE");
+
+    private final StubCatalog catalog = new StubCatalog();
+
+    @Test
+    void validate_returnsDishesWhenEveryCheckPasses() {
+        catalog.open.complete(true);
+        catalog.dishes.complete(Map.of(DISH.dishId(), DISH));
+
+        Map<DishId, Dish> dishes = validator(Duration.ofSeconds(1)).validate(cart());
+
+        assertThat(dishes).containsEntry(DISH.dishId(), DISH);
+    }
+
+    @Test
+    void validate_failsOnFirstFailureAndCancelsTheOtherCheck() {
+        catalog.open.complete(false);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> validator(Duration.ofSeconds(5)).validate(cart()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(catalog.dishes).isCancelled();
+    }
+
+    @Test
+    void validate_givesUpAtTheDeadlineAndCancelsBothChecks() {
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> validator(Duration.ofMillis(100)).validate(cart()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("did not answer within 100 ms");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(catalog.open).isCancelled();
+        assertThat(catalog.dishes).isCancelled();
+    }
+
+    private CheckoutValidator validator(Duration deadline) {
+        return new CheckoutValidator(catalog, deadline);
+    }
+
+    private static Order cart() {
+        Order order = Order.createCart();
+        order.addDish(DISH.dishId(), RESTAURANT, DISH, 1, null);
+        return order;
+    }
+
+    private static final class StubCatalog implements AsyncRestaurantCatalog {
+        private final CompletableFuture<Boolean> open = new CompletableFuture<>();
+        private final CompletableFuture<Map<DishId, Dish>> dishes = new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<Boolean> isRestaurantOpen(RestaurantId restaurantId) {
+            return open;
+        }
+
+        @Override
+        public CompletableFuture<Map<DishId, Dish>> getDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+            return dishes;
+        }
+    }
+}
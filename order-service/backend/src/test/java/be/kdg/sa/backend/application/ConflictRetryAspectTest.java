@@ -0,0 +1,131 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.DbOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderLineEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.dao.PersistenceExceptionTranslationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The first attempt loses the race against a writer that commits in between its read and its write; the retry reads
+ * the new version and goes through. The repository flushes inside {@code save}, so the conflict only reaches the retry
+ * as Spring's exception through the {@code @Repository} translation the application context has and the slice lacks.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(PersistenceExceptionTranslationAutoConfiguration.class)
+@Import({DbOrderRepository.class, ConflictRetryAspect.class, ConflictRetryAspectTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConflictRetryAspectTest {
+
+    @Autowired
+    private Rejections rejections;
+
+    @Autowired
+    private JpaOrderRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void retryOnConflict_retriesAConflictingConcurrentUpdateAndThenSucceeds() {
+        UUID orderId = persistPlacedOrder();
+        TransactionTemplate concurrentWriter = new TransactionTemplate(transactionManager);
+        concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        rejections.reject(new OrderId(orderId), () -> concurrentWriter.executeWithoutResult(status -> entityManager
+                .createQuery("update JpaOrderEntity o set o.customerName = :name, o.version = o.version + 1 where o.id = :id")
+                .setParameter("name", "Concurrent Writer")
+                .setParameter("id", orderId)
+                .executeUpdate()));
+
+        assertThat(rejections.attempts()).isEqualTo(2);
+        JpaOrderEntity stored = repository.findById(orderId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.REJECTED);
+        assertThat(stored.getCustomerName()).isEqualTo("Concurrent Writer");
+        assertThat(stored.getVersion()).isEqualTo(2);
+    }
+
+    private UUID persistPlacedOrder() {
+        UUID orderId = UUID.randomUUID();
+        JpaOrderEntity order = new JpaOrderEntity(orderId, UUID.randomUUID(), LocalDateTime.now(), OrderStatus.PLACED, Money.ofCents(1000), null);
+        JpaOrderLineEntity line = new JpaOrderLineEntity(orderId, UUID.randomUUID(), "Dish", Money.ofCents(1000), 1, null);
+        line.setOrder(order);
+        order.setLines(new ArrayList<>(List.of(line)));
+        repository.save(order);
+        return orderId;
+    }
+
+    static class Rejections {
+        private final OrderRepository orders;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Rejections(OrderRepository orders) {
+            this.orders = orders;
+        }
+
+        @RetryOnConflict
+        @Transactional
+        public void reject(OrderId orderId, Runnable concurrentWriter) {
+            Order order = orders.findById(orderId).orElseThrow();
+            if (attempts.incrementAndGet() == 1) concurrentWriter.run();
+            order.reject("Restaurant closed early");
+            orders.save(order);
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class Config {
+        @Bean
+        RetryRegistry retryRegistry() {
+            return RetryRegistry.of(RetryConfig.custom()
+                    .maxAttempts(3)
+                    .waitDuration(Duration.ofMillis(10))
+                    .retryExceptions(OptimisticLockingFailureException.class)
+                    .build());
+        }
+
+        @Bean
+        Rejections rejections(OrderRepository orders) {
+            return new Rejections(orders);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.application.events.OrderSavedDomainEvent;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderRepository;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.order.OrderSummary;
+import be.kdg.sa.backend.domain.order.OrderSummaryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class OrderSummaryProjectorTest {
+
+    private final OrderRepository orders = mock(OrderRepository.class);
+    private final OrderSummaryRepository summaries = mock(OrderSummaryRepository.class);
+    private final OrderSummaryProjector projector = new OrderSummaryProjector(orders, summaries);
+
+    @Test
+    void on_leavesCartsOutOfTheReadModel() {
+        projector.on(new OrderSavedDomainEvent(Order.createCart(), 3, OrderStatus.CART));
+
+        then(summaries).should(never()).save(any());
+    }
+
+    @Test
+    void rebuild_projectsOrdersAndDropsCartSummaries() {
+        Order cart = Order.createCart();
+        Order placed = new Order(OrderId.create(), OrderStatus.PLACED);
+        given(orders.findAllById(List.of(cart.getId(), placed.getId()))).willReturn(List.of(cart, placed));
+
+        int rebuilt = projector.rebuild(List.of(cart.getId(), placed.getId()));
+
+        assertThat(rebuilt).isEqualTo(1);
+        then(summaries).should().deleteAllById(List.of(cart.getId()));
+        then(summaries).should().saveAll(List.of(OrderSummary.of(placed, placed.getVersion())));
+    }
+}
@@ -0,0 +1,95 @@
+package be.kdg.sa.backend.application;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.payment.MolliePaymentId;
+import be.kdg.sa.backend.domain.payment.Payment;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.DbOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderLineEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Twenty concurrent checkouts against a stubbed provider that takes 300ms per call, on a pool of two connections
+ * with a 500ms acquire timeout. Holding a connection across the provider call would queue the requests for
+ * about three seconds and time most of them out.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payments;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=500"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaymentService.class, PaymentTransitions.class, DbOrderRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentServiceLoadTest {
+
+    private static final int CHECKOUTS = 20;
+
+    @Autowired
+    private PaymentService payments;
+
+    @Autowired
+    private JpaOrderRepository repository;
+
+    @MockitoBean
+    private PaymentProvider paymentProvider;
+
+    @MockitoBean
+    private PaymentWebhookQueue webhooks;
+
+    @MockitoBean
+    private OrderTimeoutService timeouts;
+
+    @Test
+    void createPayment_doesNotExhaustPoolWhenProviderIsSlow() throws Exception {
+        given(paymentProvider.createPaymentForOrder(any())).willAnswer(invocation -> {
+            Thread.sleep(300);
+            return new Payment(new MolliePaymentId("tr_" + UUID.randomUUID()), "https://checkout.test");
+        });
+        List<OrderId> orderIds = IntStream.range(0, CHECKOUTS).mapToObj(i -> persistPayableOrder()).toList();
+
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CHECKOUTS)) {
+            orderIds.forEach(orderId -> results.add(clients.submit(() -> payments.createPayment(orderId))));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        assertThat(repository.findAllById(orderIds.stream().map(OrderId::value).toList()))
+                .hasSize(CHECKOUTS)
+                .allSatisfy(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_IN_PROGRESS));
+    }
+
+    private OrderId persistPayableOrder() {
+        UUID orderId = UUID.randomUUID();
+        JpaOrderEntity order = new JpaOrderEntity(orderId, UUID.randomUUID(), null, OrderStatus.CUSTOMER_DETAILS_PROVIDED, Money.ofCents(1000), null);
+        JpaOrderLineEntity line = new JpaOrderLineEntity(orderId, UUID.randomUUID(), "Dish", Money.ofCents(1000), 1, null);
+        line.setOrder(order);
+        order.setLines(new ArrayList<>(List.of(line)));
+        repository.save(order);
+        return new OrderId(orderId);
+    }
+}
@@ -0,0 +1,124 @@
+package be.kdg.sa.backend.config;
+
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
+import com.rabbitmq.client.Channel;
+import org.aopalliance.aop.Advice;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The listener factory has to be the one Boot hands to every {@code @RabbitListener}; a separately named factory is
+ * only used by listeners that ask for it, and none do.
+ */
+class RabbitMQConfigTest {
+
+    private final RabbitTemplate rabbitTemplate = confirmingTemplate();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RabbitAutoConfiguration.class, JacksonAutoConfiguration.class))
+            .withUserConfiguration(RabbitMQConfig.class, JacksonConfig.class)
+            .withBean(RabbitTemplate.class, () -> rabbitTemplate);
+
+    @Test
+    void rabbitListenerContainerFactory_keepsBootSettingsAndListenerTuning() {
+        contextRunner
+                .withPropertyValues("spring.rabbitmq.listener.simple.acknowledge-mode=manual",
+                        "messaging.listeners.defaults.prefetch=7")
+                .run(context -> {
+                    assertThat(context).getBeans(SimpleRabbitListenerContainerFactory.class).hasSize(1);
+
+                    SimpleMessageListenerContainer container = context
+                            .getBean("rabbitListenerContainerFactory", SimpleRabbitListenerContainerFactory.class)
+                            .createListenerContainer(endpoint("queue.test"));
+
+                    assertThat(container.getAcknowledgeMode()).isEqualTo(AcknowledgeMode.MANUAL);
+                    assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(7);
+                });
+    }
+
+    @Test
+    void exhaustedConflict_isParkedInsteadOfRequeued() {
+        contextRunner.run(context -> {
+            Message message = MessageBuilder.withBody("{}".getBytes()).build();
+            Listener listener = listenerFailingWith(context.getBean(SimpleRabbitListenerContainerFactory.class),
+                    new ObjectOptimisticLockingFailureException(JpaOrderEntity.class, UUID.randomUUID()));
+
+            listener.invokeListener(mock(Channel.class), message);
+
+            verify(rabbitTemplate).send(eq(RabbitMQTopology.EXCHANGE_ORDER_PARKING), any(), eq(message), any(CorrelationData.class));
+        });
+    }
+
+    @Test
+    void otherFailures_areRethrownForTheContainerToRequeue() {
+        contextRunner.run(context -> {
+            Message message = MessageBuilder.withBody("{}".getBytes()).build();
+            Listener listener = listenerFailingWith(context.getBean(SimpleRabbitListenerContainerFactory.class),
+                    new IllegalStateException("database down"));
+
+            assertThatThrownBy(() -> listener.invokeListener(mock(Channel.class), message))
+                    .isInstanceOf(ListenerExecutionFailedException.class);
+            verify(rabbitTemplate, never()).send(any(), any(), any(Message.class), any(CorrelationData.class));
+        });
+    }
+
+    // the container runs the advice chain around the same (channel, message) call
+    private static Listener listenerFailingWith(SimpleRabbitListenerContainerFactory factory, RuntimeException failure) {
+        ProxyFactory proxyFactory = new ProxyFactory((Listener) (channel, message) -> {
+            throw new ListenerExecutionFailedException("Listener threw exception", failure, (Message) message);
+        });
+        proxyFactory.addInterface(Listener.class);
+        for (Advice advice : factory.getAdviceChain()) {
+            proxyFactory.addAdvice(advice);
+        }
+        return (Listener) proxyFactory.getProxy();
+    }
+
+    private static SimpleRabbitListenerEndpoint endpoint(String queue) {
+        SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setId(queue);
+        endpoint.setQueueNames(queue);
+        endpoint.setMessageListener(message -> {
+        });
+        return endpoint;
+    }
+
+    private static RabbitTemplate confirmingTemplate() {
+        RabbitTemplate template = mock(RabbitTemplate.class);
+        willAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).given(template).send(any(), any(), any(Message.class), any(CorrelationData.class));
+        return template;
+    }
+
+    interface Listener {
+        void invokeListener(Channel channel, Object data);
+    }
+}
@@ -0,0 +1,85 @@
+package be.kdg.sa.backend.domain;
+
+import be.kdg.sa.backend.config.MoneyJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new MoneyJsonModule());
+
+    @Test
+    void of_roundsHalfUpToWholeCents() {
+        assertThat(Money.of(new BigDecimal("12.345")).cents()).isEqualTo(1235);
+        assertThat(Money.of(new BigDecimal("12.344")).cents()).isEqualTo(1234);
+        assertThat(Money.of(new BigDecimal("-12.345")).cents()).isEqualTo(-1235);
+        assertThat(Money.of(new BigDecimal("7")).cents()).isEqualTo(700);
+    }
+
+    @Test
+    void of_failsWhenTheAmountDoesNotFitInCents() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e20")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void negativeAmounts_keepTheirSignInArithmeticAndText() {
+        Money refund = Money.ofCents(-1205);
+
+        assertThat(refund.isNegative()).isTrue();
+        assertThat(refund.toString()).isEqualTo("-12.05");
+        assertThat(Money.ofCents(-5).toString()).isEqualTo("-0.05");
+        assertThat(refund.times(2)).isEqualTo(Money.ofCents(-2410));
+        assertThat(refund.plus(Money.ofCents(1205))).isSameAs(Money.ZERO);
+        assertThat(refund.toBigDecimal()).isEqualByComparingTo("-12.05");
+    }
+
+    @Test
+    void times_failsInsteadOfOverflowing() {
+        Money large = Money.ofCents(Long.MAX_VALUE / 2 + 1);
+
+        assertThatThrownBy(() -> large.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofCents(-Long.MAX_VALUE).times(2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void plus_failsInsteadOfOverflowing() {
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofCents(-Long.MAX_VALUE).plus(Money.ofCents(-1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void minimumLong_isRejectedBecauseItCannotBeFormatted() {
+        assertThatThrownBy(() -> Money.ofCents(Long.MIN_VALUE)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("-92233720368547758.08")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(Money.ofCents(-Long.MAX_VALUE).toString()).isEqualTo("-92233720368547758.07");
+    }
+
+    @Test
+    void json_writesAPlainDecimalAndReadsItBack() throws Exception {
+        Price price = new Price(Money.ofCents(1250));
+
+        String json = objectMapper.writeValueAsString(price);
+
+        assertThat(json).isEqualTo("{\"amount\":12.50}");
+        assertThat(objectMapper.readValue(json, Price.class)).isEqualTo(price);
+    }
+
+    @Test
+    void json_roundsIncomingAmountsAndAcceptsStrings() throws Exception {
+        assertThat(objectMapper.readValue("12.345", Money.class)).isEqualTo(Money.ofCents(1235));
+        assertThat(objectMapper.readValue("\"-3.10\"", Money.class)).isEqualTo(Money.ofCents(-310));
+        assertThat(objectMapper.writeValueAsString(Money.ofCents(-7))).isEqualTo("-0.07");
+    }
+
+    record Price(Money amount) {
+    }
+}
@@ -0,0 +1,106 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order;
+
+import be.kdg.sa.backend.application.events.OrderSavedDomainEvent;
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.order.OrderSummary;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderLineEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@Import({DbOrderRepository.class, DbOrderRepositoryTest.Config.class})
+class DbOrderRepositoryTest {
+
+    @Autowired
+    private DbOrderRepository orders;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SavedEvents events;
+
+    @Test
+    void save_publishesTheVersionHibernateWrote() {
+        UUID orderId = persistPlacedOrder();
+
+        Order order = orders.findById(new OrderId(orderId)).orElseThrow();
+        orders.save(order);
+        assertThat(events.last().version()).isZero();
+
+        order.reject("Kitchen closed");
+        orders.save(order);
+        assertThat(events.last().version()).isEqualTo(1);
+        assertThat(entityManager.find(JpaOrderEntity.class, orderId).getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void save_keepsTheTimestampsTheSummaryIsProjectedFrom() {
+        UUID orderId = persistPlacedOrder();
+        LocalDateTime createdAt = entityManager.find(JpaOrderEntity.class, orderId).getCreatedAt();
+
+        Order order = orders.findById(new OrderId(orderId)).orElseThrow();
+        order.reject("Kitchen closed");
+        orders.save(order);
+        entityManager.flush();
+        entityManager.clear();
+
+        Order stored = orders.findById(new OrderId(orderId)).orElseThrow();
+        OrderSummary summary = OrderSummary.of(stored, stored.getVersion());
+        assertThat(summary.createdAt()).isCloseTo(createdAt, within(1, ChronoUnit.MILLIS));
+        assertThat(summary.decidedAt()).isCloseTo(order.getDecisionAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(summary.statusChangedAt()).isCloseTo(order.getStatusChangedAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(summary.statusChangedAt()).isAfterOrEqualTo(summary.createdAt());
+    }
+
+    private UUID persistPlacedOrder() {
+        UUID orderId = UUID.randomUUID();
+        JpaOrderEntity order = new JpaOrderEntity(orderId, UUID.randomUUID(), LocalDateTime.now(), OrderStatus.PLACED, Money.ofCents(1000), null);
+        JpaOrderLineEntity line = new JpaOrderLineEntity(orderId, UUID.randomUUID(), "Dish", Money.ofCents(1000), 1, null);
+        line.setOrder(order);
+        order.setLines(new ArrayList<>(List.of(line)));
+        entityManager.persistAndFlush(order);
+        entityManager.clear();
+        return orderId;
+    }
+
+    static class SavedEvents {
+        private final List<OrderSavedDomainEvent> received = new ArrayList<>();
+
+        @EventListener
+        void on(OrderSavedDomainEvent event) {
+            received.add(event);
+        }
+
+        OrderSavedDomainEvent last() {
+            return received.getLast();
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        SavedEvents savedEvents() {
+            return new SavedEvents();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderId;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import be.kdg.sa.backend.domain.restaurant.Address;
+import be.kdg.sa.backend.domain.restaurant.Dish;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderRepository;
+import be.kdg.sa.backend.infrastructure.db.repositories.order.jpa.JpaOrderSummaryRepository;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(DbOrderRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindCartRepositoryTest {
+
+    private static final Duration IDLE_TTL = Duration.ofMinutes(30);
+    private static final RestaurantId RESTAURANT = new RestaurantId(UUID.randomUUID());
+
+    @Autowired
+    private DbOrderRepository delegate;
+
+    @Autowired
+    private JpaOrderRepository jpaOrderRepository;
+
+    @Autowired
+    private JpaOrderSummaryRepository jpaOrderSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private TransactionTemplate transactionTemplate;
+    private WriteBehindCartRepository carts;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        carts = new WriteBehindCartRepository(delegate, jpaOrderRepository, jpaOrderSummaryRepository, entityManager, transactionTemplate,
+                new SimpleMeterRegistry(), 2, IDLE_TTL, Duration.ZERO, 10, ticker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jpaOrderSummaryRepository.deleteAll();
+            jpaOrderRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void save_rejectsAChangeMadeOnAStaleVersion() {
+        OrderId cartId = newCart();
+        Order first = carts.findById(cartId).orElseThrow();
+        Order second = carts.findById(cartId).orElseThrow();
+
+        first.addDish(dish().dishId(), RESTAURANT, dish(), 1, null);
+        carts.save(first);
+        second.addDish(dish().dishId(), RESTAURANT, dish(), 5, null);
+
+        assertThatThrownBy(() -> carts.save(second)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        Order stored = carts.findById(cartId).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(1);
+        assertThat(stored.getLines()).singleElement().satisfies(line -> assertThat(line.getQuantity()).isEqualTo(1));
+    }
+
+    @Test
+    void save_rejectsLeavingTheCartWhileACartChangeIsPending() {
+        OrderId cartId = newCartWithDish(null);
+        Order leaving = carts.findById(cartId).orElseThrow();
+        leaving.setCustomerDetails("Jane", "jane@example.com", address());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order cart = carts.findById(cartId).orElseThrow();
+            cart.addDish(dish().dishId(), RESTAURANT, dish(), 1, null);
+            carts.save(cart);
+
+            assertThatThrownBy(() -> carts.save(leaving)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        });
+
+        Order stored = carts.findById(cartId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.CART);
+        assertThat(stored.getLines()).singleElement().satisfies(line -> assertThat(line.getQuantity()).isEqualTo(2));
+        assertThat(jpaOrderRepository.findById(cartId.value())).isEmpty();
+    }
+
+    @Test
+    void save_rejectsACartChangeWhileTheCartIsBeingLeft() {
+        OrderId cartId = newCartWithDish(null);
+        Order adding = carts.findById(cartId).orElseThrow();
+        adding.addDish(dish().dishId(), RESTAURANT, dish(), 1, null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order leaving = carts.findById(cartId).orElseThrow();
+            leaving.setCustomerDetails("Jane", "jane@example.com", address());
+            carts.save(leaving);
+
+            assertThatThrownBy(() -> carts.save(adding)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        });
+
+        Order stored = transactionTemplate.execute(status -> carts.findById(cartId).orElseThrow());
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.CUSTOMER_DETAILS_PROVIDED);
+        assertThat(stored.getLines()).singleElement().satisfies(line -> assertThat(line.getQuantity()).isEqualTo(1));
+    }
+
+    @Test
+    void save_releasesTheCartWhenLeavingItRollsBack() {
+        OrderId cartId = newCartWithDish(null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order leaving = carts.findById(cartId).orElseThrow();
+            leaving.setCustomerDetails("Jane", "jane@example.com", address());
+            carts.save(leaving);
+            status.setRollbackOnly();
+        });
+
+        Order cart = carts.findById(cartId).orElseThrow();
+        assertThat(cart.getStatus()).isEqualTo(OrderStatus.CART);
+        cart.addDish(dish().dishId(), RESTAURANT, dish(), 1, null);
+        carts.save(cart);
+        assertThat(carts.findById(cartId).orElseThrow().getLines())
+                .singleElement().satisfies(line -> assertThat(line.getQuantity()).isEqualTo(2));
+    }
+
+    @Test
+    void save_appliesTheChangeOnlyOnceTheTransactionCommits() {
+        OrderId cartId = newCart();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order cart = carts.findById(cartId).orElseThrow();
+            cart.addDish(dish().dishId(), RESTAURANT, dish(), 2, null);
+            carts.save(cart);
+
+            assertThat(carts.findById(cartId).orElseThrow().getLines()).isEmpty();
+        });
+
+        assertThat(carts.findById(cartId).orElseThrow().getLines()).hasSize(1);
+    }
+
+    @Test
+    void save_leavesTheCartUntouchedWhenTheTransactionRollsBack() {
+        OrderId cartId = newCart();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order cart = carts.findById(cartId).orElseThrow();
+            cart.addDish(dish().dishId(), RESTAURANT, dish(), 2, null);
+            carts.save(cart);
+            status.setRollbackOnly();
+        });
+
+        Order cart = carts.findById(cartId).orElseThrow();
+        assertThat(cart.getLines()).isEmpty();
+        assertThat(cart.getVersion()).isZero();
+
+        // the rolled back change released its claim on the version
+        cart.addDish(dish().dishId(), RESTAURANT, dish(), 1, null);
+        carts.save(cart);
+        assertThat(carts.findById(cartId).orElseThrow().getLines()).hasSize(1);
+    }
+
+    @Test
+    void flush_writesDueCartsToTheOrdersTable() {
+        OrderId cartId = newCartWithDish(null);
+
+        carts.flush();
+
+        assertThat(storedLineCount(cartId)).contains(1);
+        assertThat(jpaOrderRepository.findById(cartId.value()))
+                .hasValueSatisfying(entity -> assertThat(entity.getStatus()).isEqualTo(OrderStatus.CART));
+    }
+
+    @Test
+    void flush_isolatesACartThatCannotBeWritten() {
+        OrderId broken = newCartWithDish("x".repeat(300));
+        OrderId healthy = newCartWithDish(null);
+
+        carts.flush();
+
+        assertThat(jpaOrderRepository.findById(broken.value())).isEmpty();
+        assertThat(storedLineCount(healthy)).contains(1);
+    }
+
+    @Test
+    void flush_writesCartsPushedOutByTheSizeBound() {
+        OrderId first = newCartWithDish(null);
+        OrderId second = newCartWithDish(null);
+        OrderId third = newCartWithDish(null);
+
+        carts.flush();
+
+        assertThat(storedLineCount(first)).contains(1);
+        assertThat(storedLineCount(second)).contains(1);
+        assertThat(storedLineCount(third)).contains(1);
+    }
+
+    @Test
+    void flush_deletesTheRowOfAnExpiredCart() {
+        OrderId cartId = newCartWithDish(null);
+        carts.flush();
+        assertThat(jpaOrderRepository.findById(cartId.value())).isPresent();
+
+        // as an earlier rebuild of the read model could have left it
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                        "insert into order_summaries (order_id, status, line_count, item_count, total_price_cents, version) values (?, 'CART', 1, 1, 1250, 1)")
+                .setParameter(1, cartId.value())
+                .executeUpdate());
+
+        nanos.addAndGet(IDLE_TTL.plusSeconds(1).toNanos());
+        carts.flush();
+
+        assertThat(jpaOrderRepository.findById(cartId.value())).isEmpty();
+        assertThat(jpaOrderSummaryRepository.findById(cartId.value())).isEmpty();
+    }
+
+    private OrderId newCart() {
+        Order cart = Order.createCart();
+        carts.save(cart);
+        return cart.getId();
+    }
+
+    private OrderId newCartWithDish(String notes) {
+        OrderId cartId = newCart();
+        Order cart = carts.findById(cartId).orElseThrow();
+        cart.addDish(dish().dishId(), RESTAURANT, dish(), 1, notes);
+        carts.save(cart);
+        return cartId;
+    }
+
+    private Optional<Integer> storedLineCount(OrderId orderId) {
+        return transactionTemplate.execute(status -> jpaOrderRepository.findById(orderId.value())
+                .map(JpaOrderEntity::getLines)
+                .map(lines -> lines.size()));
+    }
+
+    private static Address address() {
+        return new Address("Nationalestraat", "5", null, "Belgium", "Antwerpen", "2000");
+    }
+
+    private static Dish dish() {
+        return new Dish(new DishId(new UUID(0, 1)), "Pasta", "Pasta pesto", Money.ofCents(1250), true, false, false, "MAIN", "AVAILABLE");
+    }
+}
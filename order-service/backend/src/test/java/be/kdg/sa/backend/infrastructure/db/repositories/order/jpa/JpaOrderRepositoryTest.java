@@ -0,0 +1,89 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.order.jpa;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.order.Order;
+import be.kdg.sa.backend.domain.order.OrderStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JpaOrderRepositoryTest {
+
+    @Autowired
+    private JpaOrderRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private final UUID dishId = UUID.randomUUID();
+    private final UUID otherDishId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        persistOrder(OrderStatus.PLACED, 2, dishId, otherDishId);
+        persistOrder(OrderStatus.ACCEPTED, 1, dishId);
+        persistOrder(OrderStatus.DELIVERED, 3, otherDishId);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllByDishId_loadsOrdersWithAllLinesInOneStatement() {
+        List<Order> orders = repository.findAllByDishId(dishId).stream()
+                .map(JpaOrderEntity::toDomain)
+                .toList();
+
+        assertThat(orders).hasSize(2);
+        assertThat(orders).filteredOn(order -> order.getStatus() == OrderStatus.PLACED)
+                .singleElement()
+                .satisfies(order -> assertThat(order.getLines()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findViewsByDishId_projectsIdStatusAndQuantityInOneStatement() {
+        List<JpaDishOrderView> views = repository.findViewsByDishId(dishId);
+
+        assertThat(views).extracting(JpaDishOrderView::status, JpaDishOrderView::quantity)
+                .containsExactlyInAnyOrder(
+                        tuple(OrderStatus.PLACED, 2),
+                        tuple(OrderStatus.ACCEPTED, 1)
+                );
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void persistOrder(OrderStatus status, int quantity, UUID... dishIds) {
+        UUID orderId = UUID.randomUUID();
+        JpaOrderEntity order = new JpaOrderEntity(orderId, UUID.randomUUID(), LocalDateTime.now(), status, Money.ofCents(1000), null);
+        List<JpaOrderLineEntity> lines = Arrays.stream(dishIds)
+                .map(id -> {
+                    JpaOrderLineEntity line = new JpaOrderLineEntity(orderId, id, "Dish", Money.ofCents(100), quantity, null);
+                    line.setOrder(order);
+                    return line;
+                })
+                .toList();
+        order.setLines(new ArrayList<>(lines));
+        entityManager.persist(order);
+    }
+}
@@ -0,0 +1,143 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.restaurant;
+
+import be.kdg.sa.backend.domain.Money;
+import be.kdg.sa.backend.domain.restaurant.DishId;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.events.DishChangedEvent;
+import be.kdg.sa.backend.events.MenuChangedEvent;
+import be.kdg.sa.backend.events.OpeningOverrideChangedEvent;
+import be.kdg.sa.backend.events.RestaurantChangedEvent;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa.JpaCatalogDishEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurant.jpa.JpaCatalogRestaurantEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ReplicatedRestaurantCatalog.class)
+class ReplicatedRestaurantCatalogTest {
+
+    private final UUID restaurantId = UUID.randomUUID();
+
+    @Autowired
+    private ReplicatedRestaurantCatalog catalog;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void apply_ignoresADishChangeOlderThanTheReplica() {
+        UUID dishId = UUID.randomUUID();
+
+        catalog.apply(dishChanged(dishId, "Lasagne", 5));
+        catalog.apply(dishChanged(dishId, "Spaghetti", 3));
+
+        assertThat(catalog.getDish(new RestaurantId(restaurantId), new DishId(dishId)))
+                .hasValueSatisfying(dish -> assertThat(dish.name()).isEqualTo("Lasagne"));
+        assertThat(restaurant().getPriceIndicator()).isEqualTo("€5");
+    }
+
+    @Test
+    void apply_keepsATombstoneSoALateChangeCannotBringTheDishBack() {
+        UUID dishId = UUID.randomUUID();
+        catalog.apply(dishChanged(dishId, "Lasagne", 2));
+
+        catalog.apply(new DishChangedEvent(restaurantId, dishId, true, null, "€", 4));
+        catalog.apply(dishChanged(dishId, "Lasagne", 3));
+
+        assertThat(catalog.getDish(new RestaurantId(restaurantId), new DishId(dishId))).isEmpty();
+        JpaCatalogDishEntity tombstone = entityManager.find(JpaCatalogDishEntity.class, dishId);
+        assertThat(tombstone.isRemoved()).isTrue();
+        assertThat(tombstone.getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    void apply_checksTheVersionOfEachPartOfTheRestaurantSeparately() {
+        catalog.apply(restaurantChanged("Da Mario", 5));
+
+        // the override has its own version, so an older catalog version still applies to it
+        catalog.apply(new OpeningOverrideChangedEvent(restaurantId, true, null, 3));
+        catalog.apply(restaurantChanged("Chez Mario", 4));
+
+        JpaCatalogRestaurantEntity restaurant = restaurant();
+        assertThat(restaurant.getName()).isEqualTo("Da Mario");
+        assertThat(restaurant.getDetailsVersion()).isEqualTo(5);
+        assertThat(restaurant.getManualOverrideOpen()).isTrue();
+        assertThat(restaurant.getOverrideVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void apply_menuChangeRemovesMissingDishesButKeepsNewerOnes() {
+        UUID dropped = UUID.randomUUID();
+        UUID changedLater = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        catalog.apply(dishChanged(dropped, "Soup", 1));
+        catalog.apply(dishChanged(changedLater, "Tiramisu", 7));
+
+        catalog.apply(new MenuChangedEvent(restaurantId, List.of(dish(kept, "Pizza")), "€", 6));
+
+        assertThat(catalog.getAllDishes(new RestaurantId(restaurantId)))
+                .extracting(dish -> dish.name())
+                .containsExactlyInAnyOrder("Pizza", "Tiramisu");
+        assertThat(entityManager.find(JpaCatalogDishEntity.class, dropped).isRemoved()).isTrue();
+    }
+
+    @Test
+    void retainOnly_dropsRestaurantsMissingFromTheSnapshotUnlessReplicatedSince() {
+        UUID listed = UUID.randomUUID();
+        UUID gone = UUID.randomUUID();
+        UUID goneDish = UUID.randomUUID();
+        catalog.apply(restaurantChanged(listed, 1));
+        catalog.apply(restaurantChanged(gone, 1));
+        catalog.apply(new DishChangedEvent(gone, goneDish, false, dish(goneDish, "Soup"), "€", 1));
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("update catalog_restaurants set replicated_at = ?1")
+                .setParameter(1, LocalDateTime.now().minusHours(1))
+                .executeUpdate();
+        LocalDateTime snapshotTakenAt = LocalDateTime.now().minusMinutes(1);
+        UUID newer = UUID.randomUUID();
+        catalog.apply(restaurantChanged(newer, 1));
+        entityManager.flush();
+        entityManager.clear();
+
+        int removed = catalog.retainOnly(Set.of(listed), snapshotTakenAt);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(entityManager.find(JpaCatalogRestaurantEntity.class, gone)).isNull();
+        assertThat(entityManager.find(JpaCatalogDishEntity.class, goneDish)).isNull();
+        assertThat(entityManager.find(JpaCatalogRestaurantEntity.class, listed)).isNotNull();
+        assertThat(entityManager.find(JpaCatalogRestaurantEntity.class, newer)).isNotNull();
+    }
+
+    private JpaCatalogRestaurantEntity restaurant() {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(JpaCatalogRestaurantEntity.class, restaurantId);
+    }
+
+    private DishChangedEvent dishChanged(UUID dishId, String name, long version) {
+        return new DishChangedEvent(restaurantId, dishId, false, dish(dishId, name), "€" + version, version);
+    }
+
+    private RestaurantChangedEvent restaurantChanged(String name, long version) {
+        return new RestaurantChangedEvent(restaurantId, name, null, "Italian", "€", version);
+    }
+
+    private static RestaurantChangedEvent restaurantChanged(UUID restaurantId, long version) {
+        return new RestaurantChangedEvent(restaurantId, "Restaurant", null, "Italian", "€", version);
+    }
+
+    private static DishChangedEvent.Dish dish(UUID dishId, String name) {
+        return new DishChangedEvent.Dish(dishId, name, null, Money.ofCents(1250), false, false, false, "MAIN", "AVAILABLE");
+    }
+}
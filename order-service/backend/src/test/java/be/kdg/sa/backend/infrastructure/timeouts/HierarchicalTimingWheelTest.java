@@ -0,0 +1,98 @@
+package be.kdg.sa.backend.infrastructure.timeouts;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final Instant START = Instant.ofEpochSecond(0);
+
+    // 1s ticks, 4 slots, 2 levels: level 0 covers 4s, level 1 covers 16s
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 4, 2, START);
+
+    @Test
+    void advance_firesLevelZeroDeadlinesOnTheirTickAndNeverEarly() {
+        wheel.schedule("order", at(2_500));
+
+        assertThat(wheel.advance(at(2_999))).isEmpty();
+        assertThat(wheel.advance(at(3_000))).containsExactly("order");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_cascadesHigherLevelDeadlinesDownToLevelZero() {
+        wheel.schedule("order", at(10_000));
+
+        assertThat(wheel.advance(at(9_000))).isEmpty();
+        assertThat(wheel.contains("order")).isTrue();
+        assertThat(wheel.advance(at(10_000))).containsExactly("order");
+    }
+
+    @Test
+    void advance_keepsDeadlinesBeyondTheTopLevelUntilTheyAreDue() {
+        wheel.schedule("order", at(40_000));
+
+        for (long second = 1; second < 40; second++) {
+            assertThat(wheel.advance(at(second * 1_000))).as("at %ss", second).isEmpty();
+        }
+        assertThat(wheel.advance(at(40_000))).containsExactly("order");
+    }
+
+    @Test
+    void advance_firesEverythingThatFellDueAcrossSkippedTicks() {
+        wheel.schedule("first", at(2_000));
+        wheel.schedule("second", at(11_000));
+        wheel.schedule("third", at(30_000));
+
+        assertThat(wheel.advance(at(31_000))).containsExactlyInAnyOrder("first", "second", "third");
+    }
+
+    @Test
+    void cancel_dropsTheDeadlineSoItNeverFires() {
+        wheel.schedule("cancelled", at(3_000));
+        wheel.schedule("kept", at(3_000));
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.contains("cancelled")).isFalse();
+        assertThat(wheel.advance(at(3_000))).containsExactly("kept");
+        assertThat(wheel.cancel("cancelled")).isFalse();
+    }
+
+    @Test
+    void schedule_replacesTheEarlierDeadlineOfTheSameKey() {
+        wheel.schedule("order", at(2_000));
+        wheel.schedule("order", at(20_000));
+
+        assertThat(wheel.advance(at(19_000))).isEmpty();
+        assertThat(wheel.advance(at(20_000))).containsExactly("order");
+    }
+
+    @Test
+    void advance_firesAlreadyDueDeadlinesOnTheNextCall() {
+        wheel.schedule("now", START);
+        wheel.schedule("past", START.minusSeconds(5));
+
+        assertThat(wheel.advance(START)).containsExactlyInAnyOrder("now", "past");
+
+        wheel.advance(at(10_000));
+        wheel.schedule("late", at(5_000));
+        assertThat(wheel.advance(at(10_000))).containsExactly("late");
+    }
+
+    @Test
+    void constructor_rejectsADegenerateWheel() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(Duration.ZERO, 4, 2, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(Duration.ofSeconds(1), 1, 2, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Instant at(long millis) {
+        return START.plusMillis(millis);
+    }
+}
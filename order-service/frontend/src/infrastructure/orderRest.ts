@@ -1,4 +1,4 @@
-import type {Order} from "../domain/order.ts";
+import type {Order, OrderStatus} from "../domain/order.ts";
 
 const SERVER_URL = "http://localhost:8081/api/";
 const ORDER_URL = SERVER_URL + "orders";
@@ -12,6 +12,14 @@ export async function getOrder(orderId: string): Promise<Order> {
     return response.json();
 }
 
+export function subscribeOrderStatus(orderId: string, onStatus: (status: OrderStatus) => void): EventSource {
+    const source = new EventSource(`${ORDER_URL}/${orderId}/events`);
+    source.addEventListener("status", (event) => {
+        onStatus(JSON.parse((event as MessageEvent).data).status);
+    });
+    return source;
+}
+
 export async function createOrder(): Promise<Order> {
     const response = await fetch(ORDER_URL, {
         method: "POST",
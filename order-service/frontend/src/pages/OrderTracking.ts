@@ -1,5 +1,5 @@
 import type {Order, OrderStatus} from "../domain/order.ts";
-import {createPayment, getOrder, verifiyPayment} from "../infrastructure/orderRest.ts";
+import {createPayment, getOrder, subscribeOrderStatus, verifiyPayment} from "../infrastructure/orderRest.ts";
 import {getCurrentOrder, setCurrentOrder, subscribeOrder} from "../service/orderServices.ts";
 
 export default function OrderTrackingPage(params?: Record<string, string>): HTMLElement {
@@ -173,24 +173,22 @@ export default function OrderTrackingPage(params?: Record<string, string>): HTML
         }
     })();
 
-    const interval = setInterval(async () => {
+    const events = subscribeOrderStatus(orderId, async (status) => {
+        if (["DELIVERED", "CANCELLED", "REJECTED"].includes(status)) {
+            events.close();
+        }
+        const current = getCurrentOrder();
+        if (current && current.status === status) return;
         try {
             const latest = await getOrder(orderId);
-            const current = getCurrentOrder();
-            if (!current || latest.status !== current.status) {
-                setCurrentOrder(latest);
-                render(latest);
-
-                if (["DELIVERED", "CANCELLED", "REJECTED"].includes(latest.status)) {
-                    clearInterval(interval);
-                }
-            }
+            setCurrentOrder(latest);
+            render(latest);
         } catch {
-            console.warn("Auto-refresh failed.");
+            console.warn("Refresh after status change failed.");
         }
-    }, 10000);
+    });
 
-    window.addEventListener("beforeunload", () => clearInterval(interval));
+    window.addEventListener("beforeunload", () => events.close());
 
     subscribeOrder((order) => {
         if (order?.id === orderId) render(order);
@@ -9,6 +9,7 @@ import be.kdg.sa.backend.api.dto.restaurant.*;
 import be.kdg.sa.backend.application.services.restaurant.RestaurantOrderService;
 import be.kdg.sa.backend.application.services.restaurant.RestaurantService;
 import be.kdg.sa.backend.domain.Address;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.Restaurant;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
@@ -26,6 +27,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @CrossOrigin(originPatterns = "http://localhost:[*]")
@@ -60,6 +62,12 @@ public class RestaurantRestController {
         );
     }
 
+    @GetMapping("/catalog")
+    @PermitAll
+    public ResponseEntity<Collection<CatalogSnapshotDto>> getCatalogSnapshot() {
+        return ResponseEntity.ok(restaurantService.getCatalogSnapshot());
+    }
+
     @PostMapping({"", "/"})
     @PreAuthorize("hasRole('owner')")
     public ResponseEntity<RestaurantDto> createRestaurant(@Valid @RequestBody CreateRestaurantDto dto, @AuthenticationPrincipal Jwt principal) {
@@ -98,7 +106,7 @@ public class RestaurantRestController {
                 new RestaurantId(restaurantId),
                 dto.name(),
                 dto.description(),
-                dto.price(),
+                Money.of(dto.price()),
                 dto.vegetarian(),
                 dto.vegan(),
                 dto.glutenFree(),
@@ -120,7 +128,7 @@ public class RestaurantRestController {
         DishPendingUpdate update = new DishPendingUpdate(
                 dto.name(),
                 dto.description(),
-                dto.price(),
+                dto.price() != null ? Money.of(dto.price()) : null,
                 dto.vegetarian(),
                 dto.vegan(),
                 dto.glutenFree(),
@@ -185,6 +193,15 @@ public class RestaurantRestController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/dishes/lookup")
+    @PermitAll
+    public ResponseEntity<Collection<DishForOrderingDto>> lookupDishes(@PathVariable UUID id, @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(restaurantService.getRestaurantDishes(
+                new RestaurantId(id),
+                ids.stream().map(DishId::new).toList()
+        ));
+    }
+
     @GetMapping("/{id}/dishes/{dishId}")
     @PermitAll
     public ResponseEntity<DishForOrderingDto> getDish(@PathVariable UUID id, @PathVariable UUID dishId) {
@@ -6,12 +6,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import java.math.BigDecimal;
+
 public record CreateDishDto(
         @NotBlank(message = "Name is required") String name,
         String description,
         @NotNull
         @PositiveOrZero(message = "Price must not be negative")
-        double price,
+        BigDecimal price,
         boolean vegetarian,
         boolean vegan,
         boolean glutenFree,
@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.api.dto.dish;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
 
 import java.util.UUID;
@@ -8,7 +9,7 @@ public record DishDto(
         UUID id,
         String name,
         String description,
-        double price,
+        Money price,
         boolean vegetarian,
         boolean vegan,
         boolean glutenFree,
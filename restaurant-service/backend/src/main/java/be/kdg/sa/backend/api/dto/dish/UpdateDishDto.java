@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record UpdateDishDto(
@@ -13,7 +14,7 @@ public record UpdateDishDto(
         String description,
         @NotNull(message = "Price can't be null")
         @PositiveOrZero(message = "Price can't be negative")
-        Double price,
+        BigDecimal price,
         Boolean vegetarian,
         Boolean vegan,
         Boolean glutenFree,
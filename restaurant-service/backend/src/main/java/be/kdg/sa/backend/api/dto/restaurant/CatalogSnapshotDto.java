@@ -0,0 +1,24 @@
+package be.kdg.sa.backend.api.dto.restaurant;
+
+import be.kdg.sa.backend.application.publisher.CatalogEventMapper;
+import be.kdg.sa.backend.domain.restaurant.Restaurant;
+import be.kdg.sa.backend.events.MenuChangedEvent;
+import be.kdg.sa.backend.events.OpeningHoursChangedEvent;
+import be.kdg.sa.backend.events.OpeningOverrideChangedEvent;
+import be.kdg.sa.backend.events.RestaurantChangedEvent;
+
+public record CatalogSnapshotDto(
+        RestaurantChangedEvent restaurant,
+        OpeningHoursChangedEvent openingHours,
+        OpeningOverrideChangedEvent openingOverride,
+        MenuChangedEvent menu
+) {
+    public static CatalogSnapshotDto from(Restaurant restaurant) {
+        return new CatalogSnapshotDto(
+                CatalogEventMapper.toRestaurantChanged(restaurant),
+                CatalogEventMapper.toOpeningHoursChanged(restaurant),
+                CatalogEventMapper.toOpeningOverrideChanged(restaurant),
+                CatalogEventMapper.toMenuChanged(restaurant)
+        );
+    }
+}
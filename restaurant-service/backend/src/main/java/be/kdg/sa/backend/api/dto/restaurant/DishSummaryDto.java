@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.api.dto.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.dish.DishStatus;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,7 @@ public record DishSummaryDto(
         UUID dishId,
         String name,
         String description,
-        double price,
+        Money price,
         DishStatus status,
         boolean hasPendingUpdate,
         LocalDateTime scheduledFor
@@ -0,0 +1,6 @@
+package be.kdg.sa.backend.application.events;
+
+import java.util.UUID;
+
+public record OpeningHoursChangedDomainEvent(UUID restaurantId) {
+}
@@ -0,0 +1,97 @@
+package be.kdg.sa.backend.application.publisher;
+
+import be.kdg.sa.backend.domain.restaurant.Restaurant;
+import be.kdg.sa.backend.domain.restaurant.dish.Dish;
+import be.kdg.sa.backend.domain.restaurant.dish.DishId;
+import be.kdg.sa.backend.events.*;
+
+import java.util.List;
+
+public final class CatalogEventMapper {
+
+    private CatalogEventMapper() {
+    }
+
+    public static RestaurantChangedEvent toRestaurantChanged(Restaurant restaurant) {
+        var address = restaurant.getAddress();
+        return new RestaurantChangedEvent(
+                restaurant.getId().id(),
+                restaurant.getName(),
+                address == null ? null : new RestaurantChangedEvent.Address(
+                        address.street(),
+                        address.houseNumber(),
+                        address.busNumber(),
+                        address.postalCode(),
+                        address.city(),
+                        address.country()
+                ),
+                restaurant.getCuisineType(),
+                restaurant.getPriceIndicator(),
+                restaurant.getCatalogVersion()
+        );
+    }
+
+    public static DishChangedEvent toDishChanged(Restaurant restaurant, DishId dishId) {
+        DishChangedEvent.Dish dish = restaurant.getMenu().getDishes().stream()
+                .filter(d -> d.getId().equals(dishId))
+                .findFirst()
+                .map(CatalogEventMapper::toDish)
+                .orElse(null);
+
+        return new DishChangedEvent(
+                restaurant.getId().id(),
+                dishId.id(),
+                dish == null,
+                dish,
+                restaurant.getPriceIndicator(),
+                restaurant.getCatalogVersion()
+        );
+    }
+
+    public static MenuChangedEvent toMenuChanged(Restaurant restaurant) {
+        return new MenuChangedEvent(
+                restaurant.getId().id(),
+                restaurant.getMenu().getDishes().stream().map(CatalogEventMapper::toDish).toList(),
+                restaurant.getPriceIndicator(),
+                restaurant.getCatalogVersion()
+        );
+    }
+
+    public static OpeningHoursChangedEvent toOpeningHoursChanged(Restaurant restaurant) {
+        List<OpeningHoursChangedEvent.OpeningDay> days = restaurant.getOpeningHours() == null
+                ? List.of()
+                : restaurant.getOpeningHours().days().stream()
+                .map(day -> new OpeningHoursChangedEvent.OpeningDay(
+                        day.day(),
+                        day.periods().stream()
+                                .map(p -> new OpeningHoursChangedEvent.OpeningPeriod(p.openTime(), p.closeTime()))
+                                .toList()
+                ))
+                .toList();
+
+        return new OpeningHoursChangedEvent(restaurant.getId().id(), days, restaurant.getCatalogVersion());
+    }
+
+    public static OpeningOverrideChangedEvent toOpeningOverrideChanged(Restaurant restaurant) {
+        return new OpeningOverrideChangedEvent(
+                restaurant.getId().id(),
+                restaurant.getManualOverrideOpen(),
+                restaurant.getOverrideUntil(),
+                restaurant.getCatalogVersion()
+        );
+    }
+
+    private static DishChangedEvent.Dish toDish(Dish dish) {
+        return new DishChangedEvent.Dish(
+                dish.getId().id(),
+                dish.getName(),
+                dish.getDescription(),
+                dish.getPrice(),
+                dish.isVegetarian(),
+                dish.isVegan(),
+                dish.isGlutenFree(),
+                dish.getCategory().name(),
+                dish.getStatus().name()
+        );
+    }
+}
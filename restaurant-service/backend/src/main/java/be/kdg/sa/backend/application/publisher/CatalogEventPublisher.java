@@ -0,0 +1,15 @@
+package be.kdg.sa.backend.application.publisher;
+
+import be.kdg.sa.backend.events.*;
+
+public interface CatalogEventPublisher {
+    void publishDishChanged(DishChangedEvent event);
+
+    void publishMenuChanged(MenuChangedEvent event);
+
+    void publishOpeningHoursChanged(OpeningHoursChangedEvent event);
+
+    void publishOpeningOverrideChanged(OpeningOverrideChangedEvent event);
+
+    void publishRestaurantChanged(RestaurantChangedEvent event);
+}
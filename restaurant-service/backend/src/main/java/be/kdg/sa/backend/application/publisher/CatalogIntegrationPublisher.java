@@ -0,0 +1,65 @@
+package be.kdg.sa.backend.application.publisher;
+
+import be.kdg.sa.backend.application.events.*;
+import be.kdg.sa.backend.domain.restaurant.Restaurant;
+import be.kdg.sa.backend.domain.restaurant.RestaurantId;
+import be.kdg.sa.backend.domain.restaurant.dish.DishId;
+import be.kdg.sa.backend.infrastructure.db.repositories.restaurantRepository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CatalogIntegrationPublisher {
+
+    private final CatalogEventPublisher catalogPublisher;
+    private final RestaurantRepository restaurantRepository;
+
+    public CatalogIntegrationPublisher(CatalogEventPublisher catalogPublisher, RestaurantRepository restaurantRepository) {
+        this.catalogPublisher = catalogPublisher;
+        this.restaurantRepository = restaurantRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDishChanged(DishChangedDomainEvent evt) {
+        load(evt.restaurantId()).ifPresent(restaurant -> catalogPublisher.publishDishChanged(
+                CatalogEventMapper.toDishChanged(restaurant, new DishId(evt.dishId()))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMenuChanged(MenuChangedDomainEvent evt) {
+        load(evt.restaurantId()).ifPresent(restaurant -> catalogPublisher.publishMenuChanged(
+                CatalogEventMapper.toMenuChanged(restaurant)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOpeningHoursChanged(OpeningHoursChangedDomainEvent evt) {
+        load(evt.restaurantId()).ifPresent(restaurant -> catalogPublisher.publishOpeningHoursChanged(
+                CatalogEventMapper.toOpeningHoursChanged(restaurant)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOpeningOverrideChanged(OpeningOverrideChangedDomainEvent evt) {
+        load(evt.restaurantId()).ifPresent(restaurant -> catalogPublisher.publishOpeningOverrideChanged(
+                CatalogEventMapper.toOpeningOverrideChanged(restaurant)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedDomainEvent evt) {
+        load(evt.restaurantId()).ifPresent(restaurant -> catalogPublisher.publishRestaurantChanged(
+                CatalogEventMapper.toRestaurantChanged(restaurant)));
+    }
+
+    private Optional<Restaurant> load(UUID restaurantId) {
+        Optional<Restaurant> restaurant = restaurantRepository.findById(new RestaurantId(restaurantId));
+        if (restaurant.isEmpty()) {
+            log.warn("Restaurant {} disappeared before its catalog event could be published", restaurantId);
+        }
+        return restaurant;
+    }
+}
@@ -5,7 +5,10 @@ import be.kdg.sa.backend.api.dto.openingHours.CreateOpeningHoursDto;
 import be.kdg.sa.backend.api.dto.owner.OwnerOverviewDto;
 import be.kdg.sa.backend.api.dto.restaurant.DishSummaryDto;
 import be.kdg.sa.backend.api.dto.restaurant.RestaurantOverviewDto;
+import be.kdg.sa.backend.api.dto.restaurant.CatalogSnapshotDto;
+import be.kdg.sa.backend.application.events.*;
 import be.kdg.sa.backend.domain.Address;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.NotFoundException;
 import be.kdg.sa.backend.domain.owner.OwnerId;
 import be.kdg.sa.backend.domain.restaurant.Restaurant;
@@ -19,6 +22,7 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -32,9 +36,11 @@ import java.util.UUID;
 public class RestaurantService {
 
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher publisher;
 
-    public RestaurantService(RestaurantRepository restaurantRepository) {
+    public RestaurantService(RestaurantRepository restaurantRepository, ApplicationEventPublisher publisher) {
         this.restaurantRepository = restaurantRepository;
+        this.publisher = publisher;
     }
 
     public Restaurant getById(RestaurantId id) {
@@ -82,6 +88,8 @@ public class RestaurantService {
         }
 
         restaurantRepository.save(restaurant);
+        publishRestaurantChanged(restaurant);
+        publisher.publishEvent(new OpeningHoursChangedDomainEvent(restaurant.getId().id()));
         return restaurant;
     }
 
@@ -92,12 +100,13 @@ public class RestaurantService {
 
     public Dish addDish(RestaurantId restaurantId,
                         @NotBlank(message = "Name is required") String name,
-                        String description, double price, boolean vegetarian, boolean vegan,
+                        String description, Money price, boolean vegetarian, boolean vegan,
                         boolean glutenFree, @NotNull(message = "Category is required") DishCategory category,
                         @NotNull(message = "Status is required") DishStatus status) {
         Restaurant restaurant = getById(restaurantId);
         Dish dish = restaurant.addDish(name, description, price, vegetarian, vegan, glutenFree, category, status);
         restaurantRepository.save(restaurant);
+        publishDishChanged(restaurant, dish.getId());
         return dish;
     }
 
@@ -110,6 +119,7 @@ public class RestaurantService {
 
         dish.scheduleOrApplyUpdate(dto);
         restaurantRepository.save(restaurant);
+        publishDishChanged(restaurant, dishId);
         return dish;
     }
 
@@ -118,6 +128,7 @@ public class RestaurantService {
         DishStatus dishStatus = DishStatus.valueOf(status);
         Dish updatedDish = restaurant.changeDishStatus(dishId, dishStatus);
         restaurantRepository.save(restaurant);
+        publishDishChanged(restaurant, dishId);
         return updatedDish;
     }
 
@@ -125,24 +136,28 @@ public class RestaurantService {
         Restaurant restaurant = getById(restaurantId);
         restaurant.removeDish(dishId);
         restaurantRepository.save(restaurant);
+        publishDishChanged(restaurant, dishId);
     }
 
     public void publishAllDishes(RestaurantId restaurantId) {
         Restaurant restaurant = getById(restaurantId);
         restaurant.publishAllConceptDishes();
         restaurantRepository.save(restaurant);
+        publisher.publishEvent(new MenuChangedDomainEvent(restaurant.getId().id()));
     }
 
     public void overrideOpeningHours(RestaurantId restaurantId, boolean open, LocalDateTime until) {
         Restaurant restaurant = getById(restaurantId);
         restaurant.overrideOpeningManually(open, until);
         restaurantRepository.save(restaurant);
+        publisher.publishEvent(new OpeningOverrideChangedDomainEvent(restaurant.getId().id()));
     }
 
     public void clearOverride(RestaurantId restaurantId) {
         Restaurant restaurant = getById(restaurantId);
         restaurant.overrideOpeningManually(false, null);
         restaurantRepository.save(restaurant);
+        publisher.publishEvent(new OpeningOverrideChangedDomainEvent(restaurant.getId().id()));
     }
 
     public void updateOpeningHours(RestaurantId id, CreateOpeningHoursDto dto) {
@@ -159,18 +174,19 @@ public class RestaurantService {
         );
         restaurant.updateOpeningHours(openingHours);
         restaurantRepository.save(restaurant);
+        publisher.publishEvent(new OpeningHoursChangedDomainEvent(restaurant.getId().id()));
     }
 
     public void applyScheduledDishChanges() {
         restaurantRepository.findAll().forEach(restaurant -> {
-            boolean changed = restaurant.getMenu().getDishes().stream()
+            List<Dish> changed = restaurant.getMenu().getDishes().stream()
                     .filter(Dish::isUpdateReadyToApply)
-                    .peek(Dish::applyPendingChanges)
-                    .findAny()
-                    .isPresent();
+                    .toList();
+            changed.forEach(Dish::applyPendingChanges);
 
-            if (changed) {
+            if (!changed.isEmpty()) {
                 restaurantRepository.save(restaurant);
+                changed.forEach(dish -> publishDishChanged(restaurant, dish.getId()));
             }
         });
     }
@@ -184,6 +200,18 @@ public class RestaurantService {
                 .orElseThrow(() -> new NotFoundException("dish not found: " + dishId));
     }
 
+    public Collection<DishForOrderingDto> getRestaurantDishes(RestaurantId restaurantId, Collection<DishId> dishIds) {
+        return restaurantRepository.findDishesByIds(restaurantId, dishIds).stream()
+                .map(DishForOrderingDto::from)
+                .toList();
+    }
+
+    public Collection<CatalogSnapshotDto> getCatalogSnapshot() {
+        return restaurantRepository.findAll().stream()
+                .map(CatalogSnapshotDto::from)
+                .toList();
+    }
+
     public Collection<Dish> getAllDishesFromRestaurant(RestaurantId id) {
         return restaurantRepository.findAllDishesByRestaurantId(id);
     }
@@ -221,4 +249,12 @@ public class RestaurantService {
 
         return new OwnerOverviewDto(ownerId, restaurantOverviewDto);
     }
+
+    private void publishDishChanged(Restaurant restaurant, DishId dishId) {
+        publisher.publishEvent(new DishChangedDomainEvent(restaurant.getId().id(), dishId.id()));
+    }
+
+    private void publishRestaurantChanged(Restaurant restaurant) {
+        publisher.publishEvent(new RestaurantChangedDomainEvent(restaurant.getId().id()));
+    }
 }
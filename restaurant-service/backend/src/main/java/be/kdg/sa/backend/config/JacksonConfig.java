@@ -0,0 +1,14 @@
+package be.kdg.sa.backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+    // picked up by Spring Boot's ObjectMapper, which MVC and the RabbitMQ converters share
+    @Bean
+    Module moneyJsonModule() {
+        return new MoneyJsonModule();
+    }
+}
@@ -1,23 +1,48 @@
 package be.kdg.sa.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
+@EnableConfigurationProperties(ListenerTuningProperties.class)
 public class RabbitMQConfig {
     @Bean
-    SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+    SimpleRabbitListenerContainerFactory simpleRabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                              Jackson2JsonMessageConverter messageConverter) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
-        factory.setMessageConverter(new Jackson2JsonMessageConverter());
+        factory.setMessageConverter(messageConverter);
         return factory;
     }
 
     @Bean
-    Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    Jackson2JsonMessageConverter jackson2JsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
+    }
+
+    @Bean
+    ContainerCustomizer<SimpleMessageListenerContainer> listenerTuningCustomizer(ListenerTuningProperties properties) {
+        return container -> {
+            String queue = container.getQueueNames()[0];
+            ListenerTuningProperties.Profile profile = properties.forQueue(queue);
+
+            container.setMaxConcurrentConsumers(profile.effectiveMaxConcurrency());
+            container.setConcurrentConsumers(profile.concurrency());
+            container.setPrefetchCount(profile.prefetch());
+            container.setBatchSize(profile.batchSize());
+            if (profile.virtualThreads()) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(queue + "-");
+                executor.setVirtualThreads(true);
+                container.setTaskExecutor(executor);
+            }
+        };
     }
 }
@@ -14,6 +14,12 @@ public class RabbitMQTopology {
     public static final String QUEUE_ORDER_READY = "queue.order.ready";
     public static final String QUEUE_RESTAURANT = "queue.restaurant";
 
+    public static final String CATALOG_DISH_CHANGED = "catalog.dish-changed";
+    public static final String CATALOG_MENU_CHANGED = "catalog.menu-changed";
+    public static final String CATALOG_OPENING_HOURS_CHANGED = "catalog.opening-hours-changed";
+    public static final String CATALOG_OPENING_OVERRIDE_CHANGED = "catalog.opening-override-changed";
+    public static final String CATALOG_RESTAURANT_CHANGED = "catalog.restaurant-changed";
+
     @Bean
     TopicExchange orderExchange() {
         return new TopicExchange(EXCHANGE_ORDER, true, false);
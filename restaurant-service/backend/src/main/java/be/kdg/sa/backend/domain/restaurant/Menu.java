@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.domain.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
 import be.kdg.sa.backend.domain.restaurant.dish.DishId;
 import be.kdg.sa.backend.domain.restaurant.dish.DishStatus;
@@ -112,16 +113,23 @@ public class Menu {
                 .orElseThrow(() -> new NoSuchElementException("Dish not found: " + id));
     }
 
-    public double calculateAveragePrice() {
-        return dishes.stream()
-                .filter(d -> d.getStatus() == DishStatus.AVAILABLE)
-                .mapToDouble(Dish::getPrice)
-                .average()
-                .orElse(0.0);
+    // rounded half-up to whole cents, like Money.of
+    public Money calculateAveragePrice() {
+        long total = 0;
+        int count = 0;
+        for (Dish dish : dishes) {
+            if (dish.getStatus() != DishStatus.AVAILABLE) continue;
+            total = Math.addExact(total, dish.getPrice().cents());
+            count++;
+        }
+        if (count == 0) return Money.ZERO;
+        long average = total / count;
+        long remainder = total % count;
+        if (Math.abs(remainder) * 2 >= count) average += Long.signum(total);
+        return Money.ofCents(average);
     }
 
     public String getPriceIndicator() {
-        double averagePrice = calculateAveragePrice();
-        return PriceTier.from(averagePrice).symbol();
+        return PriceTier.from(calculateAveragePrice()).symbol();
     }
 }
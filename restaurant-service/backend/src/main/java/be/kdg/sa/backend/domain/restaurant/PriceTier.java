@@ -1,5 +1,7 @@
 package be.kdg.sa.backend.domain.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
+
 public enum PriceTier {
     CHEAP("€", 10),
     MODERATE("€€", 30),
@@ -14,9 +16,9 @@ public enum PriceTier {
         this.maxPrice = maxPrice;
     }
 
-    public static PriceTier from(double price) {
+    public static PriceTier from(Money price) {
         for (PriceTier tier : values()) {
-            if (price <= tier.maxPrice) return tier;
+            if (price.cents() <= tier.maxPrice * 100L) return tier;
         }
         return LUXURY;
     }
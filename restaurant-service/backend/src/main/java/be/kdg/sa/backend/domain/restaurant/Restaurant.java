@@ -1,6 +1,7 @@
 package be.kdg.sa.backend.domain.restaurant;
 
 import be.kdg.sa.backend.domain.Address;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.owner.OwnerId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
 import be.kdg.sa.backend.domain.restaurant.dish.DishCategory;
@@ -36,6 +37,8 @@ public class Restaurant {
 
     private final OwnerId ownerId;
 
+    private long catalogVersion;
+
     private Restaurant(RestaurantId id, String name, Address address, String phoneNumber, String email,
                        String cuisineType, Menu menu, OwnerId ownerId) {
         this.id = id;
@@ -59,15 +62,23 @@ public class Restaurant {
         return new Restaurant(id, name, address, phoneNumber, email, cuisineType, menu, ownerId);
     }
 
+    public static Restaurant reconstruct(RestaurantId id, String name, Address address, String phoneNumber,
+                                         String email, String cuisineType, Menu menu, OwnerId ownerId,
+                                         long catalogVersion) {
+        Restaurant restaurant = new Restaurant(id, name, address, phoneNumber, email, cuisineType, menu, ownerId);
+        restaurant.catalogVersion = catalogVersion;
+        return restaurant;
+    }
+
 
-    public Dish addDish(String name, String description, double price, boolean vegetarian, boolean vegan,
+    public Dish addDish(String name, String description, Money price, boolean vegetarian, boolean vegan,
                         boolean glutenFree, DishCategory category, DishStatus status) {
         Dish dish = new Dish(DishId.create(), name, description, price, vegetarian, vegan, glutenFree, category, status);
         menu.addDish(dish);
         return dish;
     }
 
-    public Dish changeDish(DishId dishId, String name, String description, double price,
+    public Dish changeDish(DishId dishId, String name, String description, Money price,
                            boolean vegetarian, boolean vegan, boolean glutenFree,
                            DishCategory category, DishStatus newStatus) {
         Dish existingDish = getDish(dishId);
@@ -142,7 +153,7 @@ public class Restaurant {
         return menu.getNonConceptDishes();
     }
 
-    public double getAveragePrice() {
+    public Money getAveragePrice() {
         return menu.calculateAveragePrice();
     }
 
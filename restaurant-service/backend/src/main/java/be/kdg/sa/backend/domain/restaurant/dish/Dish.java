@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.domain.restaurant.dish;
 
+import be.kdg.sa.backend.domain.Money;
 import lombok.Getter;
 import org.jmolecules.ddd.annotation.Entity;
 import org.jmolecules.ddd.annotation.Identity;
@@ -13,7 +14,7 @@ public class Dish {
     private final DishId id;
     private String name;
     private String description;
-    private double price;
+    private Money price;
     private boolean vegetarian;
     private boolean vegan;
     private boolean glutenFree;
@@ -21,7 +22,7 @@ public class Dish {
     private DishStatus status;
     private DishPendingUpdate pendingUpdate;
 
-    public Dish(DishId id, String name, String description, double price,
+    public Dish(DishId id, String name, String description, Money price,
                 boolean vegetarian, boolean vegan, boolean glutenFree,
                 DishCategory category, DishStatus status) {
         this.id = id;
@@ -43,7 +44,7 @@ public class Dish {
         this.description = newDescription;
     }
 
-    public void changePrice(double newPrice) {
+    public void changePrice(Money newPrice) {
         this.price = newPrice;
     }
 
@@ -78,7 +79,7 @@ public class Dish {
         this.status = newStatus;
     }
 
-    public void updateDetails(String name, String description, double price, boolean vegetarian, boolean vegan, boolean glutenFree, DishCategory category, DishStatus newStatus) {
+    public void updateDetails(String name, String description, Money price, boolean vegetarian, boolean vegan, boolean glutenFree, DishCategory category, DishStatus newStatus) {
         this.name = name;
         this.description = description;
         this.price = price;
@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.domain.restaurant.dish;
 
+import be.kdg.sa.backend.domain.Money;
 import org.jmolecules.ddd.annotation.ValueObject;
 
 import java.time.LocalDateTime;
@@ -8,7 +9,7 @@ import java.time.LocalDateTime;
 public record DishPendingUpdate(
         String name,
         String description,
-        Double price,
+        Money price,
         Boolean vegetarian,
         Boolean vegan,
         Boolean glutenFree,
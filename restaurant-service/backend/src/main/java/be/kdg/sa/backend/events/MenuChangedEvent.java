@@ -0,0 +1,7 @@
+package be.kdg.sa.backend.events;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MenuChangedEvent(UUID restaurantId, List<DishChangedEvent.Dish> dishes, String priceIndicator, long version) {
+}
@@ -0,0 +1,14 @@
+package be.kdg.sa.backend.events;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+public record OpeningHoursChangedEvent(UUID restaurantId, List<OpeningDay> days, long version) {
+    public record OpeningDay(DayOfWeek day, List<OpeningPeriod> periods) {
+    }
+
+    public record OpeningPeriod(LocalTime openTime, LocalTime closeTime) {
+    }
+}
@@ -3,21 +3,34 @@ package be.kdg.sa.backend.handlers;
 import be.kdg.sa.backend.application.services.restaurant.RestaurantOrderService;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.events.OrderCreatedEvent;
+import be.kdg.sa.backend.infrastructure.messaging.inbox.Inbox;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 public class RestaurantMessageHandler {
     private final RestaurantOrderService restaurantOrderService;
+    private final Inbox inbox;
 
-    public RestaurantMessageHandler(RestaurantOrderService restaurantOrderService) {
+    public RestaurantMessageHandler(RestaurantOrderService restaurantOrderService, Inbox inbox) {
         this.restaurantOrderService = restaurantOrderService;
+        this.inbox = inbox;
     }
 
     @RabbitListener(queues = RabbitMQTopology.QUEUE_RESTAURANT)
-    public void handleOrderCreated(OrderCreatedEvent event) {
+    @Transactional
+    public void handleOrderCreated(OrderCreatedEvent event,
+                                   @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        if (!inbox.tryProcess(RabbitMQTopology.QUEUE_RESTAURANT, messageId)) {
+            log.info("Skipping already processed message {} for order {}", messageId, event.orderId());
+            return;
+        }
+
         log.info("[RestaurantService] Received new order: {} for restaurant {}", event.orderId(), event.restaurantId());
         restaurantOrderService.createOrderFromEvent(event);
     }
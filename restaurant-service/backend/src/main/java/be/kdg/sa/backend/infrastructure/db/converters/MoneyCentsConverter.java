@@ -0,0 +1,19 @@
+package be.kdg.sa.backend.infrastructure.db.converters;
+
+import be.kdg.sa.backend.domain.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class MoneyCentsConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money attribute) {
+        return attribute != null ? attribute.cents() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long dbData) {
+        return dbData != null ? Money.ofCents(dbData) : null;
+    }
+}
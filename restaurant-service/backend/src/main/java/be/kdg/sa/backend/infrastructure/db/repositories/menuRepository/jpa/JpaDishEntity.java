@@ -1,6 +1,8 @@
 package be.kdg.sa.backend.infrastructure.db.repositories.menuRepository.jpa;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.dish.*;
+import be.kdg.sa.backend.infrastructure.db.converters.MoneyCentsConverter;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -37,8 +39,9 @@ public class JpaDishEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
-    private double price;
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "price_cents", nullable = false)
+    private Money price;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, columnDefinition = "varchar(20)")
@@ -56,8 +59,9 @@ public class JpaDishEntity {
     @Column(name = "pending_description", columnDefinition = "TEXT")
     private String pendingDescription;
 
-    @Column(name = "pending_price")
-    private Double pendingPrice;
+    @Convert(converter = MoneyCentsConverter.class)
+    @Column(name = "pending_price_cents")
+    private Money pendingPrice;
 
     @Column(name = "pending_vegetarian")
     private Boolean pendingVegetarian;
@@ -82,7 +86,7 @@ public class JpaDishEntity {
     protected JpaDishEntity() {
     }
 
-    public JpaDishEntity(UUID id, String name, String description, double price,
+    public JpaDishEntity(UUID id, String name, String description, Money price,
                          boolean vegetarian, boolean vegan, boolean glutenFree,
                          DishCategory category, DishStatus status) {
         this.id = id;
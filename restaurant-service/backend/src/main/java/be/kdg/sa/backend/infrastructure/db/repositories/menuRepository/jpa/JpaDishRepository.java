@@ -0,0 +1,16 @@
+package be.kdg.sa.backend.infrastructure.db.repositories.menuRepository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaDishRepository extends JpaRepository<JpaDishEntity, UUID> {
+
+    @Query("select d from JpaDishEntity d where d.menu.restaurant.id = :restaurantId and d.id in :ids")
+    List<JpaDishEntity> findAllByRestaurantIdAndIdIn(@Param("restaurantId") UUID restaurantId,
+                                                     @Param("ids") Collection<UUID> ids);
+}
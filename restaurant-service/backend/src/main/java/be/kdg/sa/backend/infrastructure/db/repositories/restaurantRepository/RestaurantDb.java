@@ -5,13 +5,16 @@ import be.kdg.sa.backend.domain.owner.OwnerId;
 import be.kdg.sa.backend.domain.restaurant.Restaurant;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
+import be.kdg.sa.backend.domain.restaurant.dish.DishId;
 import be.kdg.sa.backend.infrastructure.db.repositories.menuRepository.jpa.JpaDishEntity;
+import be.kdg.sa.backend.infrastructure.db.repositories.menuRepository.jpa.JpaDishRepository;
 import be.kdg.sa.backend.infrastructure.db.repositories.menuRepository.jpa.JpaMenuEntity;
 import be.kdg.sa.backend.infrastructure.db.repositories.restaurantRepository.jpa.JpaRestaurantEntity;
 import be.kdg.sa.backend.infrastructure.db.repositories.restaurantRepository.jpa.JpaRestaurantRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,9 +23,11 @@ import java.util.stream.Collectors;
 public class RestaurantDb implements RestaurantRepository {
 
     private final JpaRestaurantRepository jpaRestaurantRepository;
+    private final JpaDishRepository jpaDishRepository;
 
-    public RestaurantDb(JpaRestaurantRepository jpaRestaurantRepository) {
+    public RestaurantDb(JpaRestaurantRepository jpaRestaurantRepository, JpaDishRepository jpaDishRepository) {
         this.jpaRestaurantRepository = jpaRestaurantRepository;
+        this.jpaDishRepository = jpaDishRepository;
     }
 
     @Override
@@ -42,7 +47,10 @@ public class RestaurantDb implements RestaurantRepository {
         JpaRestaurantEntity entity = jpaRestaurantRepository.findById(restaurant.getId().id())
                 .orElseGet(() -> JpaRestaurantEntity.fromDomain(restaurant));
         entity.updateFromDomain(restaurant);
-        jpaRestaurantRepository.save(entity);
+        JpaRestaurantEntity saved = jpaRestaurantRepository.save(entity);
+
+        jpaRestaurantRepository.incrementCatalogVersion(saved.getId());
+        saved.catalogVersion(jpaRestaurantRepository.findCatalogVersion(saved.getId()));
     }
 
     @Override
@@ -63,6 +71,16 @@ public class RestaurantDb implements RestaurantRepository {
                 .orElseThrow(() -> new NotFoundException("restaurant not found: " + id));
     }
 
+    @Override
+    public Collection<Dish> findDishesByIds(RestaurantId id, Collection<DishId> dishIds) {
+        if (dishIds.isEmpty()) return List.of();
+
+        List<UUID> ids = dishIds.stream().map(DishId::id).distinct().toList();
+        return jpaDishRepository.findAllByRestaurantIdAndIdIn(id.id(), ids).stream()
+                .map(JpaDishEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsByOwnerId(OwnerId ownerId) {
         return jpaRestaurantRepository.existsByOwnerId(ownerId.id());
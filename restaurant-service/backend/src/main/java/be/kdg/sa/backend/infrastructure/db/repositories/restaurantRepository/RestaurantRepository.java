@@ -4,6 +4,7 @@ import be.kdg.sa.backend.domain.owner.OwnerId;
 import be.kdg.sa.backend.domain.restaurant.Restaurant;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
+import be.kdg.sa.backend.domain.restaurant.dish.DishId;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -20,5 +21,7 @@ public interface RestaurantRepository {
 
     Collection<Dish> findAllDishesByRestaurantId(RestaurantId id);
 
+    Collection<Dish> findDishesByIds(RestaurantId id, Collection<DishId> dishIds);
+
     boolean existsByOwnerId(OwnerId ownerId);
 }
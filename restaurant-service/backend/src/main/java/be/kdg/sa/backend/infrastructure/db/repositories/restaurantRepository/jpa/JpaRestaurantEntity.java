@@ -54,6 +54,12 @@ public class JpaRestaurantEntity {
     @OneToOne(mappedBy = "restaurant", cascade = CascadeType.ALL, orphanRemoval = true)
     private JpaMenuEntity menu;
 
+    // only ever bumped by JpaRestaurantRepository.incrementCatalogVersion; read-only here so copying the bumped value
+    // back into a managed entity does not make it dirty
+    @Column(name = "catalog_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private long catalogVersion;
+
     protected JpaRestaurantEntity() {
     }
 
@@ -103,7 +109,8 @@ public class JpaRestaurantEntity {
                 email,
                 cuisineType,
                 menuDomain,
-                new OwnerId(ownerId)
+                new OwnerId(ownerId),
+                catalogVersion
         );
 
         restaurant.updateOpeningHours(openingHours);
@@ -114,6 +121,10 @@ public class JpaRestaurantEntity {
         return restaurant;
     }
 
+    public void catalogVersion(long catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
     public void updateFromDomain(Restaurant restaurant) {
         if (restaurant == null) return;
 
@@ -2,6 +2,9 @@ package be.kdg.sa.backend.infrastructure.db.repositories.restaurantRepository.jp
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +18,12 @@ public interface JpaRestaurantRepository extends JpaRepository<JpaRestaurantEnti
 
     @EntityGraph(attributePaths = {"address", "menu", "menu.dishes"})
     Optional<JpaRestaurantEntity> findByOwnerId(UUID ownerId);
+
+    // the row lock taken here is held until commit, so catalog versions follow commit order per restaurant
+    @Modifying
+    @Query("update JpaRestaurantEntity r set r.catalogVersion = r.catalogVersion + 1 where r.id = :id")
+    int incrementCatalogVersion(@Param("id") UUID id);
+
+    @Query("select r.catalogVersion from JpaRestaurantEntity r where r.id = :id")
+    long findCatalogVersion(@Param("id") UUID id);
 }
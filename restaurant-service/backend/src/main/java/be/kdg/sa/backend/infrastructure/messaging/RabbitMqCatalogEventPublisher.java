@@ -0,0 +1,47 @@
+package be.kdg.sa.backend.infrastructure.messaging;
+
+import be.kdg.sa.backend.application.publisher.CatalogEventPublisher;
+import be.kdg.sa.backend.config.RabbitMQTopology;
+import be.kdg.sa.backend.events.*;
+import be.kdg.sa.backend.infrastructure.messaging.outbox.OutboxWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class RabbitMqCatalogEventPublisher implements CatalogEventPublisher {
+    private final OutboxWriter outbox;
+
+    public RabbitMqCatalogEventPublisher(OutboxWriter outbox) {
+        this.outbox = outbox;
+    }
+
+    @Override
+    public void publishDishChanged(DishChangedEvent event) {
+        send(RabbitMQTopology.CATALOG_DISH_CHANGED, event.restaurantId(), event);
+    }
+
+    @Override
+    public void publishMenuChanged(MenuChangedEvent event) {
+        send(RabbitMQTopology.CATALOG_MENU_CHANGED, event.restaurantId(), event);
+    }
+
+    @Override
+    public void publishOpeningHoursChanged(OpeningHoursChangedEvent event) {
+        send(RabbitMQTopology.CATALOG_OPENING_HOURS_CHANGED, event.restaurantId(), event);
+    }
+
+    @Override
+    public void publishOpeningOverrideChanged(OpeningOverrideChangedEvent event) {
+        send(RabbitMQTopology.CATALOG_OPENING_OVERRIDE_CHANGED, event.restaurantId(), event);
+    }
+
+    @Override
+    public void publishRestaurantChanged(RestaurantChangedEvent event) {
+        send(RabbitMQTopology.CATALOG_RESTAURANT_CHANGED, event.restaurantId(), event);
+    }
+
+    private void send(String routingKey, UUID restaurantId, Object event) {
+        outbox.append(RabbitMQTopology.EXCHANGE_RESTAURANT, routingKey, restaurantId.toString(), event);
+    }
+}
@@ -4,44 +4,24 @@ import be.kdg.sa.backend.application.publisher.OrderEventPublisher;
 import be.kdg.sa.backend.config.RabbitMQTopology;
 import be.kdg.sa.backend.events.OrderDecisionEvent;
 import be.kdg.sa.backend.events.OrderReadyPublishedEvent;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import be.kdg.sa.backend.infrastructure.messaging.outbox.OutboxWriter;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class RabbitMqOrderEventPublisher implements OrderEventPublisher {
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxWriter outbox;
 
-    public RabbitMqOrderEventPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public RabbitMqOrderEventPublisher(OutboxWriter outbox) {
+        this.outbox = outbox;
     }
 
     @Override
     public void publishOrderDecision(OrderDecisionEvent event) {
-        rabbitTemplate.convertAndSend(
-                RabbitMQTopology.EXCHANGE_ORDER,
-                "order.decision",
-                event,
-                msg -> {
-                    msg.getMessageProperties().setMessageId(UUID.randomUUID().toString());
-                    msg.getMessageProperties().setCorrelationId(event.orderId().toString());
-                    return msg;
-                }
-        );
+        outbox.append(RabbitMQTopology.EXCHANGE_ORDER, "order.decision", event.orderId().toString(), event);
     }
 
     @Override
     public void publishOrderReady(OrderReadyPublishedEvent event) {
-        rabbitTemplate.convertAndSend(
-                RabbitMQTopology.EXCHANGE_ORDER,
-                "order.ready",
-                event,
-                msg -> {
-                    msg.getMessageProperties().setMessageId(UUID.randomUUID().toString());
-                    msg.getMessageProperties().setCorrelationId(event.orderId().toString());
-                    return msg;
-                }
-        );
+        outbox.append(RabbitMQTopology.EXCHANGE_ORDER, "order.ready", event.orderId().toString(), event);
     }
 }
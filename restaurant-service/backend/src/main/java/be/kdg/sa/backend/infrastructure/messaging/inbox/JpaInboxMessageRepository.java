@@ -0,0 +1,24 @@
+package be.kdg.sa.backend.infrastructure.messaging.inbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface JpaInboxMessageRepository extends JpaRepository<JpaInboxMessageEntity, JpaInboxMessageId> {
+    @Modifying
+    @Query(value = """
+                    insert into inbox_messages (consumer, message_id, processed_at)
+                    values (:consumer, :messageId, :processedAt)
+                    on conflict do nothing
+            """, nativeQuery = true)
+    int insertIfAbsent(String consumer, String messageId, Instant processedAt);
+
+    @Modifying
+    @Query(value = """
+                    delete from JpaInboxMessageEntity m
+                    where m.processedAt < :cutoff
+            """)
+    int deleteProcessedBefore(Instant cutoff);
+}
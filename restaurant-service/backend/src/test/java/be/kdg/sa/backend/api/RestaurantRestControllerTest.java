@@ -11,6 +11,7 @@ import be.kdg.sa.backend.api.dto.restaurant.OverrideOpeningDto;
 import be.kdg.sa.backend.application.services.restaurant.RestaurantOrderService;
 import be.kdg.sa.backend.application.services.restaurant.RestaurantService;
 import be.kdg.sa.backend.domain.Address;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.Restaurant;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
@@ -29,6 +30,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -153,7 +155,7 @@ class RestaurantRestControllerTest {
                 any(RestaurantId.class),
                 anyString(),
                 anyString(),
-                anyDouble(),
+                any(Money.class),
                 anyBoolean(),
                 anyBoolean(),
                 anyBoolean(),
@@ -164,7 +166,7 @@ class RestaurantRestControllerTest {
         var createDishDto = new CreateDishDto(
                 "Pasta",
                 "Nice",
-                10.5,
+                new BigDecimal("10.50"),
                 false,
                 false,
                 false,
@@ -196,7 +198,7 @@ class RestaurantRestControllerTest {
         var updateDto = new UpdateDishDto(
                 "Pasta Updated",
                 "Better",
-                11.0,
+                new BigDecimal("11.00"),
                 false,
                 false,
                 false,
@@ -292,7 +294,7 @@ class RestaurantRestControllerTest {
         UUID rid = UUID.randomUUID();
         UUID dishId = UUID.randomUUID();
 
-        var dishForOrdering = new DishForOrderingDto(dishId, "Soup", "Good", 5.0, false, false, false, "STARTER", "AVAILABLE");
+        var dishForOrdering = new DishForOrderingDto(dishId, "Soup", "Good", Money.ofCents(500), false, false, false, "STARTER", "AVAILABLE");
         given(restaurantService.getRestaurantDishes(any(RestaurantId.class), any(DishId.class))).willReturn(dishForOrdering);
 
         mockMvc.perform(get("/api/restaurants/{id}/dishes/{dishId}", rid, dishId))
@@ -301,6 +303,25 @@ class RestaurantRestControllerTest {
                 .andExpect(jsonPath("$.name").value("Soup"));
     }
 
+    @Test
+    void lookupDishes_returnsOk() throws Exception {
+        UUID rid = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        given(restaurantService.getRestaurantDishes(any(RestaurantId.class), anyCollection())).willReturn(List.of(
+                new DishForOrderingDto(first, "Soup", "Good", Money.ofCents(500), false, false, false, "STARTER", "AVAILABLE"),
+                new DishForOrderingDto(second, "Pasta", "Good", Money.ofCents(1200), false, false, false, "MAIN", "AVAILABLE")
+        ));
+
+        mockMvc.perform(get("/api/restaurants/{id}/dishes/lookup", rid)
+                        .param("ids", first.toString(), second.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(first.toString()))
+                .andExpect(jsonPath("$[1].name").value("Pasta"));
+    }
+
     @Test
     void getDishes_returnsOk_and_emptyByDefault() throws Exception {
         UUID rid = UUID.randomUUID();
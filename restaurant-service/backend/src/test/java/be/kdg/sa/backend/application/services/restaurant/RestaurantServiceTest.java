@@ -4,13 +4,18 @@ import be.kdg.sa.backend.api.dto.dish.DishForOrderingDto;
 import be.kdg.sa.backend.api.dto.openingHours.CreateOpeningDayDto;
 import be.kdg.sa.backend.api.dto.openingHours.CreateOpeningHoursDto;
 import be.kdg.sa.backend.api.dto.openingHours.CreateOpeningPeriodDto;
+import be.kdg.sa.backend.api.dto.restaurant.CatalogSnapshotDto;
+import be.kdg.sa.backend.application.events.DishChangedDomainEvent;
+import be.kdg.sa.backend.application.events.OpeningOverrideChangedDomainEvent;
 import be.kdg.sa.backend.domain.Address;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.NotFoundException;
 import be.kdg.sa.backend.domain.owner.OwnerId;
 import be.kdg.sa.backend.domain.restaurant.Restaurant;
 import be.kdg.sa.backend.domain.restaurant.RestaurantId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
 import be.kdg.sa.backend.domain.restaurant.dish.DishCategory;
+import be.kdg.sa.backend.domain.restaurant.dish.DishId;
 import be.kdg.sa.backend.domain.restaurant.dish.DishPendingUpdate;
 import be.kdg.sa.backend.domain.restaurant.dish.DishStatus;
 import be.kdg.sa.backend.infrastructure.db.repositories.restaurantRepository.RestaurantDb;
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
@@ -31,7 +37,9 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +49,9 @@ class RestaurantServiceTest {
     @Mock
     private RestaurantDb restaurantRepository;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private RestaurantService sut;
 
@@ -84,25 +95,33 @@ class RestaurantServiceTest {
     @Test
     void addDish_addsDishAndSaves() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
-        Dish dish = sut.addDish(restaurantId, "Pasta", "Tasty", 10, true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        Dish dish = sut.addDish(restaurantId, "Pasta", "Tasty", Money.ofCents(1000), true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         assertThat(dish.getName()).isEqualTo("Pasta");
         verify(restaurantRepository).save(restaurant);
     }
 
+    @Test
+    void addDish_publishesDishChanged() {
+        given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
+        Dish dish = sut.addDish(restaurantId, "Pasta", "Tasty", Money.ofCents(1000), true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+
+        verify(publisher).publishEvent(new DishChangedDomainEvent(restaurant.getId().id(), dish.getId().id()));
+    }
+
     @Test
     void addDish_throwsIfRestaurantNotFound() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.empty());
         assertThrows(NotFoundException.class,
-                () -> sut.addDish(restaurantId, "Pasta", "Desc", 10, true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE));
+                () -> sut.addDish(restaurantId, "Pasta", "Desc", Money.ofCents(1000), true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE));
     }
 
     @Test
     void updateDish_appliesPendingUpdate() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
-        Dish dish = restaurant.addDish("OldName", "OldDesc", 5, true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        Dish dish = restaurant.addDish("OldName", "OldDesc", Money.ofCents(500), true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
-        DishPendingUpdate dto = new DishPendingUpdate("NewName", "NewDesc", 7.5, null, null, null, null, null, LocalDateTime.now());
+        DishPendingUpdate dto = new DishPendingUpdate("NewName", "NewDesc", Money.ofCents(750), null, null, null, null, null, LocalDateTime.now());
         Dish updated = sut.updateDish(restaurantId, dish.getId(), dto);
 
         assertThat(updated.getName()).isEqualTo("NewName");
@@ -134,7 +153,7 @@ class RestaurantServiceTest {
     @Test
     void updateDishStatus_updatesStatus() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
-        Dish dish = restaurant.addDish("Pasta", "desc", 10, false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        Dish dish = restaurant.addDish("Pasta", "desc", Money.ofCents(1000), false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         Dish updated = sut.updateDishStatus(restaurantId, dish.getId(), "CONCEPT");
 
@@ -145,7 +164,7 @@ class RestaurantServiceTest {
     @Test
     void removeDish_removesDish() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
-        Dish dish = restaurant.addDish("Pizza", "desc", 10, false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        Dish dish = restaurant.addDish("Pizza", "desc", Money.ofCents(1000), false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         sut.removeDish(restaurantId, dish.getId());
         assertThat(restaurant.getNonConceptDishes()).doesNotContain(dish);
@@ -169,6 +188,28 @@ class RestaurantServiceTest {
         verify(restaurantRepository, times(2)).save(restaurant);
     }
 
+    @Test
+    void overrideOpeningHours_publishesOpeningOverrideChanged() {
+        given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
+        sut.overrideOpeningHours(restaurantId, false, null);
+
+        verify(publisher).publishEvent(new OpeningOverrideChangedDomainEvent(restaurant.getId().id()));
+    }
+
+    @Test
+    void getCatalogSnapshot_containsMenuAndOverride() {
+        Dish dish = restaurant.addDish("Pasta", "desc", Money.ofCents(1000), false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        restaurant.overrideOpeningManually(true, null);
+        given(restaurantRepository.findAll()).willReturn(List.of(restaurant));
+
+        CatalogSnapshotDto snapshot = sut.getCatalogSnapshot().iterator().next();
+
+        assertThat(snapshot.restaurant().restaurantId()).isEqualTo(restaurant.getId().id());
+        assertThat(snapshot.menu().dishes()).extracting(d -> d.id()).containsExactly(dish.getId().id());
+        assertThat(snapshot.openingOverride().open()).isTrue();
+        assertThat(snapshot.openingHours().days()).isEmpty();
+    }
+
     @Test
     void updateOpeningHours_updates() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
@@ -183,12 +224,25 @@ class RestaurantServiceTest {
     @Test
     void getRestaurantDishes_returnsDto() {
         given(restaurantRepository.findById(restaurantId)).willReturn(Optional.of(restaurant));
-        Dish dish = restaurant.addDish("Pasta", "desc", 10, false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        Dish dish = restaurant.addDish("Pasta", "desc", Money.ofCents(1000), false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         DishForOrderingDto dto = sut.getRestaurantDishes(restaurantId, dish.getId());
         assertThat(dto.name()).isEqualTo("Pasta");
     }
 
+    @Test
+    void getRestaurantDishes_batch_returnsDtosFromSingleLookup() {
+        Dish pasta = restaurant.addDish("Pasta", "desc", Money.ofCents(1000), false, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
+        Dish soup = restaurant.addDish("Soup", "desc", Money.ofCents(500), false, false, false, DishCategory.STARTER, DishStatus.AVAILABLE);
+        List<DishId> ids = List.of(pasta.getId(), soup.getId());
+        given(restaurantRepository.findDishesByIds(restaurantId, ids)).willReturn(List.of(pasta, soup));
+
+        Collection<DishForOrderingDto> dtos = sut.getRestaurantDishes(restaurantId, ids);
+
+        assertThat(dtos).extracting(DishForOrderingDto::name).containsExactly("Pasta", "Soup");
+        verify(restaurantRepository, never()).findById(any());
+    }
+
     @Test
     void getAllDishesFromRestaurant_returnsAllDishes() {
         given(restaurantRepository.findAllDishesByRestaurantId(restaurantId)).willReturn(List.of());
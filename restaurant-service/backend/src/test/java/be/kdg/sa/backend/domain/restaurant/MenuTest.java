@@ -1,5 +1,6 @@
 package be.kdg.sa.backend.domain.restaurant;
 
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
 import be.kdg.sa.backend.domain.restaurant.dish.DishId;
 import be.kdg.sa.backend.domain.restaurant.dish.DishStatus;
@@ -13,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class MenuTest {
 
-    private Dish createRealDish(DishId id, String name, double price, DishStatus status) {
+    private Dish createRealDish(DishId id, String name, Money price, DishStatus status) {
         return new Dish(id, name, "Description", price, false, false, false, null, status);
     }
 
@@ -32,8 +33,8 @@ class MenuTest {
         DishId dishId1 = DishId.create();
         DishId dishId2 = DishId.create();
         List<Dish> dishes = List.of(
-                createRealDish(dishId1, "Pasta", 12.50, DishStatus.AVAILABLE),
-                createRealDish(dishId2, "Pizza", 15.99, DishStatus.CONCEPT)
+                createRealDish(dishId1, "Pasta", Money.ofCents(1250), DishStatus.AVAILABLE),
+                createRealDish(dishId2, "Pizza", Money.ofCents(1599), DishStatus.CONCEPT)
         );
 
         Menu menu = Menu.reconstruct(dishes);
@@ -54,7 +55,7 @@ class MenuTest {
     void shouldAddConceptDish() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish dish = createRealDish(dishId, "Concept Dish", 10.0, DishStatus.CONCEPT);
+        Dish dish = createRealDish(dishId, "Concept Dish", Money.ofCents(1000), DishStatus.CONCEPT);
 
         menu.addDish(dish);
 
@@ -67,7 +68,7 @@ class MenuTest {
     void shouldAddAvailableDishWhenUnderLimit() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish dish = createRealDish(dishId, "Available Dish", 10.0, DishStatus.AVAILABLE);
+        Dish dish = createRealDish(dishId, "Available Dish", Money.ofCents(1000), DishStatus.AVAILABLE);
 
         menu.addDish(dish);
 
@@ -81,12 +82,12 @@ class MenuTest {
 
         for (int i = 0; i < 10; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Dish " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Dish " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         DishId newDishId = DishId.create();
-        Dish newDish = createRealDish(newDishId, "Extra Dish", 20.0, DishStatus.AVAILABLE);
+        Dish newDish = createRealDish(newDishId, "Extra Dish", Money.ofCents(2000), DishStatus.AVAILABLE);
 
         assertThrows(IllegalStateException.class, () -> menu.addDish(newDish));
     }
@@ -97,12 +98,12 @@ class MenuTest {
 
         for (int i = 0; i < 10; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Dish " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Dish " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         DishId conceptDishId = DishId.create();
-        Dish conceptDish = createRealDish(conceptDishId, "Concept Dish", 15.0, DishStatus.CONCEPT);
+        Dish conceptDish = createRealDish(conceptDishId, "Concept Dish", Money.ofCents(1500), DishStatus.CONCEPT);
 
         menu.addDish(conceptDish);
 
@@ -114,8 +115,8 @@ class MenuTest {
     void shouldRemoveExistingDish() {
         DishId dishId1 = DishId.create();
         DishId dishId2 = DishId.create();
-        Dish dish1 = createRealDish(dishId1, "Dish 1", 10.0, DishStatus.AVAILABLE);
-        Dish dish2 = createRealDish(dishId2, "Dish 2", 12.0, DishStatus.CONCEPT);
+        Dish dish1 = createRealDish(dishId1, "Dish 1", Money.ofCents(1000), DishStatus.AVAILABLE);
+        Dish dish2 = createRealDish(dishId2, "Dish 2", Money.ofCents(1200), DishStatus.CONCEPT);
 
         Menu menu = new Menu();
         menu.addDish(dish1);
@@ -130,7 +131,7 @@ class MenuTest {
     void shouldRemoveNonExistingDishWithoutError() {
         Menu menu = new Menu();
         DishId existingDishId = DishId.create();
-        Dish existingDish = createRealDish(existingDishId, "Existing Dish", 10.0, DishStatus.AVAILABLE);
+        Dish existingDish = createRealDish(existingDishId, "Existing Dish", Money.ofCents(1000), DishStatus.AVAILABLE);
         menu.addDish(existingDish);
 
         DishId nonExistingDishId = DishId.create();
@@ -144,7 +145,7 @@ class MenuTest {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
 
-        menu.addDish(createRealDish(dishId, "Dish", 10.0, DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(dishId, "Dish", Money.ofCents(1000), DishStatus.AVAILABLE));
         menu.removeDish(dishId);
 
         assertThat(menu.getDishes()).isEmpty();
@@ -156,9 +157,9 @@ class MenuTest {
         DishId conceptDishId2 = DishId.create();
         DishId availableDishId = DishId.create();
 
-        Dish conceptDish1 = createRealDish(conceptDishId1, "Concept 1", 10.0, DishStatus.CONCEPT);
-        Dish conceptDish2 = createRealDish(conceptDishId2, "Concept 2", 12.0, DishStatus.CONCEPT);
-        Dish availableDish = createRealDish(availableDishId, "Available", 15.0, DishStatus.AVAILABLE);
+        Dish conceptDish1 = createRealDish(conceptDishId1, "Concept 1", Money.ofCents(1000), DishStatus.CONCEPT);
+        Dish conceptDish2 = createRealDish(conceptDishId2, "Concept 2", Money.ofCents(1200), DishStatus.CONCEPT);
+        Dish availableDish = createRealDish(availableDishId, "Available", Money.ofCents(1500), DishStatus.AVAILABLE);
 
         Menu menu = new Menu();
         menu.addDish(conceptDish1);
@@ -178,14 +179,14 @@ class MenuTest {
 
         for (int i = 0; i < 9; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Active " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Active " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         DishId conceptDishId1 = DishId.create();
         DishId conceptDishId2 = DishId.create();
-        Dish conceptDish1 = createRealDish(conceptDishId1, "Concept 1", 10.0, DishStatus.CONCEPT);
-        Dish conceptDish2 = createRealDish(conceptDishId2, "Concept 2", 12.0, DishStatus.CONCEPT);
+        Dish conceptDish1 = createRealDish(conceptDishId1, "Concept 1", Money.ofCents(1000), DishStatus.CONCEPT);
+        Dish conceptDish2 = createRealDish(conceptDishId2, "Concept 2", Money.ofCents(1200), DishStatus.CONCEPT);
         menu.addDish(conceptDish1);
         menu.addDish(conceptDish2);
 
@@ -198,8 +199,8 @@ class MenuTest {
         DishId conceptDishId = DishId.create();
         DishId availableDishId = DishId.create();
 
-        Dish conceptDish = createRealDish(conceptDishId, "Concept", 10.0, DishStatus.CONCEPT);
-        Dish availableDish = createRealDish(availableDishId, "Available", 15.0, DishStatus.AVAILABLE);
+        Dish conceptDish = createRealDish(conceptDishId, "Concept", Money.ofCents(1000), DishStatus.CONCEPT);
+        Dish availableDish = createRealDish(availableDishId, "Available", Money.ofCents(1500), DishStatus.AVAILABLE);
 
         Menu menu = new Menu();
         menu.addDish(conceptDish);
@@ -216,7 +217,7 @@ class MenuTest {
     void shouldThrowWhenPromotingNonExistentDish() {
         Menu menu = new Menu();
         DishId existingDishId = DishId.create();
-        Dish existingDish = createRealDish(existingDishId, "Concept", 10.0, DishStatus.CONCEPT);
+        Dish existingDish = createRealDish(existingDishId, "Concept", Money.ofCents(1000), DishStatus.CONCEPT);
         menu.addDish(existingDish);
 
         DishId nonExistentDishId = DishId.create();
@@ -231,13 +232,13 @@ class MenuTest {
 
         for (int i = 0; i < 5; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Active " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Active " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         for (int i = 0; i < 3; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Concept " + i, 15.0 + i, DishStatus.CONCEPT);
+            Dish dish = createRealDish(dishId, "Concept " + i, Money.ofCents(1500 + i * 100L), DishStatus.CONCEPT);
             menu.addDish(dish);
         }
 
@@ -253,13 +254,13 @@ class MenuTest {
 
         for (int i = 0; i < 8; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Active " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Active " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         for (int i = 0; i < 3; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Concept " + i, 15.0 + i, DishStatus.CONCEPT);
+            Dish dish = createRealDish(dishId, "Concept " + i, Money.ofCents(1500 + i * 100L), DishStatus.CONCEPT);
             menu.addDish(dish);
         }
 
@@ -270,7 +271,7 @@ class MenuTest {
     void shouldDoNothingWhenPublishingEmptyConceptList() {
         Menu menu = new Menu();
         DishId activeDishId = DishId.create();
-        Dish activeDish = createRealDish(activeDishId, "Active", 10.0, DishStatus.AVAILABLE);
+        Dish activeDish = createRealDish(activeDishId, "Active", Money.ofCents(1000), DishStatus.AVAILABLE);
         menu.addDish(activeDish);
 
         menu.publishAllConceptDishes();
@@ -285,9 +286,9 @@ class MenuTest {
         DishId activeDishId2 = DishId.create();
         DishId conceptDishId = DishId.create();
 
-        Dish activeDish1 = createRealDish(activeDishId1, "Active 1", 10.0, DishStatus.AVAILABLE);
-        Dish activeDish2 = createRealDish(activeDishId2, "Active 2", 12.0, DishStatus.AVAILABLE);
-        Dish conceptDish = createRealDish(conceptDishId, "Concept", 15.0, DishStatus.CONCEPT);
+        Dish activeDish1 = createRealDish(activeDishId1, "Active 1", Money.ofCents(1000), DishStatus.AVAILABLE);
+        Dish activeDish2 = createRealDish(activeDishId2, "Active 2", Money.ofCents(1200), DishStatus.AVAILABLE);
+        Dish conceptDish = createRealDish(conceptDishId, "Concept", Money.ofCents(1500), DishStatus.CONCEPT);
 
         Menu menu = new Menu();
         menu.addDish(activeDish1);
@@ -307,8 +308,8 @@ class MenuTest {
         DishId activeDishId = DishId.create();
         DishId conceptDishId = DishId.create();
 
-        Dish activeDish = createRealDish(activeDishId, "Active", 10.0, DishStatus.AVAILABLE);
-        Dish conceptDish = createRealDish(conceptDishId, "Concept", 15.0, DishStatus.CONCEPT);
+        Dish activeDish = createRealDish(activeDishId, "Active", Money.ofCents(1000), DishStatus.AVAILABLE);
+        Dish conceptDish = createRealDish(conceptDishId, "Concept", Money.ofCents(1500), DishStatus.CONCEPT);
 
         Menu menu = new Menu();
         menu.addDish(activeDish);
@@ -325,7 +326,7 @@ class MenuTest {
     void shouldThrowWhenDemotingNonExistentDish() {
         Menu menu = new Menu();
         DishId existingDishId = DishId.create();
-        Dish existingDish = createRealDish(existingDishId, "Active", 10.0, DishStatus.AVAILABLE);
+        Dish existingDish = createRealDish(existingDishId, "Active", Money.ofCents(1000), DishStatus.AVAILABLE);
         menu.addDish(existingDish);
 
         DishId nonExistentDishId = DishId.create();
@@ -337,8 +338,8 @@ class MenuTest {
     @Test
     void shouldUpdateExistingDish() {
         DishId dishId = DishId.create();
-        Dish originalDish = createRealDish(dishId, "Original", 10.0, DishStatus.CONCEPT);
-        Dish updatedDish = createRealDish(dishId, "Updated", 15.0, DishStatus.AVAILABLE);
+        Dish originalDish = createRealDish(dishId, "Original", Money.ofCents(1000), DishStatus.CONCEPT);
+        Dish updatedDish = createRealDish(dishId, "Updated", Money.ofCents(1500), DishStatus.AVAILABLE);
 
         Menu menu = new Menu();
         menu.addDish(originalDish);
@@ -353,7 +354,7 @@ class MenuTest {
     void shouldThrowWhenUpdatingNonExistentDish() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish dish = createRealDish(dishId, "Dish", 10.0, DishStatus.AVAILABLE);
+        Dish dish = createRealDish(dishId, "Dish", Money.ofCents(1000), DishStatus.AVAILABLE);
 
         assertThrows(NoSuchElementException.class, () -> menu.updateDish(dish));
     }
@@ -364,15 +365,15 @@ class MenuTest {
 
         for (int i = 0; i < 10; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Active " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Active " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         DishId conceptDishId = DishId.create();
-        Dish conceptDish = createRealDish(conceptDishId, "Concept", 15.0, DishStatus.CONCEPT);
+        Dish conceptDish = createRealDish(conceptDishId, "Concept", Money.ofCents(1500), DishStatus.CONCEPT);
         menu.addDish(conceptDish);
 
-        Dish updatedDish = createRealDish(conceptDishId, "Updated Concept", 20.0, DishStatus.AVAILABLE);
+        Dish updatedDish = createRealDish(conceptDishId, "Updated Concept", Money.ofCents(2000), DishStatus.AVAILABLE);
 
         assertThrows(IllegalStateException.class, () -> menu.updateDish(updatedDish));
     }
@@ -383,15 +384,15 @@ class MenuTest {
 
         for (int i = 0; i < 10; i++) {
             DishId dishId = DishId.create();
-            Dish dish = createRealDish(dishId, "Active " + i, 10.0 + i, DishStatus.AVAILABLE);
+            Dish dish = createRealDish(dishId, "Active " + i, Money.ofCents(1000 + i * 100L), DishStatus.AVAILABLE);
             menu.addDish(dish);
         }
 
         DishId conceptDishId = DishId.create();
-        Dish conceptDish = createRealDish(conceptDishId, "Concept", 15.0, DishStatus.CONCEPT);
+        Dish conceptDish = createRealDish(conceptDishId, "Concept", Money.ofCents(1500), DishStatus.CONCEPT);
         menu.addDish(conceptDish);
 
-        Dish updatedDish = createRealDish(conceptDishId, "Updated Concept", 20.0, DishStatus.CONCEPT);
+        Dish updatedDish = createRealDish(conceptDishId, "Updated Concept", Money.ofCents(2000), DishStatus.CONCEPT);
 
         menu.updateDish(updatedDish);
 
@@ -403,8 +404,8 @@ class MenuTest {
     void shouldAllowUpdatingActiveDishThatRemainsActive() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish originalDish = createRealDish(dishId, "Original", 10.0, DishStatus.AVAILABLE);
-        Dish updatedDish = createRealDish(dishId, "Updated", 15.0, DishStatus.AVAILABLE);
+        Dish originalDish = createRealDish(dishId, "Original", Money.ofCents(1000), DishStatus.AVAILABLE);
+        Dish updatedDish = createRealDish(dishId, "Updated", Money.ofCents(1500), DishStatus.AVAILABLE);
 
         menu.addDish(originalDish);
 
@@ -417,7 +418,7 @@ class MenuTest {
     void shouldReturnUnmodifiableDishList() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish dish = createRealDish(dishId, "Dish", 10.0, DishStatus.AVAILABLE);
+        Dish dish = createRealDish(dishId, "Dish", Money.ofCents(1000), DishStatus.AVAILABLE);
         menu.addDish(dish);
 
         List<Dish> dishes = menu.getDishes();
@@ -428,9 +429,9 @@ class MenuTest {
     @Test
     void shouldFilterConceptDishes() {
         Menu menu = new Menu();
-        Dish conceptDish = createRealDish(DishId.create(), "Concept", 10.0, DishStatus.CONCEPT);
-        Dish availableDish = createRealDish(DishId.create(), "Available", 12.0, DishStatus.AVAILABLE);
-        Dish soldOutDish = createRealDish(DishId.create(), "Sold Out", 15.0, DishStatus.SOLD_OUT);
+        Dish conceptDish = createRealDish(DishId.create(), "Concept", Money.ofCents(1000), DishStatus.CONCEPT);
+        Dish availableDish = createRealDish(DishId.create(), "Available", Money.ofCents(1200), DishStatus.AVAILABLE);
+        Dish soldOutDish = createRealDish(DishId.create(), "Sold Out", Money.ofCents(1500), DishStatus.SOLD_OUT);
 
         menu.addDish(conceptDish);
         menu.addDish(availableDish);
@@ -444,51 +445,70 @@ class MenuTest {
     @Test
     void shouldCalculateAveragePriceOfActiveDishes() {
         Menu menu = new Menu();
-        menu.addDish(createRealDish(DishId.create(), "Dish 1", 10.0, DishStatus.AVAILABLE));
-        menu.addDish(createRealDish(DishId.create(), "Dish 2", 20.0, DishStatus.AVAILABLE));
-        menu.addDish(createRealDish(DishId.create(), "Concept", 50.0, DishStatus.CONCEPT));
-        menu.addDish(createRealDish(DishId.create(), "Sold Out", 100.0, DishStatus.SOLD_OUT));
+        menu.addDish(createRealDish(DishId.create(), "Dish 1", Money.ofCents(1000), DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(DishId.create(), "Dish 2", Money.ofCents(2000), DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(DishId.create(), "Concept", Money.ofCents(5000), DishStatus.CONCEPT));
+        menu.addDish(createRealDish(DishId.create(), "Sold Out", Money.ofCents(10000), DishStatus.SOLD_OUT));
 
-        double average = menu.calculateAveragePrice();
+        Money average = menu.calculateAveragePrice();
 
-        assertThat(average).isEqualTo(15.0);
+        assertThat(average).isEqualTo(Money.ofCents(1500));
     }
 
     @Test
     void shouldReturnZeroWhenNoActiveDishes() {
         Menu menu = new Menu();
-        menu.addDish(createRealDish(DishId.create(), "Concept", 10.0, DishStatus.CONCEPT));
-        menu.addDish(createRealDish(DishId.create(), "Sold Out", 20.0, DishStatus.SOLD_OUT));
+        menu.addDish(createRealDish(DishId.create(), "Concept", Money.ofCents(1000), DishStatus.CONCEPT));
+        menu.addDish(createRealDish(DishId.create(), "Sold Out", Money.ofCents(2000), DishStatus.SOLD_OUT));
 
-        double average = menu.calculateAveragePrice();
+        Money average = menu.calculateAveragePrice();
 
-        assertThat(average).isEqualTo(0.0);
+        assertThat(average).isEqualTo(Money.ZERO);
     }
 
     @Test
     void shouldReturnZeroWhenMenuIsEmpty() {
         Menu menu = new Menu();
 
-        double average = menu.calculateAveragePrice();
+        Money average = menu.calculateAveragePrice();
 
-        assertThat(average).isEqualTo(0.0);
+        assertThat(average).isEqualTo(Money.ZERO);
     }
 
     @Test
     void shouldHandleSingleActiveDish() {
         Menu menu = new Menu();
-        menu.addDish(createRealDish(DishId.create(), "Single Dish", 25.5, DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(DishId.create(), "Single Dish", Money.ofCents(2550), DishStatus.AVAILABLE));
 
-        double average = menu.calculateAveragePrice();
+        Money average = menu.calculateAveragePrice();
 
-        assertThat(average).isEqualTo(25.5);
+        assertThat(average).isEqualTo(Money.ofCents(2550));
+    }
+
+    @Test
+    void shouldRoundAveragePriceHalfUpToWholeCents() {
+        Menu menu = new Menu();
+        menu.addDish(createRealDish(DishId.create(), "Dish 1", Money.ofCents(1000), DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(DishId.create(), "Dish 2", Money.ofCents(1001), DishStatus.AVAILABLE));
+
+        Money average = menu.calculateAveragePrice();
+
+        assertThat(average).isEqualTo(Money.ofCents(1001));
+    }
+
+    @Test
+    void shouldPickPriceTierFromTheAverageInCents() {
+        Menu menu = new Menu();
+        menu.addDish(createRealDish(DishId.create(), "Dish", Money.ofCents(1001), DishStatus.AVAILABLE));
+
+        assertThat(menu.getPriceIndicator()).isEqualTo("€€");
     }
 
     @Test
     void shouldReturnPriceIndicator() {
         Menu menu = new Menu();
-        menu.addDish(createRealDish(DishId.create(), "Dish 1", 10.0, DishStatus.AVAILABLE));
-        menu.addDish(createRealDish(DishId.create(), "Dish 2", 20.0, DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(DishId.create(), "Dish 1", Money.ofCents(1000), DishStatus.AVAILABLE));
+        menu.addDish(createRealDish(DishId.create(), "Dish 2", Money.ofCents(2000), DishStatus.AVAILABLE));
 
         String indicator = menu.getPriceIndicator();
 
@@ -512,9 +532,9 @@ class MenuTest {
         DishId dish2 = DishId.create();
         DishId dish3 = DishId.create();
 
-        Dish d1 = createRealDish(dish1, "Dish 1", 10.0, DishStatus.CONCEPT);
-        Dish d2 = createRealDish(dish2, "Dish 2", 15.0, DishStatus.AVAILABLE);
-        Dish d3 = createRealDish(dish3, "Dish 3", 20.0, DishStatus.CONCEPT);
+        Dish d1 = createRealDish(dish1, "Dish 1", Money.ofCents(1000), DishStatus.CONCEPT);
+        Dish d2 = createRealDish(dish2, "Dish 2", Money.ofCents(1500), DishStatus.AVAILABLE);
+        Dish d3 = createRealDish(dish3, "Dish 3", Money.ofCents(2000), DishStatus.CONCEPT);
 
         menu.addDish(d1);
         menu.addDish(d2);
@@ -533,7 +553,7 @@ class MenuTest {
     void shouldHandleDuplicateDishIdsInPromotionList() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish dish = createRealDish(dishId, "Concept Dish", 10.0, DishStatus.CONCEPT);
+        Dish dish = createRealDish(dishId, "Concept Dish", Money.ofCents(1000), DishStatus.CONCEPT);
         menu.addDish(dish);
 
         menu.promoteConceptsToActive(List.of(dishId, dishId));
@@ -545,7 +565,7 @@ class MenuTest {
     @Test
     void shouldHandleEmptyIdListInPromotion() {
         Menu menu = new Menu();
-        Dish dish = createRealDish(DishId.create(), "Concept", 10.0, DishStatus.CONCEPT);
+        Dish dish = createRealDish(DishId.create(), "Concept", Money.ofCents(1000), DishStatus.CONCEPT);
         menu.addDish(dish);
 
         menu.promoteConceptsToActive(List.of());
@@ -557,7 +577,7 @@ class MenuTest {
     void shouldHandleNullInUpdateDish() {
         Menu menu = new Menu();
         DishId dishId = DishId.create();
-        Dish dish = createRealDish(dishId, "Dish", 10.0, DishStatus.AVAILABLE);
+        Dish dish = createRealDish(dishId, "Dish", Money.ofCents(1000), DishStatus.AVAILABLE);
         menu.addDish(dish);
 
         assertThrows(NullPointerException.class, () -> menu.updateDish(null));
@@ -1,6 +1,7 @@
 package be.kdg.sa.backend.domain.restaurant;
 
 import be.kdg.sa.backend.domain.Address;
+import be.kdg.sa.backend.domain.Money;
 import be.kdg.sa.backend.domain.owner.OwnerId;
 import be.kdg.sa.backend.domain.restaurant.dish.Dish;
 import be.kdg.sa.backend.domain.restaurant.dish.DishCategory;
@@ -80,7 +81,7 @@ class RestaurantTest {
     void shouldAddDishToMenu() {
         Restaurant restaurant = createBasicRestaurant();
 
-        Dish dish = restaurant.addDish("Pizza Margherita", "Classic tomato and mozzarella", 12.50,
+        Dish dish = restaurant.addDish("Pizza Margherita", "Classic tomato and mozzarella", Money.ofCents(1250),
                 true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         assertThat(dish).isNotNull();
@@ -129,15 +130,15 @@ class RestaurantTest {
     @Test
     void shouldChangeDishDetails() {
         Restaurant restaurant = createBasicRestaurant();
-        Dish dish = restaurant.addDish("Pizza", "Original pizza", 10.0,
+        Dish dish = restaurant.addDish("Pizza", "Original pizza", Money.ofCents(1000),
                 true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
-        Dish updatedDish = restaurant.changeDish(dish.getId(), "Updated Pizza", "New description", 15.0,
+        Dish updatedDish = restaurant.changeDish(dish.getId(), "Updated Pizza", "New description", Money.ofCents(1500),
                 false, false, true, DishCategory.MAIN, DishStatus.SOLD_OUT);
 
         assertThat(updatedDish.getName()).isEqualTo("Updated Pizza");
         assertThat(updatedDish.getDescription()).isEqualTo("New description");
-        assertThat(updatedDish.getPrice()).isEqualTo(15.0);
+        assertThat(updatedDish.getPrice()).isEqualTo(Money.ofCents(1500));
         assertThat(updatedDish.isVegetarian()).isFalse();
         assertThat(updatedDish.isGlutenFree()).isTrue();
         assertThat(updatedDish.getStatus()).isEqualTo(DishStatus.SOLD_OUT);
@@ -146,7 +147,7 @@ class RestaurantTest {
     @Test
     void shouldRemoveDishFromMenu() {
         Restaurant restaurant = createBasicRestaurant();
-        Dish dish = restaurant.addDish("Pizza", "Test pizza", 10.0,
+        Dish dish = restaurant.addDish("Pizza", "Test pizza", Money.ofCents(1000),
                 true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         restaurant.removeDish(dish.getId());
@@ -160,7 +161,7 @@ class RestaurantTest {
         DishId nonExistentId = DishId.create();
 
         assertThrows(IllegalArgumentException.class,
-                () -> restaurant.changeDish(nonExistentId, "Name", "Desc", 10.0,
+                () -> restaurant.changeDish(nonExistentId, "Name", "Desc", Money.ofCents(1000),
                         true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE));
     }
 
@@ -176,7 +177,7 @@ class RestaurantTest {
     @Test
     void shouldChangeDishStatus() {
         Restaurant restaurant = createBasicRestaurant();
-        Dish dish = restaurant.addDish("Pizza", "Test pizza", 10.0,
+        Dish dish = restaurant.addDish("Pizza", "Test pizza", Money.ofCents(1000),
                 true, false, false, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         Dish updatedDish = restaurant.changeDishStatus(dish.getId(), DishStatus.SOLD_OUT);
@@ -187,7 +188,7 @@ class RestaurantTest {
     @Test
     void shouldPublishAllConceptDishes() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Concept Dish", "Test concept", 10.0,
+        restaurant.addDish("Concept Dish", "Test concept", Money.ofCents(1000),
                 true, false, false, DishCategory.MAIN, DishStatus.CONCEPT);
 
         restaurant.publishAllConceptDishes();
@@ -200,11 +201,11 @@ class RestaurantTest {
     @Test
     void shouldGetNonConceptDishes() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Available Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Available Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
-        restaurant.addDish("Concept Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Concept Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.CONCEPT);
-        restaurant.addDish("Sold Out Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Sold Out Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.SOLD_OUT);
 
         List<Dish> nonConceptDishes = restaurant.getNonConceptDishes();
@@ -216,29 +217,29 @@ class RestaurantTest {
     @Test
     void shouldCalculateAveragePrice() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Dish 1", "Test", 10.0, true, false, false,
+        restaurant.addDish("Dish 1", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
-        restaurant.addDish("Dish 2", "Test", 20.0, true, false, false,
+        restaurant.addDish("Dish 2", "Test", Money.ofCents(2000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
 
-        double averagePrice = restaurant.getAveragePrice();
+        Money averagePrice = restaurant.getAveragePrice();
 
-        assertThat(averagePrice).isEqualTo(15.0);
+        assertThat(averagePrice).isEqualTo(Money.ofCents(1500));
     }
 
     @Test
     void shouldReturnZeroAveragePriceWhenNoDishes() {
         Restaurant restaurant = createBasicRestaurant();
-        double averagePrice = restaurant.getAveragePrice();
-        assertThat(averagePrice).isEqualTo(0.0);
+        Money averagePrice = restaurant.getAveragePrice();
+        assertThat(averagePrice).isEqualTo(Money.ZERO);
     }
 
     @Test
     void shouldGetPriceIndicator() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Dish 1", "Test", 10.0, true, false, false,
+        restaurant.addDish("Dish 1", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
-        restaurant.addDish("Dish 2", "Test", 20.0, true, false, false,
+        restaurant.addDish("Dish 2", "Test", Money.ofCents(2000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
 
         String priceIndicator = restaurant.getPriceIndicator();
@@ -369,7 +370,7 @@ class RestaurantTest {
         restaurant.changeCuisineType("Fusion");
         restaurant.updateLogo("new-logo.png");
         restaurant.updateOpeningHours(createTestOpeningHours());
-        Dish dish = restaurant.addDish("New Dish", "Description", 15.0,
+        Dish dish = restaurant.addDish("New Dish", "Description", Money.ofCents(1500),
                 true, true, true, DishCategory.MAIN, DishStatus.AVAILABLE);
         restaurant.changeDishStatus(dish.getId(), DishStatus.SOLD_OUT);
 
@@ -384,39 +385,39 @@ class RestaurantTest {
     @Test
     void shouldCalculateAveragePriceWithMixedStatusDishes() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Available Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Available Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
-        restaurant.addDish("Concept Dish", "Test", 20.0, true, false, false,
+        restaurant.addDish("Concept Dish", "Test", Money.ofCents(2000), true, false, false,
                 DishCategory.MAIN, DishStatus.CONCEPT);
-        restaurant.addDish("Sold Out Dish", "Test", 30.0, true, false, false,
+        restaurant.addDish("Sold Out Dish", "Test", Money.ofCents(3000), true, false, false,
                 DishCategory.MAIN, DishStatus.SOLD_OUT);
 
-        double averagePrice = restaurant.getAveragePrice();
+        Money averagePrice = restaurant.getAveragePrice();
 
-        assertThat(averagePrice).isEqualTo(10.0);
+        assertThat(averagePrice).isEqualTo(Money.ofCents(1000));
     }
 
     @Test
     void shouldCalculateAveragePriceWithNoAvailableDishes() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Concept Dish", "Test", 20.0, true, false, false,
+        restaurant.addDish("Concept Dish", "Test", Money.ofCents(2000), true, false, false,
                 DishCategory.MAIN, DishStatus.CONCEPT);
-        restaurant.addDish("Sold Out Dish", "Test", 30.0, true, false, false,
+        restaurant.addDish("Sold Out Dish", "Test", Money.ofCents(3000), true, false, false,
                 DishCategory.MAIN, DishStatus.SOLD_OUT);
 
-        double averagePrice = restaurant.getAveragePrice();
+        Money averagePrice = restaurant.getAveragePrice();
 
-        assertThat(averagePrice).isEqualTo(0.0);
+        assertThat(averagePrice).isEqualTo(Money.ZERO);
     }
 
     @Test
     void shouldGetNonConceptDishesIncludingSoldOut() {
         Restaurant restaurant = createBasicRestaurant();
-        restaurant.addDish("Available Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Available Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
-        restaurant.addDish("Concept Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Concept Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.CONCEPT);
-        restaurant.addDish("Sold Out Dish", "Test", 10.0, true, false, false,
+        restaurant.addDish("Sold Out Dish", "Test", Money.ofCents(1000), true, false, false,
                 DishCategory.MAIN, DishStatus.SOLD_OUT);
 
         List<Dish> nonConceptDishes = restaurant.getNonConceptDishes();
@@ -430,7 +431,7 @@ class RestaurantTest {
     @Test
     void shouldHandleAllDishStatusTransitions() {
         Restaurant restaurant = createBasicRestaurant();
-        Dish dish = restaurant.addDish("Test Dish", "Description", 10.0,
+        Dish dish = restaurant.addDish("Test Dish", "Description", Money.ofCents(1000),
                 true, false, false, DishCategory.MAIN, DishStatus.CONCEPT);
 
         restaurant.changeDishStatus(dish.getId(), DishStatus.AVAILABLE);
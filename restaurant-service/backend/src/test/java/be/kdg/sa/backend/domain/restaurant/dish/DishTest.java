@@ -1,5 +1,7 @@
 package be.kdg.sa.backend.domain.restaurant.dish;
 
+import be.kdg.sa.backend.domain.Money;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,7 +22,7 @@ class DishTest {
                 DishId.create(),
                 "Pasta Carbonara",
                 "Creamy pasta with bacon",
-                12.50,
+                Money.ofCents(1250),
                 false,
                 false,
                 false,
@@ -36,13 +38,13 @@ class DishTest {
         DishId dishId = DishId.create();
 
 
-        Dish dish = new Dish(dishId, "Pizza", "Delicious pizza", 15.99,
+        Dish dish = new Dish(dishId, "Pizza", "Delicious pizza", Money.ofCents(1599),
                 true, false, true, DishCategory.MAIN, DishStatus.AVAILABLE);
 
         assertThat(dish.getId()).isEqualTo(dishId);
         assertThat(dish.getName()).isEqualTo("Pizza");
         assertThat(dish.getDescription()).isEqualTo("Delicious pizza");
-        assertThat(dish.getPrice()).isEqualTo(15.99);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(1599));
         assertThat(dish.isVegetarian()).isTrue();
         assertThat(dish.isVegan()).isFalse();
         assertThat(dish.isGlutenFree()).isTrue();
@@ -54,7 +56,7 @@ class DishTest {
     @Test
     void shouldCreateDishWithNullDescription() {
 
-        Dish dish = new Dish(DishId.create(), "Pizza", null, 15.99,
+        Dish dish = new Dish(DishId.create(), "Pizza", null, Money.ofCents(1599),
                 false, false, false, DishCategory.MAIN, DishStatus.CONCEPT);
 
         assertThat(dish.getDescription()).isNull();
@@ -114,10 +116,10 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.changePrice(14.99);
+        dish.changePrice(Money.ofCents(1499));
 
 
-        assertThat(dish.getPrice()).isEqualTo(14.99);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(1499));
     }
 
     @Test
@@ -126,10 +128,10 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.changePrice(0.0);
+        dish.changePrice(Money.ZERO);
 
 
-        assertThat(dish.getPrice()).isEqualTo(0.0);
+        assertThat(dish.getPrice()).isEqualTo(Money.ZERO);
     }
 
     @Test
@@ -138,10 +140,10 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.changePrice(-5.0);
+        dish.changePrice(Money.ofCents(-500));
 
 
-        assertThat(dish.getPrice()).isEqualTo(-5.0);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(-500));
     }
 
 
@@ -274,13 +276,13 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.updateDetails("New Name", "New Desc", 20.99, true, true, true,
+        dish.updateDetails("New Name", "New Desc", Money.ofCents(2099), true, true, true,
                 DishCategory.DESSERT, DishStatus.AVAILABLE);
 
 
         assertThat(dish.getName()).isEqualTo("New Name");
         assertThat(dish.getDescription()).isEqualTo("New Desc");
-        assertThat(dish.getPrice()).isEqualTo(20.99);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(2099));
         assertThat(dish.isVegetarian()).isTrue();
         assertThat(dish.isVegan()).isTrue();
         assertThat(dish.isGlutenFree()).isTrue();
@@ -294,7 +296,7 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.updateDetails("New Name", null, 20.99, true, false, true,
+        dish.updateDetails("New Name", null, Money.ofCents(2099), true, false, true,
                 DishCategory.MAIN, DishStatus.AVAILABLE);
 
 
@@ -442,7 +444,7 @@ class DishTest {
     void shouldApplyPendingChangesWhenUpdateIsDue() {
 
         Dish dish = createBasicDish();
-        DishPendingUpdate update = new DishPendingUpdate("New Name", "New Desc", 15.99, null, null, null, null, null,
+        DishPendingUpdate update = new DishPendingUpdate("New Name", "New Desc", Money.ofCents(1599), null, null, null, null, null,
                 LocalDateTime.now().minusMinutes(1));
         dish.scheduleUpdate(update);
 
@@ -452,7 +454,7 @@ class DishTest {
 
         assertThat(dish.getName()).isEqualTo("New Name");
         assertThat(dish.getDescription()).isEqualTo("New Desc");
-        assertThat(dish.getPrice()).isEqualTo(15.99);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(1599));
         assertThat(dish.getPendingUpdate()).isNull();
     }
 
@@ -488,14 +490,14 @@ class DishTest {
     void shouldApplyPartialUpdateWithNullFields() {
 
         Dish dish = createBasicDish();
-        DishPendingUpdate update = new DishPendingUpdate("New Name", null, 20.0, null, null, null, null, null, null);
+        DishPendingUpdate update = new DishPendingUpdate("New Name", null, Money.ofCents(2000), null, null, null, null, null, null);
 
 
         dish.scheduleOrApplyUpdate(update);
 
 
         assertThat(dish.getName()).isEqualTo("New Name");
-        assertThat(dish.getPrice()).isEqualTo(20.0);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(2000));
         assertThat(dish.getDescription()).isEqualTo("Creamy pasta with bacon");
         assertThat(dish.isVegetarian()).isFalse();
     }
@@ -546,7 +548,7 @@ class DishTest {
 
         assertThat(dish.getName()).isEqualTo("Pasta Carbonara");
         assertThat(dish.getDescription()).isEqualTo("Creamy pasta with bacon");
-        assertThat(dish.getPrice()).isEqualTo(12.50);
+        assertThat(dish.getPrice()).isEqualTo(Money.ofCents(1250));
     }
 
     @ParameterizedTest
@@ -556,7 +558,7 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.updateDetails("Test", "Test", 10.0, false, false, false, category, DishStatus.AVAILABLE);
+        dish.updateDetails("Test", "Test", Money.ofCents(1000), false, false, false, category, DishStatus.AVAILABLE);
 
 
         assertThat(dish.getCategory()).isEqualTo(category);
@@ -569,7 +571,7 @@ class DishTest {
         Dish dish = createBasicDish();
 
 
-        dish.updateDetails("Test", "Test", 10.0, false, false, false, DishCategory.MAIN, status);
+        dish.updateDetails("Test", "Test", Money.ofCents(1000), false, false, false, DishCategory.MAIN, status);
 
 
         assertThat(dish.getStatus()).isEqualTo(status);